@@ -0,0 +1,327 @@
+package com.bitbybit.analytics;
+
+import com.bitbybit.logging.GameEvent;
+import com.bitbybit.logging.GameObserver;
+import com.bitbybit.logging.QuestionAnsweredEvent;
+import com.bitbybit.model.Player;
+import com.bitbybit.model.Question;
+import com.bitbybit.model.QuestionBank;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimates how hard questions really are from the stream of answers, so that authored values
+ * can be checked and corrected. Questions and players each have an Elo rating: a correct
+ * answer moves the player up and the question down in proportion to how surprising it was,
+ * and a wrong answer does the opposite. Each answer is one O(1) update of two hash map
+ * entries, cheap enough to run inline as an observer.
+ *
+ * <p>Ratings change quickly while a question has few answers and settle as answers accumulate:
+ * the update step shrinks from 64 to 8 rating points as the answer count grows.
+ *
+ * <p>Questions are rated by their {@link Question#getContentHash() content hash} rather than
+ * their ID: loaders derive IDs from a question's position in its file, so IDs repeat across
+ * files and can even collide within one, while the hash identifies the same question in every
+ * session. Players are rated by name, except those with a {@link Player#isDefaultName(String)
+ * default name}, who may be different people in every game: they are treated as
+ * {@link #INITIAL_RATING} players and their answers only move the question.
+ *
+ * <p>Ratings can be saved with {@link #writeTo(OutputStream)} in a small binary format: the
+ * magic number {@code "JCAL"}, a format version, then the question and player entries.
+ * {@link #suggestValue(Question, int[])} and {@link #calibrate(QuestionBank, int[])} turn
+ * ratings back into board values.
+ *
+ * <p>The calibrator is thread-safe; updates and reads are synchronized.
+ */
+public class DifficultyCalibrator implements GameObserver {
+    /**
+     * The rating of a question or player before any answers.
+     */
+    public static final double INITIAL_RATING = 1500;
+
+    /**
+     * The number of answers a question needs before its value is recalibrated.
+     */
+    public static final int DEFAULT_MIN_ANSWERS = 10;
+
+    private static final double MAX_STEP = 64;
+    private static final double MIN_STEP = 8;
+    private static final double STEP_DECAY_ANSWERS = 10;
+    private static final double ELO_SCALE = Math.log(10) / 400;
+    private static final int MAGIC = 0x4A43414C; // "JCAL"
+    // version 1 keyed questions by ID
+    private static final int VERSION = 2;
+
+    private final Map<Long, Rating> questions = new HashMap<>();
+    private final Map<String, Rating> players = new HashMap<>();
+
+    /**
+     * The rating and answer counts of one question or player.
+     */
+    private static final class Rating {
+        double rating = INITIAL_RATING;
+        int answers;
+        int correct;
+
+        double step() {
+            return Math.max(MIN_STEP, MAX_STEP / (1 + answers / STEP_DECAY_ANSWERS));
+        }
+    }
+
+    /**
+     * Updates the ratings from each {@link QuestionAnsweredEvent}; other events are ignored.
+     *
+     * @param event The game event.
+     */
+    @Override
+    public void onEvent(GameEvent event) {
+        if (event instanceof QuestionAnsweredEvent) {
+            QuestionAnsweredEvent answered = (QuestionAnsweredEvent) event;
+            record(answered.getPlayer().getName(), answered.getQuestion(), answered.isCorrect());
+        }
+    }
+
+    /**
+     * Updates the ratings of a player and a question after an answer. A player with a default
+     * name counts as {@link #INITIAL_RATING} and is not rated.
+     *
+     * @param player The player's name.
+     * @param question The question.
+     * @param correct Whether the answer was correct.
+     */
+    public synchronized void record(String player, Question question, boolean correct) {
+        Rating p = Player.isDefaultName(player) ? null : players.computeIfAbsent(player, k -> new Rating());
+        Rating q = questions.computeIfAbsent(question.getContentHash(), k -> new Rating());
+        double surprise = (correct ? 1 : 0) - expected(p == null ? INITIAL_RATING : p.rating, q.rating);
+        q.rating -= q.step() * surprise;
+        q.answers++;
+        if (correct) {
+            q.correct++;
+        }
+        if (p != null) {
+            p.rating += p.step() * surprise;
+            p.answers++;
+            if (correct) {
+                p.correct++;
+            }
+        }
+    }
+
+    /**
+     * Returns the probability that a player of a given rating answers a question of a given
+     * rating correctly.
+     *
+     * @param playerRating The player's rating.
+     * @param questionRating The question's rating.
+     * @return The expected score, between 0 and 1.
+     */
+    static double expected(double playerRating, double questionRating) {
+        return 1 / (1 + Math.exp((questionRating - playerRating) * ELO_SCALE));
+    }
+
+    /**
+     * Returns a question's rating; higher means harder.
+     *
+     * @param question The question.
+     * @return The rating, or {@link #INITIAL_RATING} if the question has no answers.
+     */
+    public synchronized double getRating(Question question) {
+        Rating q = questions.get(question.getContentHash());
+        return q == null ? INITIAL_RATING : q.rating;
+    }
+
+    /**
+     * Returns a player's rating; higher means stronger.
+     *
+     * @param player The player's name.
+     * @return The rating, or {@link #INITIAL_RATING} if the player has no answers.
+     */
+    public synchronized double getPlayerRating(String player) {
+        Rating p = players.get(player);
+        return p == null ? INITIAL_RATING : p.rating;
+    }
+
+    /**
+     * Returns the number of answers recorded for a question.
+     *
+     * @param question The question.
+     * @return The answer count.
+     */
+    public synchronized int getAnswerCount(Question question) {
+        Rating q = questions.get(question.getContentHash());
+        return q == null ? 0 : q.answers;
+    }
+
+    /**
+     * Returns the number of correct answers recorded for a question.
+     *
+     * @param question The question.
+     * @return The correct answer count.
+     */
+    public synchronized int getCorrectCount(Question question) {
+        Rating q = questions.get(question.getContentHash());
+        return q == null ? 0 : q.correct;
+    }
+
+    /**
+     * Estimates the probability that a player of the initial rating answers a question
+     * correctly.
+     *
+     * @param question The question.
+     * @return The estimated probability.
+     */
+    public double getSuccessProbability(Question question) {
+        return expected(INITIAL_RATING, getRating(question));
+    }
+
+    /**
+     * Suggests a value for a question from a ladder of board values: the harder the question
+     * is estimated to be, the higher the rung. Questions with fewer than
+     * {@link #DEFAULT_MIN_ANSWERS} answers keep their authored value.
+     *
+     * @param question The question.
+     * @param ladder The board values, in ascending order, such as {@code {100, 200, 300, 400, 500}}.
+     * @return The suggested value.
+     */
+    public int suggestValue(Question question, int[] ladder) {
+        int rung = suggestRung(question, ladder.length);
+        return rung < 0 ? question.getValue() : ladder[rung];
+    }
+
+    /**
+     * Returns a copy of a question with its value and difficulty set from its rating: the value
+     * from {@link #suggestValue(Question, int[])}, and the difficulty as the 1-based rung of that
+     * value on the ladder. Questions with too few answers are returned unchanged.
+     *
+     * @param question The question.
+     * @param ladder The board values, in ascending order.
+     * @return The recalibrated question, or the question itself.
+     */
+    public Question calibrate(Question question, int[] ladder) {
+        int rung = suggestRung(question, ladder.length);
+        if (rung < 0) {
+            return question;
+        }
+        return new Question(question.getId(), question.getCategory(), ladder[rung], question.getQuestion(),
+                question.getOptionA(), question.getOptionB(), question.getOptionC(), question.getOptionD(),
+                question.getCorrectAnswer(), question.getMediaRef(), question.getTags(), rung + 1);
+    }
+
+    /**
+     * Builds a bank with every question {@link #calibrate(Question, int[]) recalibrated},
+     * for building boards whose values reflect measured difficulty.
+     *
+     * @param bank The bank to recalibrate.
+     * @param ladder The board values, in ascending order.
+     * @return A new bank.
+     */
+    public QuestionBank calibrate(QuestionBank bank, int[] ladder) {
+        List<Question> calibrated = new ArrayList<>(bank.size());
+        for (Question question : bank.toArray()) {
+            calibrated.add(calibrate(question, ladder));
+        }
+        return new QuestionBank(calibrated);
+    }
+
+    /**
+     * Picks the ladder rung for a question.
+     *
+     * @param question The question.
+     * @param rungs The number of rungs.
+     * @return The 0-based rung, or -1 if the question has too few answers.
+     * @throws IllegalArgumentException if the ladder is empty.
+     */
+    private int suggestRung(Question question, int rungs) {
+        if (rungs == 0) {
+            throw new IllegalArgumentException("Value ladder is empty");
+        }
+        if (getAnswerCount(question) < DEFAULT_MIN_ANSWERS) {
+            return -1;
+        }
+        double failure = 1 - getSuccessProbability(question);
+        return Math.min(rungs - 1, (int) (failure * rungs));
+    }
+
+    /**
+     * Writes the ratings to a stream. The stream is not closed.
+     *
+     * @param out The stream to write to.
+     * @throws IOException if writing fails.
+     */
+    public synchronized void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(questions.size());
+        for (Map.Entry<Long, Rating> entry : questions.entrySet()) {
+            data.writeLong(entry.getKey());
+            writeRating(data, entry.getValue());
+        }
+        data.writeInt(players.size());
+        for (Map.Entry<String, Rating> entry : players.entrySet()) {
+            data.writeUTF(entry.getKey());
+            writeRating(data, entry.getValue());
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads ratings written by {@link #writeTo(OutputStream)}. The stream is not closed.
+     *
+     * @param in The stream to read from.
+     * @return A calibrator holding the ratings.
+     * @throws IOException if reading fails or the data is not in a supported format.
+     */
+    public static DifficultyCalibrator readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a difficulty calibration file");
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported difficulty calibration version " + version);
+        }
+        DifficultyCalibrator calibrator = new DifficultyCalibrator();
+        int questionCount = readCount(data);
+        for (int i = 0; i < questionCount; i++) {
+            long hash = data.readLong();
+            calibrator.questions.put(hash, readRating(data));
+        }
+        int playerCount = readCount(data);
+        for (int i = 0; i < playerCount; i++) {
+            String name = data.readUTF();
+            calibrator.players.put(name, readRating(data));
+        }
+        return calibrator;
+    }
+
+    private static void writeRating(DataOutputStream data, Rating rating) throws IOException {
+        data.writeDouble(rating.rating);
+        data.writeInt(rating.answers);
+        data.writeInt(rating.correct);
+    }
+
+    private static int readCount(DataInputStream data) throws IOException {
+        int count = data.readInt();
+        if (count < 0) {
+            throw new IOException("Corrupt difficulty calibration file");
+        }
+        return count;
+    }
+
+    private static Rating readRating(DataInputStream data) throws IOException {
+        Rating rating = new Rating();
+        rating.rating = data.readDouble();
+        rating.answers = data.readInt();
+        rating.correct = data.readInt();
+        return rating;
+    }
+}
@@ -1,12 +1,10 @@
 package com.bitbybit.game;
 
-import com.bitbybit.model.Player;
+import com.bitbybit.model.Leaderboard;
 
 import com.bitbybit.reporting.ReportGenerator;
 import com.bitbybit.reporting.ReportStrategy;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -36,14 +34,14 @@ public class FinishedState implements GameState {
     public void executeState(GameContext ctx) {
         System.out.println("Thank you for playing!");
 
-        displayFinalScores(ctx.getPlayers()); // Call to display final scores and winner
+        displayFinalScores(ctx.getLeaderboard()); // Call to display final scores and winner
 
         ReportGenerator generator = ctx.getReportGenerator();
         ReportStrategy currentStrategy = generator.getStrategy();
 
         if (currentStrategy != null) {
             String outputPath = "game_report_" + System.currentTimeMillis(); // Unique filename
-            generator.generateReport(ctx.getGameEvents(), ctx.getPlayers(), outputPath);
+            generator.generateReport(ctx.getEventStore(), ctx.getPlayers(), outputPath);
             System.out.println("Report generated successfully at: " + outputPath + "." + currentStrategy.getClass().getSimpleName().replace("ReportStrategy", "").toLowerCase());
         }
     }
@@ -60,25 +58,23 @@ public class FinishedState implements GameState {
 
     /**
      * Displays the final scores of all players and announces the winner.
-     * Players are sorted by score in descending order.
+     * Players are listed in the order of the live leaderboard, highest score first,
+     * so no sorting is needed at the end of the game.
      *
-     * @param players A list of {@link Player} objects participating in the game.
+     * @param leaderboard The {@link Leaderboard} ranking the game's players.
      */
-    private void displayFinalScores(List<Player> players) {
+    private void displayFinalScores(Leaderboard leaderboard) {
         System.out.println("\n=================================== FINAL SCORES ===========================================");
 
-        // Sort players by score (highest first)
-        List<Player> sortedPlayers = new ArrayList<>(players);
-        Collections.sort(sortedPlayers, (p1, p2) -> Integer.compare(p2.getScore(), p1.getScore()));
+        List<Leaderboard.Entry> ranking = leaderboard.getEntries();
 
-        for (int i = 0; i < sortedPlayers.size(); i++) {
-            Player player = sortedPlayers.get(i);
-            System.out.println((i + 1) + ". " + player.getName() + ": " + player.getScore());
+        for (Leaderboard.Entry entry : ranking) {
+            System.out.println(entry.getRank() + ". " + entry.getPlayer().getName() + ": " + entry.getScore());
         }
 
         // Announce winner
-        if (!sortedPlayers.isEmpty()) {
-            System.out.println("\nWinner: " + sortedPlayers.get(0).getName() + "!");
+        if (!ranking.isEmpty()) {
+            System.out.println("\nWinner: " + ranking.get(0).getPlayer().getName() + "!");
         }
     }
 }
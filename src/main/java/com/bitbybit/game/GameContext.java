@@ -3,11 +3,20 @@ package com.bitbybit.game;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
+import com.bitbybit.model.Leaderboard;
 import com.bitbybit.model.Player;
+import com.bitbybit.model.PlayerRegistry;
 import com.bitbybit.model.Question;
+import com.bitbybit.model.QuestionBank;
+import com.bitbybit.model.ScoreHistory;
+import com.bitbybit.logging.EventStore;
 import com.bitbybit.logging.GameEvent;
 import com.bitbybit.logging.ObservableGame;
 import com.bitbybit.logging.PlayerJoinedEvent;
+import com.bitbybit.logging.QuestionAnsweredEvent;
+import com.bitbybit.media.AssetStore;
+import com.bitbybit.profile.SeenQuestionStore;
+import com.bitbybit.search.QuestionIndex;
 import com.bitbybit.reporting.ReportGenerator;
 import com.bitbybit.reporting.TextReportStrategy; // Default for now
 
@@ -21,9 +30,16 @@ public class GameContext extends ObservableGame {
     private final Scanner scanner;
     private GameState state;
     private Question[] questions;
-    private final List<Player> players = new ArrayList<>();
-    private final List<GameEvent> gameEvents = new ArrayList<>();
+    private QuestionBank questionBank;
+    private QuestionIndex questionIndex;
+    private final PlayerRegistry playerRegistry = new PlayerRegistry();
+    private final Leaderboard leaderboard = new Leaderboard();
+    private final EventStore eventStore = new EventStore();
+    private final ScoreHistory scoreHistory = new ScoreHistory();
+    private int turn;
     private final ReportGenerator reportGenerator;
+    private AssetStore assetStore;
+    private SeenQuestionStore seenQuestionStore;
 
     /**
      * Constructs a new GameContext with a given initial state and a default scanner
@@ -51,22 +67,53 @@ public class GameContext extends ObservableGame {
 
     /**
      * Notifies all registered observers about a game event and collects the event.
-     * If the event is a {@link PlayerJoinedEvent}, the player is added to the list of players.
+     * If the event is a {@link PlayerJoinedEvent}, the player is first registered with the
+     * game's {@link PlayerRegistry}, which assigns its ID, and added to the live
+     * {@link Leaderboard}, so observers already see the assigned ID.
+     * Each {@link QuestionAnsweredEvent} counts as a turn, and appends the player's new score
+     * to the {@link ScoreHistory} if the answer changed it.
      *
      * @param event The {@link GameEvent} to be processed.
      */
     @Override
     public void notifyObservers(GameEvent event) {
-        super.notifyObservers(event); // Notify other observers if any
-        gameEvents.add(event); // Collect all events
         if (event instanceof PlayerJoinedEvent) {
             PlayerJoinedEvent pje = (PlayerJoinedEvent) event;
-            // Ensure we only add players once, or update if needed.
-            // For simplicity, assuming players are added once at the start.
-            if (!players.contains(pje.getPlayer())) {
-                players.add(pje.getPlayer());
+            if (!playerRegistry.contains(pje.getPlayer())) {
+                playerRegistry.register(pje.getPlayer());
+                leaderboard.add(pje.getPlayer());
+                scoreHistory.record(pje.getPlayer(), turn, pje.getPlayer().getScore());
             }
         }
+        super.notifyObservers(event); // Notify other observers if any
+        eventStore.append(event); // Collect all events
+        if (event instanceof QuestionAnsweredEvent) {
+            QuestionAnsweredEvent answered = (QuestionAnsweredEvent) event;
+            turn++;
+            Player player = answered.getPlayer();
+            ScoreHistory.Series series = scoreHistory.get(player);
+            int score = player.getScore();
+            if (series == null || series.size() == 0 || series.getLastScore() != score) {
+                scoreHistory.record(player, turn, score);
+            }
+        }
+    }
+
+    /**
+     * Prepares the context for another game, so simulation loops can reuse it instead of
+     * building a new one. The players are unregistered, which returns their IDs so they can
+     * join again, and the leaderboard, score history and collected events are cleared. The
+     * questions, bank, index, asset store, observers and scanner are kept.
+     *
+     * @param initialState The state the next game starts in.
+     */
+    public void reset(GameState initialState) {
+        this.state = initialState;
+        leaderboard.clear();
+        playerRegistry.clear();
+        eventStore.clear();
+        scoreHistory.clear();
+        turn = 0;
     }
 
     /**
@@ -103,6 +150,93 @@ public class GameContext extends ObservableGame {
      */
     public void setQuestions(Question[] questions) {
         this.questions = questions;
+        this.questionBank = null;
+        this.questionIndex = null;
+    }
+
+    /**
+     * Returns the {@link QuestionBank} the game is played from. If only a question array
+     * has been set, a bank is built from it on first use.
+     *
+     * @return The question bank, or {@code null} if no questions have been set.
+     */
+    public QuestionBank getQuestionBank() {
+        if (questionBank == null && questions != null) {
+            questionBank = QuestionBank.of(questions);
+        }
+        return questionBank;
+    }
+
+    /**
+     * Sets a shared {@link QuestionBank} for the game. The bank is used as-is, so many
+     * contexts can reference the same loaded bank without copying it.
+     *
+     * @param questionBank The question bank to play from.
+     */
+    public void setQuestionBank(QuestionBank questionBank) {
+        this.questionBank = questionBank;
+        this.questions = questionBank != null ? questionBank.toArray() : null;
+        this.questionIndex = null;
+    }
+
+    /**
+     * Returns the full-text {@link QuestionIndex} over the game's question bank, building it
+     * on first use.
+     *
+     * @return The question index, or {@code null} if no questions have been set.
+     */
+    public QuestionIndex getQuestionIndex() {
+        if (questionIndex == null && getQuestionBank() != null) {
+            questionIndex = QuestionIndex.build(questionBank);
+        }
+        return questionIndex;
+    }
+
+    /**
+     * Sets a prebuilt {@link QuestionIndex}, such as one loaded from disk alongside the bank.
+     * The index must have been built over the bank returned by {@link #getQuestionBank()}.
+     *
+     * @param questionIndex The index to use.
+     */
+    public void setQuestionIndex(QuestionIndex questionIndex) {
+        this.questionIndex = questionIndex;
+    }
+
+    /**
+     * Returns the {@link AssetStore} serving media attached to questions.
+     *
+     * @return The asset store, or {@code null} if no asset pack has been opened.
+     */
+    public AssetStore getAssetStore() {
+        return assetStore;
+    }
+
+    /**
+     * Sets the {@link AssetStore} used to serve media attached to questions.
+     *
+     * @param assetStore The asset store to use, or {@code null} to disable media.
+     */
+    public void setAssetStore(AssetStore assetStore) {
+        this.assetStore = assetStore;
+    }
+
+    /**
+     * Returns the {@link SeenQuestionStore} holding the questions each player has seen in
+     * earlier sessions.
+     *
+     * @return The store, or {@code null} if seen questions are not tracked.
+     */
+    public SeenQuestionStore getSeenQuestionStore() {
+        return seenQuestionStore;
+    }
+
+    /**
+     * Sets the {@link SeenQuestionStore} consulted when the game picks questions for players.
+     *
+     * @param seenQuestionStore The store to use, or {@code null} to ignore what players have seen.
+     */
+    public void setSeenQuestionStore(SeenQuestionStore seenQuestionStore) {
+        this.seenQuestionStore = seenQuestionStore;
     }
 
     /**
@@ -120,16 +254,57 @@ public class GameContext extends ObservableGame {
      * @return A new {@link ArrayList} containing the players.
      */
     public List<Player> getPlayers() {
-        return new ArrayList<>(players); // Return a copy to prevent external modification
+        return new ArrayList<>(playerRegistry.getPlayers()); // Return a copy to prevent external modification
+    }
+
+    /**
+     * Returns the {@link PlayerRegistry} holding the game's players, indexed by ID.
+     *
+     * @return The player registry.
+     */
+    public PlayerRegistry getPlayerRegistry() {
+        return playerRegistry;
+    }
+
+    /**
+     * Returns the live {@link Leaderboard} ranking the game's players by score.
+     * It is updated automatically whenever a player's score changes.
+     *
+     * @return The leaderboard.
+     */
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
+    }
+
+    /**
+     * Returns the {@link ScoreHistory} of each player's score. A point is stored only for a
+     * turn that changed the score; on the turns in between the score is that of the previous
+     * point.
+     *
+     * @return The score history.
+     */
+    public ScoreHistory getScoreHistory() {
+        return scoreHistory;
     }
 
     /**
-     * Returns a copy of the list of {@link GameEvent}s that have occurred during the game.
+     * Returns the {@link GameEvent}s that have occurred during the game, rebuilt from the
+     * event store.
      *
      * @return A new {@link ArrayList} containing the game events.
      */
     public List<GameEvent> getGameEvents() {
-        return new ArrayList<>(gameEvents); // Return a copy to prevent external modification
+        return eventStore.toList();
+    }
+
+    /**
+     * Returns the columnar {@link EventStore} holding the game's events, for scans that do
+     * not need event objects.
+     *
+     * @return The event store.
+     */
+    public EventStore getEventStore() {
+        return eventStore;
     }
 
     /**
@@ -1,12 +1,26 @@
 package com.bitbybit.game;
 
+import com.bitbybit.analytics.DifficultyCalibrator;
 import com.bitbybit.input.*;
 import com.bitbybit.logging.CSVLoggingObserver;
+import com.bitbybit.media.AssetStore;
+import com.bitbybit.profile.ProfileRecorder;
+import com.bitbybit.profile.ProfileStore;
+import com.bitbybit.profile.SeenQuestionRecorder;
+import com.bitbybit.profile.SeenQuestionStore;
 import com.bitbybit.reporting.ReportStrategy;
 import com.bitbybit.reporting.TextReportStrategy;
 import com.bitbybit.reporting.PdfReportStrategy;
 import com.bitbybit.reporting.DocxReportStrategy;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
 
 /**
  * The InteractiveGameRunner class is responsible for setting up and running
@@ -15,6 +29,32 @@ import com.bitbybit.reporting.DocxReportStrategy;
  */
 public class InteractiveGameRunner {
 
+    /**
+     * File name of the packed media assets looked up in the working directory.
+     */
+    private static final String ASSET_PACK_NAME = "assets.pak";
+
+    /**
+     * Directory, under the working directory, holding the players' profiles and seen-question
+     * filters.
+     */
+    private static final String PROFILES_DIR = "profiles";
+
+    /**
+     * Number of questions each player's seen-question filter is sized for.
+     */
+    private static final long SEEN_QUESTIONS_EXPECTED = 10_000;
+
+    /**
+     * False-positive rate of the seen-question filters.
+     */
+    private static final double SEEN_QUESTIONS_FPP = 0.01;
+
+    /**
+     * File name, in the working directory, of the question difficulty ratings.
+     */
+    private static final String CALIBRATION_NAME = "calibration.bin";
+
     /**
      * The main method to start the interactive Jeopardy game.
      * It sets up the question loader factory, initializes the game context
@@ -35,6 +75,33 @@ public class InteractiveGameRunner {
         GameContext context = new GameContext(intro);
         String baseDir = System.getProperty("user.dir");
         context.addObserver(new CSVLoggingObserver(baseDir));
+        // Remember what each player has answered, so auto-pick can favour questions they have not seen
+        SeenQuestionStore seenQuestions = new SeenQuestionStore(
+                Paths.get(baseDir, PROFILES_DIR), SEEN_QUESTIONS_EXPECTED, SEEN_QUESTIONS_FPP);
+        context.setSeenQuestionStore(seenQuestions);
+        context.addObserver(new SeenQuestionRecorder(seenQuestions));
+
+        // Keep lifetime stats and the global leaderboard across sessions
+        ProfileStore profiles = openProfiles(Paths.get(baseDir, PROFILES_DIR));
+        if (profiles != null) {
+            context.addObserver(new ProfileRecorder(profiles));
+        }
+
+        // Keep rating question difficulty across sessions
+        Path calibrationFile = Paths.get(baseDir, CALIBRATION_NAME);
+        DifficultyCalibrator calibrator = loadCalibrator(calibrationFile);
+        context.addObserver(calibrator);
+
+        // Map the packed media assets, if present; asset bytes are read lazily on reveal
+        Path assetPack = Paths.get(baseDir, ASSET_PACK_NAME);
+        if (Files.exists(assetPack)) {
+            try {
+                context.setAssetStore(AssetStore.open(assetPack));
+            } catch (IOException | RuntimeException e) {
+                // A corrupt pack must not stop the game; it runs without media instead
+                System.out.println("Could not open asset pack: " + e.getMessage());
+            }
+        }
 
         System.out.println("Starting interactive Jeopardy game...\n");
         context.notifyObservers(new com.bitbybit.logging.GameStartedEvent());
@@ -44,6 +111,8 @@ public class InteractiveGameRunner {
             GameState state = context.getState();
             if (state == null) {
                 System.out.println("No active state, exiting.");
+                closeProfiles(profiles);
+                closeAssets(context);
                 return;
             }
 
@@ -51,6 +120,9 @@ public class InteractiveGameRunner {
             state.executeState(context);
         }
 
+        saveCalibrator(calibrator, calibrationFile);
+        closeProfiles(profiles);
+
         // 5. Let FinishedState do its thing once
         context.getState().displayState();
 
@@ -84,6 +156,7 @@ public class InteractiveGameRunner {
             context.getState().executeState(context); // Execute FinishedState without report generation
         }
 
+        closeAssets(context);
         System.out.println("\nGame loop ended. Goodbye!");
     }
 
@@ -112,4 +185,90 @@ public class InteractiveGameRunner {
             }
         };
     }
+
+    /**
+     * Loads the question difficulty ratings saved by earlier sessions.
+     *
+     * @param file The ratings file.
+     * @return The saved ratings, or an empty calibrator if there are none or they cannot be read.
+     */
+    private static DifficultyCalibrator loadCalibrator(Path file) {
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                return DifficultyCalibrator.readFrom(in);
+            } catch (IOException e) {
+                System.out.println("Could not read difficulty ratings: " + e.getMessage());
+            }
+        }
+        return new DifficultyCalibrator();
+    }
+
+    /**
+     * Saves the question difficulty ratings for later sessions. The ratings are written to a
+     * temporary file first and then moved into place, so a crash never leaves a half-written
+     * ratings file.
+     *
+     * @param calibrator The ratings.
+     * @param file The ratings file.
+     */
+    private static void saveCalibrator(DifficultyCalibrator calibrator, Path file) {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                calibrator.writeTo(out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.out.println("Could not save difficulty ratings: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Opens the player profile store.
+     *
+     * @param directory The directory holding the profile files.
+     * @return The store, or {@code null} if it cannot be opened.
+     */
+    private static ProfileStore openProfiles(Path directory) {
+        try {
+            return ProfileStore.open(directory);
+        } catch (IOException e) {
+            System.out.println("Could not open player profiles: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Saves the player profile index and closes the store.
+     *
+     * @param profiles The store, or {@code null} if none was opened.
+     */
+    private static void closeProfiles(ProfileStore profiles) {
+        if (profiles == null) {
+            return;
+        }
+        try {
+            profiles.close();
+        } catch (IOException e) {
+            System.out.println("Could not save player profiles: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Closes the media asset store, if one was opened, and detaches it from the game.
+     *
+     * @param context The game context holding the store.
+     */
+    private static void closeAssets(GameContext context) {
+        AssetStore assets = context.getAssetStore();
+        if (assets == null) {
+            return;
+        }
+        context.setAssetStore(null);
+        try {
+            assets.close();
+        } catch (IOException e) {
+            System.out.println("Could not close asset pack: " + e.getMessage());
+        }
+    }
 }
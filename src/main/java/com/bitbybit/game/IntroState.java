@@ -64,8 +64,9 @@ public class IntroState implements GameState {
             // Store questions into context
             context.setQuestions(questions);
 
-            // Notify observer: file loaded
-            context.notifyObservers(new com.bitbybit.logging.LoadFileEvent());
+            // Notify observer: file loaded, with the loader's stage timings
+            context.notifyObservers(new com.bitbybit.logging.LoadFileEvent(
+                    filepath, questions.length, loader.getLastLoadStatistics()));
 
             // Move to PlayingState
             changeState(context);
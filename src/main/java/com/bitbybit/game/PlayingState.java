@@ -1,18 +1,29 @@
 package com.bitbybit.game;
 
+import com.bitbybit.model.CategoryKey;
+import com.bitbybit.model.Leaderboard;
 import com.bitbybit.model.Player;
 import com.bitbybit.model.Question;
+import com.bitbybit.model.QuestionBank;
 import com.bitbybit.model.QuestionBoard;
+import com.bitbybit.model.QuestionSampler;
+import com.bitbybit.model.ScoreSnapshot;
+import com.bitbybit.model.SimplePlayer;
 import com.bitbybit.logging.PlayerJoinedEvent;
 import com.bitbybit.logging.GameFinishedEvent;
 import com.bitbybit.logging.QuestionAnsweredEvent;
 import com.bitbybit.logging.SelectPlayerCountEvent;
 import com.bitbybit.logging.SelectCategoryEvent;
 import com.bitbybit.logging.SelectQuestionEvent;
+import com.bitbybit.media.AssetStore;
+import com.bitbybit.profile.SeenQuestionFilter;
+import com.bitbybit.profile.SeenQuestionStore;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.Scanner;
 
 /**
@@ -22,6 +33,13 @@ import java.util.Scanner;
  * and handles transitions to the {@link FinishedState}.
  */
 public class PlayingState implements GameState {
+    private static final int LIVE_SCORES_SHOWN = 10;
+    private static final int RANK_NEIGHBOURS_SHOWN = 2;
+    private static final String AUTO_PICK = "*";
+    // kept for players used to it; only applies when no category starts with it
+    private static final String AUTO_PICK_WORD = "auto";
+    private static final int SEEN_REDRAWS = 16;
+
     private GameContext context;
     private QuestionBoard board;
 
@@ -29,6 +47,8 @@ public class PlayingState implements GameState {
     private int currentPlayerIndex = 0;
     private Scanner scanner;
     private boolean gameActive = true;
+    private QuestionSampler autoPickSampler;
+    private final Random random = new Random();
 
     /**
      * Displays the current game state, including a "GAME IN PROGRESS" header
@@ -56,16 +76,17 @@ public class PlayingState implements GameState {
         this.context = ctx;
         this.scanner = ctx.getScanner();
 
-        // Initialize board from context questions once
-        if (board == null) {
-            Question[] qs = context.getQuestions();
-            if (qs == null || qs.length == 0) {
+        // Initialize board from context questions once; a reset board is reused for the same bank
+        QuestionBank bank = context.getQuestionBank();
+        if (board == null || board.getBank() != bank) {
+            if (bank == null || bank.size() == 0) {
                 System.out.println("No questions loaded into context!");
                 gameActive = false;
                 changeState(ctx);
                 return;
             }
-            board = new QuestionBoard(Arrays.asList(qs));
+            board = new QuestionBoard(bank);
+            autoPickSampler = null;
         }
 
         // First time setup - initialize players
@@ -89,16 +110,42 @@ public class PlayingState implements GameState {
         displayAvailableQuestions();
 
         // Player selects category and value
-        String category = promptForCategory();
-        if (category.equalsIgnoreCase("quit")) {
+        CategoryKey categoryKey = promptForCategory();
+        String category = categoryKey.toString();
+        if (category.equals("quit")) {
             gameActive = false;
             changeState(ctx);
             return;
         }
+        // Accept unique prefixes and acronyms of category names; categories take precedence
+        // over the auto-pick word, so a category such as "Automobiles" stays reachable
+        boolean pickKeyword = category.equals(AUTO_PICK);
+        CategoryKey resolved = pickKeyword ? null : board.resolveCategory(categoryKey);
+        List<String> matches = pickKeyword || resolved != null ? List.of() : board.completeCategory(categoryKey);
+        boolean autoPick = pickKeyword
+                || (category.equals(AUTO_PICK_WORD) && resolved == null && matches.isEmpty());
+        // In auto-pick mode the game draws the question, weighted by value
+        Question autoPicked = null;
+        if (autoPick) {
+            autoPicked = drawAutoPick(currentPlayer);
+            if (autoPicked == null) {
+                System.out.println("No question can be auto-picked. Choose a category.");
+                return;
+            }
+            categoryKey = autoPicked.getCategoryKey();
+            category = categoryKey.toString();
+            System.out.println("Auto-pick: " + autoPicked.getCategory() + " for " + autoPicked.getValue());
+        } else if (resolved != null) {
+            categoryKey = resolved;
+            category = categoryKey.toString();
+        } else if (matches.size() > 1) {
+            System.out.println("Did you mean: " + String.join(", ", matches) + "? Try again.");
+            return;
+        }
         // Log category selection
         context.notifyObservers(new SelectCategoryEvent(category, currentPlayer.getName()));
 
-        int value = promptForValue(category);
+        int value = autoPicked != null ? autoPicked.getValue() : promptForValue(categoryKey);
         if (value == -1) {
             System.out.println("Invalid value. Try again.");
             return;
@@ -107,13 +154,16 @@ public class PlayingState implements GameState {
         context.notifyObservers(new SelectQuestionEvent(category, value, currentPlayer.getName()));
 
         // Get the question (board handles "already answered")
-        Question question = board.getQuestion(category, value);
+        Question question = autoPicked != null ? autoPicked : board.getQuestion(categoryKey, value);
         if (question == null) {
             System.out.println("Question not found or already answered. Try again.");
             return;
         }
 
         System.out.println("\nQuestion: " + question.getQuestion());
+        if (question.hasMedia()) {
+            displayMedia(question);
+        }
         System.out.println("A) " + question.getOptionA());
         System.out.println("B) " + question.getOptionB());
         System.out.println("C) " + question.getOptionC());
@@ -135,7 +185,7 @@ public class PlayingState implements GameState {
         int runningScore = currentPlayer.getScore() + pointsEarned;
         // Update score and mark question as answered
         currentPlayer.addScore(pointsEarned);
-        board.markQuestionAsAnswered(question.getCategory(), question.getValue());
+        board.markQuestionAsAnswered(question);
         context.notifyObservers(
                 new QuestionAnsweredEvent(currentPlayer, question, correct, playerAnswer, pointsEarned, runningScore));
 
@@ -145,6 +195,7 @@ public class PlayingState implements GameState {
         } else {
             System.out.println("Incorrect. The correct answer was: " + question.getCorrectAnswer());
         }
+        displayRank(currentPlayer);
 
         // Move to next player
         currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
@@ -158,6 +209,36 @@ public class PlayingState implements GameState {
         }
     }
 
+    /**
+     * Seats players without prompting for them, for example players taken from a
+     * {@link com.bitbybit.model.PlayerPool} by a simulation. Each player joins the context as
+     * if they had been entered at the prompt.
+     *
+     * @param ctx The {@link GameContext} the players join.
+     * @param seated The players, in turn order.
+     */
+    public void seatPlayers(GameContext ctx, List<Player> seated) {
+        this.context = ctx;
+        for (Player player : seated) {
+            players.add(player);
+            ctx.notifyObservers(new PlayerJoinedEvent(player));
+        }
+    }
+
+    /**
+     * Prepares this state for another game over the same question bank. The board and its
+     * auto-pick sampler are reset in place rather than rebuilt, and the players and turn
+     * order are cleared.
+     */
+    public void reset() {
+        if (board != null) {
+            board.reset();
+        }
+        players.clear();
+        currentPlayerIndex = 0;
+        gameActive = true;
+    }
+
     /**
      * Handles state transitions. If the game is no longer active or the board is empty,
      * it transitions to the {@link FinishedState}.
@@ -168,7 +249,7 @@ public class PlayingState implements GameState {
     public void changeState(GameContext ctx) {
         if (!gameActive || (board != null && board.isBoardEmpty())) {
             ctx.setState(new FinishedState());
-            context.notifyObservers(new GameFinishedEvent());
+            context.notifyObservers(new GameFinishedEvent(ScoreSnapshot.of(players)));
         }
     }
 
@@ -198,68 +279,145 @@ public class PlayingState implements GameState {
             System.out.print("Enter name for Player " + (i + 1) + ": ");
             String name = scanner.nextLine().trim();
             if (name.isEmpty()) {
-                name = "Player " + (i + 1);
+                name = Player.defaultName(i + 1);
             }
-            players.add(new Player(name));
+            players.add(new SimplePlayer(name));
             context.notifyObservers(new PlayerJoinedEvent(players.get(i)));
         }
     }
 
     /**
-     * Displays the current scores of all players.
+     * Displays the current scores of the leading players, read from the live leaderboard.
      */
     private void displayScores() {
         System.out.println("--- LIVE SCORES ---");
-        for (Player player : players) {
-            System.out.println(player.getName() + ": " + player.getScore());
+        for (Leaderboard.Entry entry : context.getLeaderboard().getTopK(LIVE_SCORES_SHOWN)) {
+            System.out.println(entry.getRank() + ". " + entry.getPlayer().getName() + ": " + entry.getScore());
+        }
+    }
+
+    /**
+     * Displays a player's rank and the players ranked just around them.
+     * Nothing is shown in a single-player game.
+     *
+     * @param player The player whose standing to show.
+     */
+    private void displayRank(Player player) {
+        Leaderboard leaderboard = context.getLeaderboard();
+        if (leaderboard.size() < 2) {
+            return;
+        }
+        System.out.println(player.getName() + " is ranked " + leaderboard.getRank(player) + " of " + leaderboard.size() + ".");
+        for (Leaderboard.Entry entry : leaderboard.getAround(player, RANK_NEIGHBOURS_SHOWN)) {
+            String marker = entry.getPlayer() == player ? " <" : "";
+            System.out.println("  " + entry.getRank() + ". " + entry.getPlayer().getName() + ": " + entry.getScore() + marker);
         }
     }
 
     /**
      * Displays the categories and their available question values on the board.
+     * The text comes pre-rendered from the board's cached snapshot, which is only
+     * rebuilt after a question has been answered.
      */
     private void displayAvailableQuestions() {
-        System.out.println("\nAvailable Categories:");
-
-        for (String category : board.getCategories()) {
-            System.out.print("- " + category + " (Values: ");
+        System.out.print(board.getSnapshot().getText());
+    }
 
-            // Pass the original category name to getAvailableValues, which will normalize it internally
-            List<Integer> availableValues = board.getAvailableValues(category);
-            for (int i = 0; i < availableValues.size(); i++) {
-                System.out.print(availableValues.get(i));
-                if (i < availableValues.size() - 1) {
-                    System.out.print(", ");
-                }
-            }
-            System.out.println(")");
+    /**
+     * Shows the media attached to a question. The asset bytes are fetched from the
+     * context's {@link AssetStore} only now, when the question is revealed.
+     *
+     * @param question The {@link Question} being revealed.
+     */
+    private void displayMedia(Question question) {
+        AssetStore store = context.getAssetStore();
+        ByteBuffer asset = store != null ? store.getAsset(question.getMediaRef()) : null;
+        if (asset != null) {
+            System.out.println("[Media: " + question.getMediaRef() + " (" + asset.remaining() + " bytes)]");
+        } else {
+            System.out.println("[Media: " + question.getMediaRef() + " (not available)]");
         }
     }
 
     /**
      * Prompts the current player to select a category.
+     * The input is normalized once into a {@link CategoryKey}, which makes the match
+     * case-insensitive and space-insensitive; it is then resolved against the board, so
+     * a unique prefix or an acronym of a category name is enough.
      *
-     * @return The selected category name, or "quit" if the player wants to end the game.
+     * @return The key of the selected category, whose text is "quit" if the player wants to end the game,
+     *         or "*" or "auto" if the game should pick the question; "auto" only picks when it does not
+     *         match a category.
      */
+    private CategoryKey promptForCategory() {
+        System.out.print("\nSelect a category (or type '" + AUTO_PICK + "' to let the game pick, 'quit' to end): ");
+        return CategoryKey.of(scanner.nextLine());
+    }
+
     /**
-     * Prompts the current player to select a category.
-     * The input is trimmed, converted to lowercase, and all spaces are removed
-     * to ensure case-insensitive and space-insensitive matching.
+     * Returns the sampler used by auto-pick mode, creating it on first use.
+     * Questions are drawn with probability proportional to their value. The loaders accept
+     * zero and negative values, which the sampler cannot weigh, so such questions count as 1.
      *
-     * @return The normalized selected category name, or "quit" if the player wants to end the game.
+     * @return The auto-pick sampler for the current board.
      */
-    private String promptForCategory() {
-        System.out.print("\nSelect a category (or type 'quit' to end): ");
-        return scanner.nextLine().trim().toLowerCase().replaceAll("\\s+", "");
+    private QuestionSampler autoPickSampler() {
+        if (autoPickSampler == null) {
+            autoPickSampler = board.newSampler(q -> Math.max(q.getValue(), 1));
+        }
+        return autoPickSampler;
+    }
+
+    /**
+     * Draws the auto-pick question for a player, drawing again, a bounded number of times,
+     * while the player's {@link SeenQuestionFilter} says they have probably answered the
+     * question in an earlier session. If every draw has been seen, the last one is used, so
+     * auto-pick still works for a player who has seen most of the board.
+     *
+     * @param player The player the question is for.
+     * @return The drawn question, or {@code null} if the board has none left.
+     */
+    private Question drawAutoPick(Player player) {
+        Question drawn = autoPickSampler().draw(random);
+        SeenQuestionFilter seen = seenQuestionsOf(player);
+        if (seen == null) {
+            return drawn;
+        }
+        synchronized (seen) {
+            for (int i = 0; i < SEEN_REDRAWS && drawn != null && seen.mightContain(drawn); i++) {
+                drawn = autoPickSampler().draw(random);
+            }
+        }
+        return drawn;
+    }
+
+    /**
+     * Returns the filter of the questions a player has seen in earlier sessions.
+     *
+     * @param player The player.
+     * @return The filter, or {@code null} if seen questions are not tracked, the player has a
+     *         default name, or the filter cannot be read.
+     */
+    private SeenQuestionFilter seenQuestionsOf(Player player) {
+        SeenQuestionStore store = context.getSeenQuestionStore();
+        if (store == null || Player.isDefaultName(player.getName())) {
+            return null;
+        }
+        try {
+            return store.get(player.getName());
+        } catch (IOException e) {
+            System.out.println("Could not read seen questions: " + e.getMessage());
+            return null;
+        }
     }
 
     /**
      * Prompts the current player to select a question value within a chosen category.
      *
-     * @param category The selected category.
+     * @param categoryKey The key of the selected category.
      * @return The selected question value, or -1 if the input is invalid.
      */
-    private int promptForValue(String category) {
+    private int promptForValue(CategoryKey categoryKey) {
         System.out.print("Select a value: ");
         try {
             return Integer.parseInt(scanner.nextLine().trim());
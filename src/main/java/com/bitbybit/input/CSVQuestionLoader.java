@@ -3,6 +3,8 @@ package com.bitbybit.input;
 import com.bitbybit.model.Question;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -14,15 +16,20 @@ import java.util.Map;
 /**
  * Implements the {@link QuestionLoader} interface to load Jeopardy questions from a CSV file.
  * This loader handles CSV files with a specific format: Category, Value, Question, OptionA,
- * OptionB, OptionC, OptionD, CorrectAnswer. It also supports quoted values within the CSV.
+ * OptionB, OptionC, OptionD, CorrectAnswer, followed by optional columns: Media naming an
+ * attached asset, Tags separated by semicolons, and Difficulty. It also supports quoted values
+ * within the CSV.
  */
 public class CSVQuestionLoader implements QuestionLoader {
 
+    private LoadStatistics lastStatistics = new LoadStatistics();
+
     /**
      * Loads questions from the specified CSV file.
      * The method reads each line, parses it according to CSV rules (including quoted fields),
      * and constructs {@link Question} objects. It attempts to detect and skip a header row.
      * Categories can be numeric or string-based; string categories are mapped to sequential numbers.
+     * Per-stage timings are available afterwards through {@link #getLastLoadStatistics()}.
      *
      * @param filepath The path to the CSV file containing the questions.
      * @return An array of {@link Question} objects loaded from the file. Returns an empty array
@@ -30,6 +37,7 @@ public class CSVQuestionLoader implements QuestionLoader {
      */
     @Override
     public Question[] loadQuestions(String filepath) {
+        lastStatistics = new LoadStatistics();
         Path path = Paths.get(filepath);
         if (!Files.exists(path)) {
             // If the file doesn't exist in working dir, return empty array
@@ -38,16 +46,27 @@ public class CSVQuestionLoader implements QuestionLoader {
 
         List<Question> questions = new ArrayList<>();
         try {
-            List<String> lines = Files.readAllLines(path);
+            long start = System.nanoTime();
+            byte[] bytes;
+            try (InputStream in = Files.newInputStream(path)) {
+                long opened = System.nanoTime();
+                lastStatistics.recordOpen(opened - start);
+                bytes = in.readAllBytes();
+                lastStatistics.recordRead(System.nanoTime() - opened, bytes.length);
+            }
+
+            start = System.nanoTime();
+            String content = new String(bytes, StandardCharsets.UTF_8);
+            lastStatistics.recordDecode(System.nanoTime() - start);
+
             boolean first = true;
 
             Map<String, Integer> categoryToNumber = new HashMap<>();
             int nextCategoryNumber = 1;
             Map<Integer, Integer> questionCounts = new HashMap<>();
 
-            for (String line : lines) {
-                if (line == null)
-                    continue;
+            for (String line : (Iterable<String>) content.lines()::iterator) {
+                long parseStart = System.nanoTime();
                 String trimmed = line.trim();
                 if (trimmed.isEmpty())
                     continue;
@@ -67,9 +86,11 @@ public class CSVQuestionLoader implements QuestionLoader {
                 String[] parts = splitCsvLine(trimmed);
 
                 // Only support new CSV shape: Category, Value, Question, OptionA, OptionB,
-                // OptionC, OptionD, CorrectAnswer
+                // OptionC, OptionD, CorrectAnswer, with optional trailing Media, Tags and Difficulty columns
                 if (parts.length < 8) {
                     // ignore malformed lines
+                    lastStatistics.recordSkippedRow();
+                    lastStatistics.recordParse(System.nanoTime() - parseStart);
                     continue;
                 }
 
@@ -81,6 +102,12 @@ public class CSVQuestionLoader implements QuestionLoader {
                 String optC = unquote(parts[5]);
                 String optD = unquote(parts[6]);
                 String correctAnswer = unquote(parts[7]);
+                String mediaRef = parts.length > 8 ? unquote(parts[8]) : null;
+                List<String> tags = parts.length > 9 ? QuestionFields.splitTags(unquote(parts[9])) : null;
+                int difficulty = parts.length > 10 ? QuestionFields.parseDifficulty(unquote(parts[10])) : Question.UNRATED;
+
+                long buildStart = System.nanoTime();
+                lastStatistics.recordParse(buildStart - parseStart);
 
                 // Determine category number: if numeric use it; otherwise assign sequential
                 // number by appearance
@@ -102,6 +129,10 @@ public class CSVQuestionLoader implements QuestionLoader {
 
                 String id = String.valueOf(catNum) + String.valueOf(questionNumber);
 
+                if (!QuestionFields.isValid(rawCategory, valueStr, questionText, optA, optB, optC, optD, correctAnswer)) {
+                    lastStatistics.recordInvalidRow();
+                }
+
                 int value = 0;
                 try {
                     value = Integer.parseInt(valueStr);
@@ -109,8 +140,9 @@ public class CSVQuestionLoader implements QuestionLoader {
                 }
 
                 Question q = new Question(id, rawCategory, value, questionText, optA, optB, optC, optD,
-                        correctAnswer);
+                        correctAnswer, mediaRef, tags, difficulty);
                 questions.add(q);
+                lastStatistics.recordBuild(System.nanoTime() - buildStart);
             }
         } catch (IOException e) {
             // On error, return what we've parsed so far (or empty)
@@ -120,6 +152,16 @@ public class CSVQuestionLoader implements QuestionLoader {
         return questions.toArray(new Question[0]);
     }
 
+    /**
+     * Returns the per-stage timings of the most recent {@link #loadQuestions(String)} call.
+     *
+     * @return The statistics of the last load.
+     */
+    @Override
+    public LoadStatistics getLastLoadStatistics() {
+        return lastStatistics;
+    }
+
     /**
      * Splits a CSV line into individual fields, correctly handling commas within
      * double-quoted strings and escaped double-quotes.
@@ -4,6 +4,7 @@ import com.bitbybit.model.Question;
 import com.google.gson.Gson;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
@@ -11,15 +12,21 @@ import java.util.*;
 /**
  * Implements the {@link QuestionLoader} interface to load Jeopardy questions from a JSON file.
  * This loader uses the Gson library to parse JSON files into a structured format,
- * and then converts them into {@link Question} objects.
+ * and then converts them into {@link Question} objects. Optional {@code Tags} (an array of
+ * strings) and {@code Difficulty} fields are read when present. Entries with a missing or blank
+ * required field are still loaded but counted as invalid in the {@link LoadStatistics}; {@code null}
+ * array entries are skipped.
  */
 public class JSONQuestionLoader implements QuestionLoader {
 
+    private LoadStatistics lastStatistics = new LoadStatistics();
+
     /**
      * Loads questions from the specified JSON file.
      * The method reads the JSON content, parses it using Gson, and constructs
      * {@link Question} objects. It handles category mapping similar to the CSV loader,
      * assigning sequential numbers to string-based categories if necessary.
+     * Per-stage timings are available afterwards through {@link #getLastLoadStatistics()}.
      *
      * @param filepath The path to the JSON file containing the questions.
      * @return An array of {@link Question} objects loaded from the file. Returns an empty array
@@ -27,6 +34,7 @@ public class JSONQuestionLoader implements QuestionLoader {
      */
     @Override
     public Question[] loadQuestions(String filepath) {
+        lastStatistics = new LoadStatistics();
         Path path = Paths.get(filepath);
         if (!Files.exists(path)) {
             return new Question[0];
@@ -35,30 +43,52 @@ public class JSONQuestionLoader implements QuestionLoader {
         List<Question> questions = new ArrayList<>();
 
         try {
-            String json = Files.readString(path, StandardCharsets.UTF_8);
+            long start = System.nanoTime();
+            byte[] bytes;
+            try (InputStream in = Files.newInputStream(path)) {
+                long opened = System.nanoTime();
+                lastStatistics.recordOpen(opened - start);
+                bytes = in.readAllBytes();
+                lastStatistics.recordRead(System.nanoTime() - opened, bytes.length);
+            }
+
+            start = System.nanoTime();
+            String json = new String(bytes, StandardCharsets.UTF_8);
+            lastStatistics.recordDecode(System.nanoTime() - start);
 
+            start = System.nanoTime();
             Gson gson = new Gson();
             JsonQuestion[] entries = gson.fromJson(json, JsonQuestion[].class);
+            lastStatistics.recordParse(System.nanoTime() - start);
             if (entries == null) {
                 return new Question[0];
             }
 
+            start = System.nanoTime();
+
             Map<String, Integer> categoryToNumber = new HashMap<>();
             int nextCategoryNumber = 1;
             Map<Integer, Integer> questionCounts = new HashMap<>();
 
             for (JsonQuestion entry : entries) {
-                if (entry == null)
+                if (entry == null) {
+                    lastStatistics.recordSkippedRow();
                     continue;
+                }
 
                 String rawCategory = entry.Category;
-                int value = entry.Value;
+                int value = entry.Value != null ? entry.Value : 0;
                 String questionText = entry.Question;
                 String optA = entry.Options != null ? entry.Options.A : "";
                 String optB = entry.Options != null ? entry.Options.B : "";
                 String optC = entry.Options != null ? entry.Options.C : "";
                 String optD = entry.Options != null ? entry.Options.D : "";
                 String correctAnswer = entry.CorrectAnswer;
+                String mediaRef = entry.Media;
+                if (!QuestionFields.isValid(rawCategory, entry.Value != null ? entry.Value.toString() : null,
+                        questionText, optA, optB, optC, optD, correctAnswer)) {
+                    lastStatistics.recordInvalidRow();
+                }
 
                 // Same category-number & question-number logic as CSV
                 int catNum;
@@ -80,9 +110,11 @@ public class JSONQuestionLoader implements QuestionLoader {
                 String id = String.valueOf(catNum) + questionNumber;
 
                 Question q = new Question(id, rawCategory, value,
-                        questionText, optA, optB, optC, optD, correctAnswer);
+                        questionText, optA, optB, optC, optD, correctAnswer, mediaRef,
+                        entry.Tags, entry.Difficulty);
                 questions.add(q);
             }
+            lastStatistics.recordBuild(System.nanoTime() - start);
 
         } catch (IOException e) {
             // fall through & return whatever we've collected
@@ -94,16 +126,29 @@ public class JSONQuestionLoader implements QuestionLoader {
         return questions.toArray(new Question[0]);
     }
 
+    /**
+     * Returns the per-stage timings of the most recent {@link #loadQuestions(String)} call.
+     *
+     * @return The statistics of the last load.
+     */
+    @Override
+    public LoadStatistics getLastLoadStatistics() {
+        return lastStatistics;
+    }
+
     /**
      * Helper DTO (Data Transfer Object) class to represent the structure of a question
      * object within the JSON file.
      */
     private static class JsonQuestion {
         String Category;
-        int Value;
+        Integer Value;
         String Question;
         JsonOptions Options;
         String CorrectAnswer;
+        String Media;
+        List<String> Tags;
+        int Difficulty;
     }
 
     /**
@@ -0,0 +1,182 @@
+package com.bitbybit.input;
+
+/**
+ * Holds per-stage timings for a single run of a {@link QuestionLoader}.
+ * Each loader fills in the stages it goes through: opening the file, reading its bytes,
+ * decoding them to text, parsing the text into records, and building {@link com.bitbybit.model.Question}
+ * objects from those records. Rows that could not be turned into a question are counted as skipped;
+ * rows loaded with a missing or blank required field, or a value that is not a number, are counted
+ * as invalid.
+ * Stages a loader does not perform separately (e.g. decoding inside an XML parser) are left at zero.
+ */
+public class LoadStatistics {
+    private long openNanos;
+    private long readNanos;
+    private long decodeNanos;
+    private long parseNanos;
+    private long buildNanos;
+    private long bytesRead;
+    private int skippedRows;
+    private int invalidRows;
+
+    /**
+     * Records the time spent opening the file.
+     *
+     * @param nanos The elapsed time in nanoseconds.
+     */
+    void recordOpen(long nanos) {
+        openNanos += nanos;
+    }
+
+    /**
+     * Records the time spent reading raw bytes and the number of bytes read.
+     *
+     * @param nanos The elapsed time in nanoseconds.
+     * @param bytes The number of bytes read.
+     */
+    void recordRead(long nanos, long bytes) {
+        readNanos += nanos;
+        bytesRead += bytes;
+    }
+
+    /**
+     * Records the time spent decoding bytes into characters.
+     *
+     * @param nanos The elapsed time in nanoseconds.
+     */
+    void recordDecode(long nanos) {
+        decodeNanos += nanos;
+    }
+
+    /**
+     * Records the time spent parsing text into records.
+     *
+     * @param nanos The elapsed time in nanoseconds.
+     */
+    void recordParse(long nanos) {
+        parseNanos += nanos;
+    }
+
+    /**
+     * Records the time spent building question objects from parsed records.
+     *
+     * @param nanos The elapsed time in nanoseconds.
+     */
+    void recordBuild(long nanos) {
+        buildNanos += nanos;
+    }
+
+    /**
+     * Counts one row that was skipped because it was malformed.
+     */
+    void recordSkippedRow() {
+        skippedRows++;
+    }
+
+    /**
+     * Counts one row that was loaded although it failed validation.
+     */
+    void recordInvalidRow() {
+        invalidRows++;
+    }
+
+    /**
+     * Returns the time spent opening the file.
+     *
+     * @return The open time in nanoseconds.
+     */
+    public long getOpenNanos() {
+        return openNanos;
+    }
+
+    /**
+     * Returns the time spent reading raw bytes from the file.
+     *
+     * @return The read time in nanoseconds.
+     */
+    public long getReadNanos() {
+        return readNanos;
+    }
+
+    /**
+     * Returns the time spent decoding bytes into characters.
+     *
+     * @return The decode time in nanoseconds.
+     */
+    public long getDecodeNanos() {
+        return decodeNanos;
+    }
+
+    /**
+     * Returns the time spent parsing text into records.
+     *
+     * @return The parse time in nanoseconds.
+     */
+    public long getParseNanos() {
+        return parseNanos;
+    }
+
+    /**
+     * Returns the time spent building question objects.
+     *
+     * @return The build time in nanoseconds.
+     */
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+
+    /**
+     * Returns the total number of bytes read from the file.
+     *
+     * @return The number of bytes read.
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Returns the number of rows that were skipped as malformed.
+     *
+     * @return The number of skipped rows.
+     */
+    public int getSkippedRows() {
+        return skippedRows;
+    }
+
+    /**
+     * Returns the number of rows that were loaded although a required field was missing or
+     * blank, or the value was not a number.
+     *
+     * @return The number of invalid rows.
+     */
+    public int getInvalidRows() {
+        return invalidRows;
+    }
+
+    /**
+     * Returns the sum of all stage timings.
+     *
+     * @return The total load time in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return openNanos + readNanos + decodeNanos + parseNanos + buildNanos;
+    }
+
+    /**
+     * Returns a compact, comma-free summary of the statistics, with times in microseconds.
+     * The format is suitable for embedding in a single CSV field.
+     *
+     * @return A summary string such as {@code "open_us=12;read_us=40;bytes=2048;..."}.
+     */
+    @Override
+    public String toString() {
+        return "open_us=" + openNanos / 1_000
+                + ";read_us=" + readNanos / 1_000
+                + ";bytes=" + bytesRead
+                + ";decode_us=" + decodeNanos / 1_000
+                + ";parse_us=" + parseNanos / 1_000
+                + ";build_us=" + buildNanos / 1_000
+                + ";skipped=" + skippedRows
+                + ";invalid=" + invalidRows;
+    }
+}
@@ -0,0 +1,85 @@
+package com.bitbybit.input;
+
+import com.bitbybit.model.Question;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parsing helpers for the optional question fields shared by the loaders.
+ */
+final class QuestionFields {
+
+    private QuestionFields() {
+    }
+
+    /**
+     * Splits a tag list written as text. Tags are separated by semicolons or vertical bars,
+     * since commas already separate CSV columns.
+     *
+     * @param text The tag list, e.g. {@code "history;europe"}.
+     * @return The tags in order; empty if the text is {@code null} or blank.
+     */
+    static List<String> splitTags(String text) {
+        List<String> tags = new ArrayList<>();
+        if (text == null) {
+            return tags;
+        }
+        for (String tag : text.split("[;|]")) {
+            if (!tag.isBlank()) {
+                tags.add(tag.trim());
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Parses a difficulty rating.
+     *
+     * @param text The rating as written.
+     * @return The rating, or {@link Question#UNRATED} if the text is missing
+     *         or not a number.
+     */
+    static int parseDifficulty(String text) {
+        if (text == null || text.isBlank()) {
+            return Question.UNRATED;
+        }
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            return Question.UNRATED;
+        }
+    }
+
+    /**
+     * Checks that a row has every required field: a category, a numeric value, the question
+     * text, all four options and the correct answer, none of them blank.
+     *
+     * @param category The category as written.
+     * @param value The value as written.
+     * @param question The question text.
+     * @param optionA The first option.
+     * @param optionB The second option.
+     * @param optionC The third option.
+     * @param optionD The fourth option.
+     * @param correctAnswer The correct answer.
+     * @return {@code true} if the row is complete.
+     */
+    static boolean isValid(String category, String value, String question, String optionA, String optionB,
+                           String optionC, String optionD, String correctAnswer) {
+        if (isBlank(category) || isBlank(question) || isBlank(optionA) || isBlank(optionB)
+                || isBlank(optionC) || isBlank(optionD) || isBlank(correctAnswer) || isBlank(value)) {
+            return false;
+        }
+        try {
+            Integer.parseInt(value.trim());
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isBlank(String text) {
+        return text == null || text.isBlank();
+    }
+}
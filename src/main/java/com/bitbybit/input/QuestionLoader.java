@@ -14,4 +14,15 @@ public interface QuestionLoader {
      * @return An array of {@link Question} objects. Returns an empty array if no questions are found or an error occurs.
      */
     Question[] loadQuestions(String filepath);
+
+    /**
+     * Returns the per-stage timings recorded during the most recent call to
+     * {@link #loadQuestions(String)}. Loaders that do not record timings return
+     * an empty {@link LoadStatistics} with all stages at zero.
+     *
+     * @return The statistics of the last load.
+     */
+    default LoadStatistics getLastLoadStatistics() {
+        return new LoadStatistics();
+    }
 }
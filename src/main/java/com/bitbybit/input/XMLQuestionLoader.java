@@ -5,6 +5,7 @@ import org.w3c.dom.*;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.*;
@@ -13,15 +14,21 @@ import java.util.*;
 /**
  * Implements the {@link QuestionLoader} interface to load Jeopardy questions from an XML file.
  * This loader parses XML files with a specific structure, extracting question details
- * and converting them into {@link Question} objects.
+ * and converting them into {@link Question} objects. Optional {@code <Tags>} (separated by
+ * semicolons) and {@code <Difficulty>} elements are read when present. Items with a missing or
+ * blank required element, or a value that is not a number, are still loaded but counted as
+ * invalid in the {@link LoadStatistics}.
  */
 public class XMLQuestionLoader implements QuestionLoader {
 
+    private LoadStatistics lastStatistics = new LoadStatistics();
+
     /**
      * Loads questions from the specified XML file.
      * The method reads the XML content, parses it using DOM, and constructs
      * {@link Question} objects. It handles category mapping similar to other loaders,
      * assigning sequential numbers to string-based categories if necessary.
+     * Per-stage timings are available afterwards through {@link #getLastLoadStatistics()}.
      *
      * @param filepath The path to the XML file containing the questions.
      * @return An array of {@link Question} objects loaded from the file. Returns an empty array
@@ -29,6 +36,7 @@ public class XMLQuestionLoader implements QuestionLoader {
      */
     @Override
     public Question[] loadQuestions(String filepath) {
+        lastStatistics = new LoadStatistics();
         Path path = Paths.get(filepath);
         if (!Files.exists(path)) {
             return new Question[0];
@@ -40,22 +48,33 @@ public class XMLQuestionLoader implements QuestionLoader {
         int nextCategoryNumber = 1;
         Map<Integer, Integer> questionCounts = new HashMap<>();
 
-        try (InputStream in = Files.newInputStream(path)) {
+        try {
+            long start = System.nanoTime();
+            byte[] bytes;
+            try (InputStream in = Files.newInputStream(path)) {
+                long opened = System.nanoTime();
+                lastStatistics.recordOpen(opened - start);
+                bytes = in.readAllBytes();
+                lastStatistics.recordRead(System.nanoTime() - opened, bytes.length);
+            }
+
+            // The DOM parser decodes the bytes itself, so decoding is counted as part of parsing
+            start = System.nanoTime();
             DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
             factory.setNamespaceAware(false);
             factory.setIgnoringComments(true);
             factory.setIgnoringElementContentWhitespace(true);
 
             DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(in);
+            Document doc = builder.parse(new ByteArrayInputStream(bytes));
             doc.getDocumentElement().normalize();
+            lastStatistics.recordParse(System.nanoTime() - start);
+
+            start = System.nanoTime();
 
             NodeList items = doc.getElementsByTagName("QuestionItem");
             for (int i = 0; i < items.getLength(); i++) {
-                Node node = items.item(i);
-                if (node.getNodeType() != Node.ELEMENT_NODE)
-                    continue;
-                Element elem = (Element) node;
+                Element elem = (Element) items.item(i);
 
                 String rawCategory = getText(elem, "Category");
                 String valueStr = getText(elem, "Value");
@@ -68,6 +87,13 @@ public class XMLQuestionLoader implements QuestionLoader {
                 String optD = optionsElem != null ? getText(optionsElem, "OptionD") : "";
 
                 String correctAnswer = getText(elem, "CorrectAnswer");
+                String mediaRef = getText(elem, "Media");
+                List<String> tags = QuestionFields.splitTags(getText(elem, "Tags"));
+                int difficulty = QuestionFields.parseDifficulty(getText(elem, "Difficulty"));
+
+                if (!QuestionFields.isValid(rawCategory, valueStr, questionText, optA, optB, optC, optD, correctAnswer)) {
+                    lastStatistics.recordInvalidRow();
+                }
 
                 int value = 0;
                 try {
@@ -95,9 +121,10 @@ public class XMLQuestionLoader implements QuestionLoader {
                 String id = String.valueOf(catNum) + questionNumber;
 
                 Question q = new Question(id, rawCategory, value,
-                        questionText, optA, optB, optC, optD, correctAnswer);
+                        questionText, optA, optB, optC, optD, correctAnswer, mediaRef, tags, difficulty);
                 questions.add(q);
             }
+            lastStatistics.recordBuild(System.nanoTime() - start);
 
         } catch (IOException e) {
             // return what we have so far
@@ -108,6 +135,16 @@ public class XMLQuestionLoader implements QuestionLoader {
         return questions.toArray(new Question[0]);
     }
 
+    /**
+     * Returns the per-stage timings of the most recent {@link #loadQuestions(String)} call.
+     *
+     * @return The statistics of the last load.
+     */
+    @Override
+    public LoadStatistics getLastLoadStatistics() {
+        return lastStatistics;
+    }
+
     /**
      * Extracts the text content of the first child element with the given tag name
      * from a parent {@link Element}.
@@ -1,4 +1,6 @@
 package com.bitbybit.logging;
+import com.bitbybit.input.LoadStatistics;
+
 import java.io.FileWriter;
 import java.io.IOException;
 
@@ -8,8 +10,12 @@ import java.io.IOException;
  * Each game session is logged to a new CSV file within a 'game_logs' directory.
  * The log includes details such as Case ID, Player ID, Activity, Timestamp,
  * Category, Question Value, Answer Given, Result, and Score After Play.
+ * Per-stage timings of question file loads are kept out of the game logs, in a separate
+ * {@code load_stats.csv} in the same directory, so the game log columns keep their meaning.
  */
 public class CSVLoggingObserver implements GameObserver {
+    private static final String LOAD_STATS_FILE = "load_stats.csv";
+
     private final String logsDir;
     private int gameCounter = 1;
     private boolean newGame = true;
@@ -98,7 +104,8 @@ public class CSVLoggingObserver implements GameObserver {
                         ""   // Score_After_Play
                     ) + "\n");
                 }
-                case "GAME_LOADED" -> {
+                case "FILE_LOADED" -> {
+                    var e = (LoadFileEvent) event;
                     out.write(String.join(",",
                         caseId,
                         "System",
@@ -110,6 +117,7 @@ public class CSVLoggingObserver implements GameObserver {
                         "Success",  // Result
                         ""   // Score_After_Play
                     ) + "\n");
+                    logLoadStatistics(caseId, timestamp, e);
                 }
                 case "SELECT_PLAYER_COUNT" -> {
                     var e = (SelectPlayerCountEvent) event;
@@ -227,4 +235,52 @@ public class CSVLoggingObserver implements GameObserver {
             ex.printStackTrace();
         }
     }
+
+    /**
+     * Appends one row to the load statistics log, writing its header if the file is new.
+     *
+     * @param caseId The ID of the game the file was loaded for.
+     * @param timestamp The time of the load.
+     * @param event The load event carrying the statistics.
+     */
+    private void logLoadStatistics(String caseId, String timestamp, LoadFileEvent event) {
+        java.io.File file = new java.io.File(logsDir, LOAD_STATS_FILE);
+        boolean writeHeader = !file.exists() || file.length() == 0;
+        LoadStatistics stats = event.getStatistics();
+        try (FileWriter out = new FileWriter(file, true)) {
+            if (writeHeader) {
+                out.write("Case_ID,Timestamp,File,Question_Count,Open_us,Read_us,Bytes_Read,"
+                        + "Decode_us,Parse_us,Build_us,Skipped_Rows,Invalid_Rows\n");
+            }
+            out.write(String.join(",",
+                caseId,
+                timestamp,
+                quote(event.getFilepath()),
+                String.valueOf(event.getQuestionCount()),
+                String.valueOf(stats.getOpenNanos() / 1_000),
+                String.valueOf(stats.getReadNanos() / 1_000),
+                String.valueOf(stats.getBytesRead()),
+                String.valueOf(stats.getDecodeNanos() / 1_000),
+                String.valueOf(stats.getParseNanos() / 1_000),
+                String.valueOf(stats.getBuildNanos() / 1_000),
+                String.valueOf(stats.getSkippedRows()),
+                String.valueOf(stats.getInvalidRows())
+            ) + "\n");
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    /**
+     * Quotes a CSV field if it contains a comma, quote or line break.
+     *
+     * @param field The field.
+     * @return The field, quoted if needed.
+     */
+    private static String quote(String field) {
+        if (field.contains(",") || field.contains("\"") || field.contains("\n")) {
+            return "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+        return field;
+    }
 }
@@ -0,0 +1,459 @@
+package com.bitbybit.logging;
+
+import com.bitbybit.model.Player;
+import com.bitbybit.model.Question;
+import com.bitbybit.model.ScoreSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores a game's events column by column instead of as a list of event objects. Each event
+ * is a row of primitive columns: a type code, a flag, a player index, a reference index, a
+ * number (points, value or count), a running score, a timestamp and two text references.
+ * Players and questions are kept once each in identity dictionaries and strings once each in
+ * a string dictionary, so a long session costs a few dozen bytes per event and scans such as
+ * {@link #answers()} read contiguous arrays.
+ *
+ * <p>The built-in event types are stored in the columns; the final scores of a
+ * {@link GameFinishedEvent} are kept in a side list that its row references. Any other event,
+ * such as a {@link LoadFileEvent}, is kept as an object and referenced from its row.
+ * {@link #get(int)} and {@link #toList()} rebuild event objects from the columns, so they are
+ * equal in content but not identical to the events that were appended.
+ *
+ * <p>A store is not thread-safe; a game appends its events from one thread.
+ */
+public class EventStore {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NONE = -1;
+
+    private static final byte OTHER = 0;
+    private static final byte GAME_STARTED = 1;
+    private static final byte GAME_FINISHED = 2;
+    private static final byte PLAYER_JOINED = 3;
+    private static final byte SELECT_PLAYER_COUNT = 4;
+    private static final byte SELECT_CATEGORY = 5;
+    private static final byte SELECT_QUESTION = 6;
+    private static final byte QUESTION_ANSWERED = 7;
+
+    private byte[] types;
+    private boolean[] correct;
+    private int[] players;
+    private int[] refs;
+    private int[] numbers;
+    private int[] runningScores;
+    private long[] timestamps;
+    private int[] texts;
+    private int[] playerNames;
+    private int size;
+
+    private final List<Player> playerDictionary = new ArrayList<>();
+    private final Map<Player, Integer> playerCodes = new IdentityHashMap<>();
+    private final List<Question> questionDictionary = new ArrayList<>();
+    private final Map<Question, Integer> questionCodes = new IdentityHashMap<>();
+    private final List<String> stringDictionary = new ArrayList<>();
+    private final Map<String, Integer> stringCodes = new HashMap<>();
+    private final List<ScoreSnapshot> finalScores = new ArrayList<>();
+    private final List<GameEvent> others = new ArrayList<>();
+
+    /**
+     * Constructs an empty store.
+     */
+    public EventStore() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Builds a store holding the given events, timestamped with the current time, for code
+     * that has a list of events and wants to scan them column by column.
+     *
+     * @param events The events, in order.
+     * @return A new store.
+     */
+    public static EventStore of(List<? extends GameEvent> events) {
+        EventStore store = new EventStore();
+        long now = System.currentTimeMillis();
+        for (GameEvent event : events) {
+            store.append(event, now);
+        }
+        return store;
+    }
+
+    /**
+     * Appends an event, timestamped with the current time.
+     *
+     * @param event The event to store.
+     */
+    public void append(GameEvent event) {
+        append(event, System.currentTimeMillis());
+    }
+
+    /**
+     * Appends an event with a given timestamp.
+     *
+     * @param event The event to store.
+     * @param timestamp The time of the event, in milliseconds since the epoch.
+     */
+    public void append(GameEvent event, long timestamp) {
+        if (size == types.length) {
+            grow();
+        }
+        int row = size;
+        byte type = OTHER;
+        boolean flag = false;
+        int player = NONE;
+        int ref = NONE;
+        int number = 0;
+        int running = 0;
+        int text = NONE;
+        int playerName = NONE;
+
+        Class<?> kind = event.getClass();
+        if (kind == QuestionAnsweredEvent.class) {
+            QuestionAnsweredEvent answered = (QuestionAnsweredEvent) event;
+            type = QUESTION_ANSWERED;
+            flag = answered.isCorrect();
+            player = encode(answered.getPlayer(), playerDictionary, playerCodes);
+            ref = encode(answered.getQuestion(), questionDictionary, questionCodes);
+            number = answered.getPointsEarned();
+            running = answered.getRunningScore();
+            text = encode(answered.getAnswerGiven(), stringDictionary, stringCodes);
+        } else if (kind == SelectQuestionEvent.class) {
+            SelectQuestionEvent selected = (SelectQuestionEvent) event;
+            type = SELECT_QUESTION;
+            number = selected.getValue();
+            text = encode(selected.getCategory(), stringDictionary, stringCodes);
+            playerName = encode(selected.getPlayerName(), stringDictionary, stringCodes);
+        } else if (kind == SelectCategoryEvent.class) {
+            SelectCategoryEvent selected = (SelectCategoryEvent) event;
+            type = SELECT_CATEGORY;
+            text = encode(selected.getCategory(), stringDictionary, stringCodes);
+            playerName = encode(selected.getPlayerName(), stringDictionary, stringCodes);
+        } else if (kind == PlayerJoinedEvent.class) {
+            type = PLAYER_JOINED;
+            player = encode(((PlayerJoinedEvent) event).getPlayer(), playerDictionary, playerCodes);
+        } else if (kind == SelectPlayerCountEvent.class) {
+            type = SELECT_PLAYER_COUNT;
+            number = ((SelectPlayerCountEvent) event).getCount();
+        } else if (kind == GameStartedEvent.class) {
+            type = GAME_STARTED;
+        } else if (kind == GameFinishedEvent.class) {
+            type = GAME_FINISHED;
+            ScoreSnapshot scores = ((GameFinishedEvent) event).getFinalScores();
+            if (scores != null) {
+                ref = finalScores.size();
+                finalScores.add(scores);
+            }
+        } else {
+            ref = others.size();
+            others.add(event);
+        }
+
+        types[row] = type;
+        correct[row] = flag;
+        players[row] = player;
+        refs[row] = ref;
+        numbers[row] = number;
+        runningScores[row] = running;
+        timestamps[row] = timestamp;
+        texts[row] = text;
+        playerNames[row] = playerName;
+        size = row + 1;
+    }
+
+    /**
+     * Returns the number of stored events.
+     *
+     * @return The event count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the type of an event, as reported by {@link GameEvent#getType()}.
+     *
+     * @param index The event's position, in order of appending.
+     * @return The event type.
+     */
+    public String getType(int index) {
+        switch (types[checkIndex(index)]) {
+            case GAME_STARTED: return "GAME_STARTED";
+            case GAME_FINISHED: return "GAME_FINISHED";
+            case PLAYER_JOINED: return "PLAYER_JOINED";
+            case SELECT_PLAYER_COUNT: return "SELECT_PLAYER_COUNT";
+            case SELECT_CATEGORY: return "SELECT_CATEGORY";
+            case SELECT_QUESTION: return "SELECT_QUESTION";
+            case QUESTION_ANSWERED: return "QUESTION_ANSWERED";
+            default: return others.get(refs[index]).getType();
+        }
+    }
+
+    /**
+     * Returns the time an event was appended.
+     *
+     * @param index The event's position.
+     * @return The timestamp, in milliseconds since the epoch.
+     */
+    public long getTimestamp(int index) {
+        return timestamps[checkIndex(index)];
+    }
+
+    /**
+     * Counts the events of a type with one scan of the type column. A built-in type is mapped
+     * to its code once and compared as a byte; only the rows of other event types are asked
+     * for their type.
+     *
+     * @param type The event type, as reported by {@link GameEvent#getType()}.
+     * @return The number of events of that type.
+     */
+    public int count(String type) {
+        byte code = codeOf(type);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            byte rowType = types[i];
+            if (rowType == code && (code != OTHER || others.get(refs[i]).getType().equals(type))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the code of a built-in event type.
+     *
+     * @param type The event type.
+     * @return The type's code, or {@code OTHER} if it is not a built-in type.
+     */
+    private static byte codeOf(String type) {
+        switch (type) {
+            case "GAME_STARTED": return GAME_STARTED;
+            case "GAME_FINISHED": return GAME_FINISHED;
+            case "PLAYER_JOINED": return PLAYER_JOINED;
+            case "SELECT_PLAYER_COUNT": return SELECT_PLAYER_COUNT;
+            case "SELECT_CATEGORY": return SELECT_CATEGORY;
+            case "SELECT_QUESTION": return SELECT_QUESTION;
+            case "QUESTION_ANSWERED": return QUESTION_ANSWERED;
+            default: return OTHER;
+        }
+    }
+
+    /**
+     * Rebuilds an event object from its row.
+     *
+     * @param index The event's position.
+     * @return A new event with the stored content, or the stored object for other event types.
+     */
+    public GameEvent get(int index) {
+        checkIndex(index);
+        switch (types[index]) {
+            case QUESTION_ANSWERED:
+                return new QuestionAnsweredEvent(playerDictionary.get(players[index]),
+                        questionDictionary.get(refs[index]), correct[index], string(texts[index]),
+                        numbers[index], runningScores[index]);
+            case SELECT_QUESTION:
+                return new SelectQuestionEvent(string(texts[index]), numbers[index], string(playerNames[index]));
+            case SELECT_CATEGORY:
+                return new SelectCategoryEvent(string(texts[index]), string(playerNames[index]));
+            case PLAYER_JOINED:
+                return new PlayerJoinedEvent(playerDictionary.get(players[index]));
+            case SELECT_PLAYER_COUNT:
+                return new SelectPlayerCountEvent(numbers[index]);
+            case GAME_STARTED:
+                return new GameStartedEvent();
+            case GAME_FINISHED:
+                return new GameFinishedEvent(refs[index] == NONE ? null : finalScores.get(refs[index]));
+            default:
+                return others.get(refs[index]);
+        }
+    }
+
+    /**
+     * Rebuilds every event, in order of appending.
+     *
+     * @return A new list of events.
+     */
+    public List<GameEvent> toList() {
+        List<GameEvent> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(get(i));
+        }
+        return events;
+    }
+
+    /**
+     * Returns a cursor over the answered-question events, which reads the columns directly
+     * without building event objects.
+     *
+     * @return A cursor positioned before the first answer.
+     */
+    public AnswerCursor answers() {
+        return new AnswerCursor();
+    }
+
+    /**
+     * Removes every event and empties the dictionaries, keeping the allocated columns so the
+     * store can be reused for another game.
+     */
+    public void clear() {
+        size = 0;
+        playerDictionary.clear();
+        playerCodes.clear();
+        questionDictionary.clear();
+        questionCodes.clear();
+        stringDictionary.clear();
+        stringCodes.clear();
+        finalScores.clear();
+        others.clear();
+    }
+
+    /**
+     * A forward-only view of the answered-question events. The getters describe the event
+     * the cursor was last moved to.
+     */
+    public final class AnswerCursor {
+        private int index = -1;
+
+        private AnswerCursor() {
+        }
+
+        /**
+         * Moves to the next answered-question event.
+         *
+         * @return {@code true} if there was another answer.
+         */
+        public boolean next() {
+            while (++index < size) {
+                if (types[index] == QUESTION_ANSWERED) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the position of the current event in the store.
+         *
+         * @return The event index.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Returns the player who answered.
+         *
+         * @return The player.
+         */
+        public Player getPlayer() {
+            return playerDictionary.get(players[index]);
+        }
+
+        /**
+         * Returns the question that was answered.
+         *
+         * @return The question.
+         */
+        public Question getQuestion() {
+            return questionDictionary.get(refs[index]);
+        }
+
+        /**
+         * Returns whether the answer was correct.
+         *
+         * @return {@code true} if correct.
+         */
+        public boolean isCorrect() {
+            return correct[index];
+        }
+
+        /**
+         * Returns the answer the player gave.
+         *
+         * @return The answer text.
+         */
+        public String getAnswerGiven() {
+            return string(texts[index]);
+        }
+
+        /**
+         * Returns the points earned, negative for a wrong answer.
+         *
+         * @return The points earned.
+         */
+        public int getPointsEarned() {
+            return numbers[index];
+        }
+
+        /**
+         * Returns the player's score after the answer.
+         *
+         * @return The running score.
+         */
+        public int getRunningScore() {
+            return runningScores[index];
+        }
+
+        /**
+         * Returns the time of the answer.
+         *
+         * @return The timestamp, in milliseconds since the epoch.
+         */
+        public long getTimestamp() {
+            return timestamps[index];
+        }
+    }
+
+    private static <T> int encode(T value, List<T> dictionary, Map<T, Integer> codes) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = dictionary.size();
+            dictionary.add(value);
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    private String string(int code) {
+        return code == NONE ? null : stringDictionary.get(code);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Event " + index + " of " + size);
+        }
+        return index;
+    }
+
+    private void allocate(int capacity) {
+        types = new byte[capacity];
+        correct = new boolean[capacity];
+        players = new int[capacity];
+        refs = new int[capacity];
+        numbers = new int[capacity];
+        runningScores = new int[capacity];
+        timestamps = new long[capacity];
+        texts = new int[capacity];
+        playerNames = new int[capacity];
+    }
+
+    private void grow() {
+        int capacity = types.length * 2;
+        types = Arrays.copyOf(types, capacity);
+        correct = Arrays.copyOf(correct, capacity);
+        players = Arrays.copyOf(players, capacity);
+        refs = Arrays.copyOf(refs, capacity);
+        numbers = Arrays.copyOf(numbers, capacity);
+        runningScores = Arrays.copyOf(runningScores, capacity);
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        texts = Arrays.copyOf(texts, capacity);
+        playerNames = Arrays.copyOf(playerNames, capacity);
+    }
+}
@@ -1,11 +1,40 @@
 package com.bitbybit.logging;
 
+import com.bitbybit.model.ScoreSnapshot;
+
 /**
  * Represents a game event indicating that the Jeopardy game has finished.
  * This event is typically triggered when the game ends, either by all questions
  * being answered or a player choosing to quit.
  */
 public class GameFinishedEvent implements GameEvent {
+    private final ScoreSnapshot finalScores;
+
+    /**
+     * Constructs a new GameFinishedEvent without final scores.
+     */
+    public GameFinishedEvent() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new GameFinishedEvent carrying the players' final scores.
+     *
+     * @param finalScores A snapshot of every player's score at the end of the game.
+     */
+    public GameFinishedEvent(ScoreSnapshot finalScores) {
+        this.finalScores = finalScores;
+    }
+
+    /**
+     * Returns the players' final scores.
+     *
+     * @return The final scores, highest first, or {@code null} if the event carries none.
+     */
+    public ScoreSnapshot getFinalScores() {
+        return finalScores;
+    }
+
     /**
      * Returns the type of this game event, which is "GAME_FINISHED".
      *
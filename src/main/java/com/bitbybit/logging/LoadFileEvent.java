@@ -1,11 +1,65 @@
 package com.bitbybit.logging;
 
+import com.bitbybit.input.LoadStatistics;
+
 /**
  * Represents a game event indicating that a question file has been successfully loaded.
  * This event is typically triggered after the {@link com.bitbybit.input.QuestionLoader}
- * has finished parsing questions from a specified file.
+ * has finished parsing questions from a specified file. It carries the file path,
+ * the number of questions loaded, and the per-stage {@link LoadStatistics} of the load.
  */
 public class LoadFileEvent implements GameEvent {
+    private final String filepath;
+    private final int questionCount;
+    private final LoadStatistics statistics;
+
+    /**
+     * Constructs a new LoadFileEvent without load details.
+     */
+    public LoadFileEvent() {
+        this("", 0, new LoadStatistics());
+    }
+
+    /**
+     * Constructs a new LoadFileEvent.
+     *
+     * @param filepath The path of the file that was loaded.
+     * @param questionCount The number of questions loaded from the file.
+     * @param statistics The per-stage timings recorded by the loader.
+     */
+    public LoadFileEvent(String filepath, int questionCount, LoadStatistics statistics) {
+        this.filepath = filepath;
+        this.questionCount = questionCount;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Returns the path of the file that was loaded.
+     *
+     * @return The file path.
+     */
+    public String getFilepath() {
+        return filepath;
+    }
+
+    /**
+     * Returns the number of questions loaded from the file.
+     *
+     * @return The question count.
+     */
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    /**
+     * Returns the per-stage timings recorded while loading the file.
+     *
+     * @return The load statistics.
+     */
+    public LoadStatistics getStatistics() {
+        return statistics;
+    }
+
     /**
      * Returns the type of this game event, which is "FILE_LOADED".
      *
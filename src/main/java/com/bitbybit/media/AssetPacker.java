@@ -0,0 +1,86 @@
+package com.bitbybit.media;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Builds a packed asset file that can be memory-mapped by {@link AssetStore}.
+ * Every regular file below a source directory (e.g. the project's {@code assets} folder)
+ * is stored under its relative path, using {@code /} as the separator.
+ *
+ * <p>Pack layout (all integers big-endian):
+ * <pre>
+ *   magic "JPAK" | int version | int entryCount
+ *   entryCount x (short nameLength | name bytes (UTF-8) | long offset | int length)
+ *   asset data, back to back
+ * </pre>
+ * Offsets are absolute positions within the pack file.
+ */
+public final class AssetPacker {
+
+    static final int MAGIC = 0x4A50414B; // "JPAK"
+    static final int VERSION = 1;
+
+    private AssetPacker() {
+    }
+
+    /**
+     * Packs all regular files below the given directory into a single asset file.
+     *
+     * @param sourceDir The directory containing the assets to pack.
+     * @param packFile The path of the pack file to write. An existing file is overwritten.
+     * @return The number of assets written to the pack.
+     * @throws IOException if the directory cannot be read or the pack cannot be written.
+     */
+    public static int pack(Path sourceDir, Path packFile) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(sourceDir)) {
+            walk.filter(Files::isRegularFile).sorted().forEach(files::add);
+        }
+
+        List<byte[]> names = new ArrayList<>(files.size());
+        long headerSize = 12;
+        for (Path file : files) {
+            byte[] name = sourceDir.relativize(file).toString().replace('\\', '/')
+                    .getBytes(StandardCharsets.UTF_8);
+            if (name.length > Short.MAX_VALUE) {
+                throw new IOException("Asset name too long: " + file);
+            }
+            names.add(name);
+            headerSize += 2 + name.length + 8 + 4;
+        }
+
+        try (OutputStream fileOut = Files.newOutputStream(packFile);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(files.size());
+
+            long offset = headerSize;
+            for (int i = 0; i < files.size(); i++) {
+                long length = Files.size(files.get(i));
+                if (length > Integer.MAX_VALUE) {
+                    throw new IOException("Asset too large to pack: " + files.get(i));
+                }
+                out.writeShort(names.get(i).length);
+                out.write(names.get(i));
+                out.writeLong(offset);
+                out.writeInt((int) length);
+                offset += length;
+            }
+
+            for (Path file : files) {
+                Files.copy(file, out);
+            }
+        }
+        return files.size();
+    }
+}
@@ -0,0 +1,150 @@
+package com.bitbybit.media;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A read-only store of image and audio assets backed by a memory-mapped pack file
+ * written by {@link AssetPacker}. Opening the store only reads the small index at the
+ * start of the pack; asset bytes stay on disk until a question referencing them is revealed,
+ * at which point {@link #getAsset(String)} returns a zero-copy slice of the mapping.
+ * Startup time and heap usage therefore do not grow with the volume of assets.
+ */
+public class AssetStore implements Closeable {
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final Map<String, Entry> index;
+
+    /**
+     * Location of a single asset within the mapped pack.
+     */
+    private static final class Entry {
+        final int offset;
+        final int length;
+
+        Entry(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private AssetStore(FileChannel channel, MappedByteBuffer mapped, Map<String, Entry> index) {
+        this.channel = channel;
+        this.mapped = mapped;
+        this.index = index;
+    }
+
+    /**
+     * Opens and memory-maps an asset pack.
+     *
+     * @param packFile The path to a pack file created by {@link AssetPacker}.
+     * @return An {@link AssetStore} serving the assets in the pack.
+     * @throws IOException if the file cannot be mapped or is not a valid asset pack.
+     */
+    public static AssetStore open(Path packFile) throws IOException {
+        FileChannel channel = FileChannel.open(packFile, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Asset pack exceeds 2 GB and cannot be mapped: " + packFile);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new AssetStore(channel, mapped, readIndex(mapped, packFile));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Parses the pack header and entry table without touching the asset data.
+     *
+     * @param buffer The mapped pack.
+     * @param packFile The pack path, used in error messages.
+     * @return A map from asset name to its location in the pack.
+     * @throws IOException if the header is malformed or an entry lies outside the file.
+     */
+    private static Map<String, Entry> readIndex(ByteBuffer buffer, Path packFile) throws IOException {
+        ByteBuffer header = buffer.duplicate();
+        if (header.remaining() < 12 || header.getInt() != AssetPacker.MAGIC) {
+            throw new IOException("Not an asset pack: " + packFile);
+        }
+        int version = header.getInt();
+        if (version != AssetPacker.VERSION) {
+            throw new IOException("Unsupported asset pack version " + version + ": " + packFile);
+        }
+        int count = header.getInt();
+        Map<String, Entry> index = new HashMap<>(Math.max(16, count * 2));
+        try {
+            for (int i = 0; i < count; i++) {
+                byte[] name = new byte[header.getShort()];
+                header.get(name);
+                long offset = header.getLong();
+                int length = header.getInt();
+                if (offset < 0 || length < 0 || offset + length > buffer.capacity()) {
+                    throw new IOException("Corrupt asset entry in " + packFile);
+                }
+                index.put(new String(name, StandardCharsets.UTF_8), new Entry((int) offset, length));
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated asset pack index: " + packFile, e);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the bytes of an asset as a read-only slice of the mapped pack.
+     * No data is copied; the returned buffer's position is 0 and its limit is the asset length.
+     *
+     * @param name The asset name, as stored in a question's media reference.
+     * @return A read-only {@link ByteBuffer} over the asset, or {@code null} if the asset is not in the pack.
+     */
+    public ByteBuffer getAsset(String name) {
+        Entry entry = name == null ? null : index.get(name);
+        if (entry == null) {
+            return null;
+        }
+        return mapped.slice(entry.offset, entry.length).asReadOnlyBuffer();
+    }
+
+    /**
+     * Checks whether the pack contains an asset with the given name.
+     *
+     * @param name The asset name.
+     * @return {@code true} if the asset exists, {@code false} otherwise.
+     */
+    public boolean contains(String name) {
+        return name != null && index.containsKey(name);
+    }
+
+    /**
+     * Returns the names of all assets in the pack.
+     *
+     * @return An unmodifiable set of asset names.
+     */
+    public Set<String> getAssetNames() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    /**
+     * Closes the underlying file channel. Slices handed out earlier remain readable
+     * until they are garbage collected, as the mapping outlives the channel.
+     *
+     * @throws IOException if closing the channel fails.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,165 @@
+package com.bitbybit.model;
+
+import java.util.BitSet;
+
+/**
+ * A condition on the questions of a {@link QuestionBoard}, used to pick questions for a
+ * themed board, for example "value at most 400, in a category with at least 5 unanswered
+ * questions, tagged {@code europe}":
+ * <pre>
+ *   BoardFilter.valueAtMost(400)
+ *           .and(BoardFilter.categoryHasAtLeast(5))
+ *           .and(BoardFilter.tag("europe"))
+ * </pre>
+ * A filter evaluates to a {@link BitSet} over the board's bank slots. The basic filters read
+ * the bit sets the {@link QuestionBank} keeps per category, value, tag and difficulty, and the
+ * board's answered set; combined filters are bitwise AND, OR and NOT of those sets, so no
+ * question is examined while filtering.
+ */
+@FunctionalInterface
+public interface BoardFilter {
+
+    /**
+     * Evaluates the filter on a board.
+     *
+     * @param board The board whose questions are filtered.
+     * @return A new bit set holding the bank slots of the matching questions; the caller may modify it.
+     */
+    BitSet evaluate(QuestionBoard board);
+
+    /**
+     * Returns a filter matching questions that match both this filter and another.
+     *
+     * @param other The other filter.
+     * @return The combined filter.
+     */
+    default BoardFilter and(BoardFilter other) {
+        return board -> {
+            BitSet bits = evaluate(board);
+            bits.and(other.evaluate(board));
+            return bits;
+        };
+    }
+
+    /**
+     * Returns a filter matching questions that match this filter or another.
+     *
+     * @param other The other filter.
+     * @return The combined filter.
+     */
+    default BoardFilter or(BoardFilter other) {
+        return board -> {
+            BitSet bits = evaluate(board);
+            bits.or(other.evaluate(board));
+            return bits;
+        };
+    }
+
+    /**
+     * Returns a filter matching the questions this filter does not match.
+     *
+     * @return The negated filter.
+     */
+    default BoardFilter negate() {
+        return board -> {
+            BitSet bits = evaluate(board);
+            bits.flip(0, board.getQuestionCount());
+            return bits;
+        };
+    }
+
+    /**
+     * Returns a filter matching every question on the board.
+     *
+     * @return The filter.
+     */
+    static BoardFilter all() {
+        return board -> {
+            BitSet bits = new BitSet(board.getQuestionCount());
+            bits.set(0, board.getQuestionCount());
+            return bits;
+        };
+    }
+
+    /**
+     * Returns a filter matching the questions of one category.
+     *
+     * @param category The category name; matching is case-insensitive and space-insensitive.
+     * @return The filter.
+     */
+    static BoardFilter category(String category) {
+        CategoryKey key = CategoryKey.of(category);
+        return board -> board.getBank().categoryBits(key);
+    }
+
+    /**
+     * Returns a filter matching questions whose value lies in a range.
+     *
+     * @param min The lowest value to include.
+     * @param max The highest value to include.
+     * @return The filter.
+     */
+    static BoardFilter valueBetween(int min, int max) {
+        return board -> board.getBank().valueBits(min, max);
+    }
+
+    /**
+     * Returns a filter matching questions worth at most a given value.
+     *
+     * @param max The highest value to include.
+     * @return The filter.
+     */
+    static BoardFilter valueAtMost(int max) {
+        return valueBetween(Integer.MIN_VALUE, max);
+    }
+
+    /**
+     * Returns a filter matching questions carrying a tag.
+     *
+     * @param tag The tag; matching ignores case and surrounding spaces.
+     * @return The filter.
+     */
+    static BoardFilter tag(String tag) {
+        return board -> board.getBank().tagBits(tag);
+    }
+
+    /**
+     * Returns a filter matching questions whose difficulty lies in a range.
+     *
+     * @param min The lowest difficulty to include.
+     * @param max The highest difficulty to include.
+     * @return The filter.
+     */
+    static BoardFilter difficultyBetween(int min, int max) {
+        return board -> board.getBank().difficultyBits(min, max);
+    }
+
+    /**
+     * Returns a filter matching the questions not yet answered on the board.
+     *
+     * @return The filter.
+     */
+    static BoardFilter unanswered() {
+        return QuestionBoard::unansweredBits;
+    }
+
+    /**
+     * Returns a filter matching every question in categories that still have at least a
+     * given number of unanswered questions.
+     *
+     * @param count The minimum number of unanswered questions in the category.
+     * @return The filter.
+     */
+    static BoardFilter categoryHasAtLeast(int count) {
+        return board -> {
+            QuestionBank bank = board.getBank();
+            BitSet bits = new BitSet(bank.size());
+            for (int ordinal = 0; ordinal < bank.getCategoryCount(); ordinal++) {
+                if (board.getRemainingCount(ordinal) >= count) {
+                    bits.or(bank.categoryBits(ordinal));
+                }
+            }
+            return bits;
+        };
+    }
+}
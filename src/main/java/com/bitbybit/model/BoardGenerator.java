@@ -0,0 +1,244 @@
+package com.bitbybit.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Generates fresh N x M {@link QuestionBoard}s (N categories of M questions) from one large,
+ * resident {@link QuestionBank}, for a hosting service that starts many games per second.
+ * Each tenant is never served a question it was served within its no-repeat window, tracked by
+ * a per-tenant {@link RecentQuestionTracker}. Callers may also exclude questions the players
+ * have already seen in earlier sessions, for example with a per-player Bloom filter.
+ *
+ * <p>Categories are drawn by a partial shuffle of a per-thread permutation of the bank's
+ * category ordinals, which is kept between boards instead of being rebuilt, and questions by
+ * random probes into each category's slot array that skip recent questions, followed by a
+ * short scan. Only when that leaves the board unfilled, which takes a bank that is nearly all
+ * recent or excluded, are the remaining categories scanned in full. The board is a
+ * {@link QuestionBank#boardView(int[], int) view} over the chosen slots, so generating a board
+ * normally costs O(board size) regardless of the bank size. Within a category, the chosen
+ * questions are ordered by value.
+ *
+ * <p>The generator is thread-safe. The bank is immutable, trackers live in a concurrent map,
+ * and a tenant's tracker is locked while a board is generated and recorded for it, so boards
+ * for different tenants are generated in parallel.
+ */
+public class BoardGenerator {
+    private static final int DEFAULT_GENERATIONS = 8;
+    private static final int PROBES_PER_QUESTION = 4;
+    private static final int SCAN_PER_QUESTION = 8;
+
+    private final QuestionBank bank;
+    private final int window;
+    private final int generations;
+    private final ConcurrentMap<String, RecentQuestionTracker> trackers = new ConcurrentHashMap<>();
+    private final ThreadLocal<int[]> ordinals;
+
+    /**
+     * Constructs a generator whose window is tracked in eight generations.
+     *
+     * @param bank The bank to draw questions from.
+     * @param window The number of boards within which a tenant must not see a question again.
+     */
+    public BoardGenerator(QuestionBank bank, int window) {
+        this(bank, window, DEFAULT_GENERATIONS);
+    }
+
+    /**
+     * Constructs a generator.
+     *
+     * @param bank The bank to draw questions from.
+     * @param window The number of boards within which a tenant must not see a question again.
+     * @param generations The number of generations each tenant's window is split into.
+     * @throws IllegalArgumentException if the window or generation count is not positive.
+     */
+    public BoardGenerator(QuestionBank bank, int window, int generations) {
+        if (window < 1 || generations < 1) {
+            throw new IllegalArgumentException("Window and generation count must be positive");
+        }
+        this.bank = bank;
+        this.window = window;
+        this.generations = generations;
+        this.ordinals = ThreadLocal.withInitial(() -> {
+            int[] identity = new int[bank.getCategoryCount()];
+            for (int i = 0; i < identity.length; i++) {
+                identity[i] = i;
+            }
+            return identity;
+        });
+    }
+
+    /**
+     * Generates a board for a tenant and records its questions as recent for that tenant.
+     *
+     * @param tenant The tenant the board is for.
+     * @param categoryCount The number of categories on the board (N).
+     * @param questionsPerCategory The number of questions in each category (M).
+     * @return A new board with every question unanswered.
+     * @throws IllegalStateException if the bank has too few categories with enough questions
+     *                               the tenant has not seen recently.
+     */
+    public QuestionBoard generate(String tenant, int categoryCount, int questionsPerCategory) {
+        return generate(tenant, categoryCount, questionsPerCategory, q -> false);
+    }
+
+    /**
+     * Generates a board for a tenant, leaving out recent questions and any question the
+     * given predicate excludes, and records its questions as recent for that tenant.
+     *
+     * @param tenant The tenant the board is for.
+     * @param categoryCount The number of categories on the board (N).
+     * @param questionsPerCategory The number of questions in each category (M).
+     * @param exclude Returns {@code true} for questions that must not be used, such as those
+     *                the players have seen before. It is called while the tenant is locked and
+     *                should be fast.
+     * @return A new board with every question unanswered.
+     * @throws IllegalStateException if the bank has too few categories with enough questions
+     *                               that are neither recent nor excluded.
+     */
+    public QuestionBoard generate(String tenant, int categoryCount, int questionsPerCategory, Predicate<Question> exclude) {
+        RecentQuestionTracker tracker = trackerFor(tenant);
+        synchronized (tracker) {
+            int[] slots = pickSlots(tracker, exclude, categoryCount, questionsPerCategory);
+            tracker.recordBoard(slots);
+            return new QuestionBoard(bank.boardView(slots, questionsPerCategory));
+        }
+    }
+
+    /**
+     * Returns the tracker of a tenant, creating it on first use.
+     *
+     * @param tenant The tenant.
+     * @return The tenant's recent-question tracker.
+     */
+    public RecentQuestionTracker trackerFor(String tenant) {
+        return trackers.computeIfAbsent(tenant, t -> new RecentQuestionTracker(window, generations));
+    }
+
+    /**
+     * Forgets a tenant's recent questions.
+     *
+     * @param tenant The tenant to reset.
+     */
+    public void resetTenant(String tenant) {
+        trackers.remove(tenant);
+    }
+
+    /**
+     * Returns the bank boards are generated from.
+     *
+     * @return The question bank.
+     */
+    public QuestionBank getBank() {
+        return bank;
+    }
+
+    /**
+     * Picks the slots of a board, category by category.
+     *
+     * @param tracker The tenant's tracker; must be locked by the caller.
+     * @param exclude The predicate rejecting further questions.
+     * @param categoryCount The number of categories.
+     * @param perCategory The number of questions per category.
+     * @return The chosen slots, grouped by category and ordered by value within each.
+     */
+    private int[] pickSlots(RecentQuestionTracker tracker, Predicate<Question> exclude, int categoryCount, int perCategory) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] ordinals = this.ordinals.get();
+        int[] slots = new int[categoryCount * perCategory];
+        int scanLimit = perCategory * SCAN_PER_QUESTION;
+        int filled = 0;
+        for (int i = 0; i < ordinals.length && filled < categoryCount; i++) {
+            // partial Fisher-Yates: only the categories we look at get shuffled; the draw is
+            // uniform whatever order the previous board left the permutation in
+            swap(ordinals, i, i + random.nextInt(ordinals.length - i));
+            QuestionBank.CategorySlots category = bank.category(ordinals[i]);
+            if (pickFromCategory(category, tracker, exclude, slots, filled * perCategory, perCategory, scanLimit, random)) {
+                swap(ordinals, i, filled++);
+            }
+        }
+        // every category was tried and the ones that fell short sit after the filled ones
+        for (int i = filled; i < ordinals.length && filled < categoryCount; i++) {
+            QuestionBank.CategorySlots category = bank.category(ordinals[i]);
+            if (pickFromCategory(category, tracker, exclude, slots, filled * perCategory, perCategory,
+                    category.slots.length, random)) {
+                swap(ordinals, i, filled++);
+            }
+        }
+        if (filled < categoryCount) {
+            throw new IllegalStateException("Only " + filled + " of " + categoryCount
+                    + " categories have " + perCategory + " questions that are not recent");
+        }
+        return slots;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int value = array[i];
+        array[i] = array[j];
+        array[j] = value;
+    }
+
+    /**
+     * Picks questions from one category that are not recent, first by random probes and then,
+     * if those fall short, by a scan of at most {@code scanLimit} positions from a random
+     * starting point.
+     *
+     * @param category The category's slots.
+     * @param tracker The tenant's tracker.
+     * @param exclude The predicate rejecting further questions.
+     * @param out The array receiving the chosen slots.
+     * @param offset The position in {@code out} of the category's first question.
+     * @param count The number of questions to pick.
+     * @param scanLimit The number of positions the scan may visit.
+     * @param random The source of randomness.
+     * @return {@code true} if {@code count} questions were picked.
+     */
+    private boolean pickFromCategory(QuestionBank.CategorySlots category, RecentQuestionTracker tracker,
+                                     Predicate<Question> exclude, int[] out, int offset, int count,
+                                     int scanLimit, ThreadLocalRandom random) {
+        int size = category.slots.length;
+        if (size < count) {
+            return false;
+        }
+        int found = 0;
+        for (int probe = 0; probe < count * PROBES_PER_QUESTION && found < count; probe++) {
+            int position = random.nextInt(size);
+            if (accept(category, position, tracker, exclude, out, offset, found)) {
+                out[offset + found++] = position;
+            }
+        }
+        int start = random.nextInt(size);
+        for (int k = 0; k < Math.min(size, scanLimit) && found < count; k++) {
+            int position = (start + k) % size;
+            if (accept(category, position, tracker, exclude, out, offset, found)) {
+                out[offset + found++] = position;
+            }
+        }
+        if (found < count) {
+            return false;
+        }
+        // positions are in value order within the category, so sorting them orders by value
+        Arrays.sort(out, offset, offset + count);
+        for (int i = offset; i < offset + count; i++) {
+            out[i] = category.slots[out[i]];
+        }
+        return true;
+    }
+
+    private boolean accept(QuestionBank.CategorySlots category, int position, RecentQuestionTracker tracker,
+                           Predicate<Question> exclude, int[] picked, int offset, int pickedCount) {
+        int slot = category.slots[position];
+        if (tracker.isRecent(slot) || exclude.test(bank.getQuestion(slot))) {
+            return false;
+        }
+        for (int i = offset; i < offset + pickedCount; i++) {
+            if (picked[i] == position) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+package com.bitbybit.model;
+
+import java.util.List;
+
+/**
+ * An immutable view of a {@link QuestionBoard} at a particular version: the board's categories,
+ * the values still available in each, and the board pre-rendered as display text.
+ * Snapshots are built by {@link QuestionBoard#getSnapshot()} and cached until the board changes,
+ * so rendering the board on every turn does not rescan it.
+ */
+public final class BoardSnapshot {
+    private final long version;
+    private final List<String> categories;
+    private final List<CategoryKey> categoryKeys;
+    private final int[][] values;
+    private final String text;
+
+    /**
+     * Constructs a new snapshot.
+     *
+     * @param version The board version the snapshot was taken at.
+     * @param categories The category names, sorted alphabetically.
+     * @param categoryKeys The keys of the category names, in the same order.
+     * @param values The available values for each category, sorted ascending, in category order.
+     */
+    BoardSnapshot(long version, List<String> categories, List<CategoryKey> categoryKeys, int[][] values) {
+        this.version = version;
+        this.categories = categories;
+        this.categoryKeys = categoryKeys;
+        this.values = values;
+        this.text = render(categories, values);
+    }
+
+    /**
+     * Renders the board in the format shown to players each turn.
+     *
+     * @param categories The category names.
+     * @param values The available values for each category.
+     * @return The rendered board text, ending with a line separator.
+     */
+    private static String render(List<String> categories, int[][] values) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(System.lineSeparator()).append("Available Categories:").append(System.lineSeparator());
+        for (int c = 0; c < categories.size(); c++) {
+            sb.append("- ").append(categories.get(c)).append(" (Values: ");
+            for (int i = 0; i < values[c].length; i++) {
+                sb.append(values[c][i]);
+                if (i < values[c].length - 1) {
+                    sb.append(", ");
+                }
+            }
+            sb.append(")").append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the board version this snapshot was taken at.
+     *
+     * @return The board version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the category names on the board, sorted alphabetically.
+     *
+     * @return An unmodifiable list of category names.
+     */
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    /**
+     * Returns the canonical keys of the categories, in the same order as {@link #getCategories()}.
+     * Passing these keys to the board's key-based methods avoids normalizing category names,
+     * which lets automated players run turns without allocating.
+     *
+     * @return An unmodifiable list of category keys.
+     */
+    public List<CategoryKey> getCategoryKeys() {
+        return categoryKeys;
+    }
+
+    /**
+     * Returns the number of values still available in a category.
+     *
+     * @param categoryIndex The index of the category in {@link #getCategories()}.
+     * @return The number of available values.
+     */
+    public int getValueCount(int categoryIndex) {
+        return values[categoryIndex].length;
+    }
+
+    /**
+     * Returns one of the values still available in a category.
+     *
+     * @param categoryIndex The index of the category in {@link #getCategories()}.
+     * @param valueIndex The index of the value, in ascending value order.
+     * @return The available value.
+     */
+    public int getValue(int categoryIndex, int valueIndex) {
+        return values[categoryIndex][valueIndex];
+    }
+
+    /**
+     * Returns the pre-rendered board text, listing each category with its available values.
+     *
+     * @return The board text.
+     */
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
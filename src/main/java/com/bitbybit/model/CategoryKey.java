@@ -0,0 +1,110 @@
+package com.bitbybit.model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * The canonical, comparison-ready form of a category name.
+ * Two category names are considered the same category when they are equal after
+ * Unicode compatibility normalization (NFKC), removal of all whitespace, and
+ * locale-independent lowercasing. For example, {@code "Data Types"}, {@code " data types "}
+ * and {@code "DATATYPES"} all map to the same key.
+ *
+ * <p>Keys are computed once per {@link Question} when it is constructed, and once per
+ * lookup from user input, so no normalization or regular expression runs while comparing.
+ * The hash code is cached, and equality checks identity and hash before comparing text.
+ */
+public final class CategoryKey {
+    private final String key;
+    private final int hash;
+
+    private CategoryKey(String key) {
+        this.key = key;
+        this.hash = key.hashCode();
+    }
+
+    /**
+     * Creates the canonical key for a raw category name.
+     *
+     * @param category The category name as written by an author or typed by a player.
+     *                 {@code null} is treated as an empty name.
+     * @return The canonical {@link CategoryKey}.
+     */
+    public static CategoryKey of(String category) {
+        return new CategoryKey(normalize(category));
+    }
+
+    /**
+     * Normalizes a category name without using regular expressions.
+     * Pure-ASCII input, the common case, skips the Unicode normalization step.
+     *
+     * @param category The category name to normalize.
+     * @return The normalized text.
+     */
+    static String normalize(String category) {
+        if (category == null) {
+            return "";
+        }
+        String text = isAscii(category) ? category : Normalizer.normalize(category, Normalizer.Form.NFKC);
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            if (!Character.isWhitespace(cp) && !Character.isSpaceChar(cp)) {
+                sb.appendCodePoint(cp);
+            }
+            i += Character.charCount(cp);
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Checks whether a string contains only ASCII characters.
+     *
+     * @param s The string to check.
+     * @return {@code true} if every character is below 0x80.
+     */
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether this key is the empty key (a blank or missing category name).
+     *
+     * @return {@code true} if the key is empty.
+     */
+    public boolean isEmpty() {
+        return key.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CategoryKey)) {
+            return false;
+        }
+        CategoryKey other = (CategoryKey) o;
+        return hash == other.hash && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Returns the normalized text of this key.
+     *
+     * @return The canonical category text.
+     */
+    @Override
+    public String toString() {
+        return key;
+    }
+}
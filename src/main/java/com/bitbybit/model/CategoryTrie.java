@@ -0,0 +1,240 @@
+package com.bitbybit.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A prefix trie over the canonical category keys of a {@link QuestionBank}, used to resolve
+ * what a player types into a category. Besides full names, it resolves any prefix that only
+ * one category starts with, and the acronym of a multi-word category name (for example
+ * {@code "dt"} for "Data Types"). Resolution walks one node per input character, so it costs
+ * O(length of input) no matter how many categories the board has.
+ *
+ * <p>Every node records whether all names below it lead to the same category, so a unique
+ * prefix is recognised as soon as its last node is reached. An exact category key always wins
+ * over an acronym or a longer name. Tries are built once by the bank that owns them and are
+ * immutable afterwards, so they are safe to share between threads.
+ */
+public final class CategoryTrie {
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node();
+    private final Map<CategoryKey, String> displayNames = new HashMap<>();
+
+    /**
+     * A trie node. {@code only} is the single category reachable below the node, or
+     * {@code null} once two different categories have been seen there.
+     */
+    private static final class Node {
+        char[] labels = NO_LABELS;
+        Node[] children = NO_CHILDREN;
+        int childCount;
+        CategoryKey exact;
+        CategoryKey alias;
+        boolean aliasAmbiguous;
+        CategoryKey only;
+        boolean ambiguous;
+
+        Node child(char c) {
+            for (int i = 0; i < childCount; i++) {
+                if (labels[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node addChild(char c) {
+            Node existing = child(c);
+            if (existing != null) {
+                return existing;
+            }
+            if (childCount == labels.length) {
+                int capacity = Math.max(2, childCount * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            Node node = new Node();
+            labels[childCount] = c;
+            children[childCount++] = node;
+            return node;
+        }
+
+        void reach(CategoryKey key) {
+            if (ambiguous) {
+                return;
+            }
+            if (only == null) {
+                only = key;
+            } else if (!only.equals(key)) {
+                only = null;
+                ambiguous = true;
+            }
+        }
+    }
+
+    /**
+     * Builds a trie over a bank's categories.
+     *
+     * @param categories The category names as written by their authors.
+     * @param keys The canonical keys of the names, in the same order.
+     */
+    CategoryTrie(List<String> categories, List<CategoryKey> keys) {
+        for (int i = 0; i < categories.size(); i++) {
+            CategoryKey key = keys.get(i);
+            if (key.isEmpty()) {
+                continue;
+            }
+            displayNames.putIfAbsent(key, categories.get(i));
+            insert(key.toString(), key, false);
+            String acronym = acronym(categories.get(i));
+            if (acronym != null) {
+                insert(acronym, key, true);
+            }
+        }
+    }
+
+    /**
+     * Adds a name to the trie.
+     *
+     * @param name The normalized name or acronym.
+     * @param key The category it leads to.
+     * @param isAlias {@code true} if the name is an acronym rather than the category key itself.
+     */
+    private void insert(String name, CategoryKey key, boolean isAlias) {
+        Node node = root;
+        node.reach(key);
+        for (int i = 0; i < name.length(); i++) {
+            node = node.addChild(name.charAt(i));
+            node.reach(key);
+        }
+        if (!isAlias) {
+            node.exact = key;
+        } else if (node.alias == null) {
+            node.alias = key;
+        } else if (!node.alias.equals(key)) {
+            node.aliasAmbiguous = true;
+        }
+    }
+
+    /**
+     * Builds the acronym of a multi-word category name from the first letter or digit of each word.
+     *
+     * @param category The category name as written.
+     * @return The normalized acronym, or {@code null} if the name has fewer than two words.
+     */
+    static String acronym(String category) {
+        StringBuilder sb = new StringBuilder();
+        for (String word : category.trim().split("\\s+")) {
+            for (int i = 0; i < word.length(); ) {
+                int cp = word.codePointAt(i);
+                if (Character.isLetterOrDigit(cp)) {
+                    sb.appendCodePoint(cp);
+                    break;
+                }
+                i += Character.charCount(cp);
+            }
+        }
+        return sb.length() < 2 ? null : CategoryKey.normalize(sb.toString());
+    }
+
+    /**
+     * Finds the node reached by walking a normalized input.
+     *
+     * @param text The normalized input.
+     * @return The node, or {@code null} if no name starts with the input.
+     */
+    private Node walk(String text) {
+        Node node = root;
+        for (int i = 0; i < text.length() && node != null; i++) {
+            node = node.child(text.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Resolves a player's input to a category: an exact key, an acronym, or a prefix shared
+     * by only one category, in that order of preference.
+     *
+     * @param input The canonical key of what the player typed.
+     * @return The resolved category key, or {@code null} if the input matches no category or
+     *         more than one.
+     */
+    public CategoryKey resolve(CategoryKey input) {
+        if (input.isEmpty()) {
+            return null;
+        }
+        Node node = walk(input.toString());
+        if (node == null) {
+            return null;
+        }
+        if (node.exact != null) {
+            return node.exact;
+        }
+        if (node.alias != null && !node.aliasAmbiguous) {
+            return node.alias;
+        }
+        return node.only;
+    }
+
+    /**
+     * Resolves raw player input to a category. See {@link #resolve(CategoryKey)}.
+     *
+     * @param input The text the player typed.
+     * @return The resolved category key, or {@code null} if the input matches no category or
+     *         more than one.
+     */
+    public CategoryKey resolve(String input) {
+        return resolve(CategoryKey.of(input));
+    }
+
+    /**
+     * Lists the categories whose key or acronym starts with the given input, for autocomplete.
+     *
+     * @param prefix The canonical key of what the player has typed so far.
+     * @return The display names of the matching categories, sorted alphabetically.
+     */
+    public List<String> complete(CategoryKey prefix) {
+        Node node = walk(prefix.toString());
+        if (node == null) {
+            return new ArrayList<>();
+        }
+        Set<CategoryKey> found = new LinkedHashSet<>();
+        collect(node, found);
+        List<String> names = new ArrayList<>(found.size());
+        for (CategoryKey key : found) {
+            names.add(displayNames.get(key));
+        }
+        names.sort(null);
+        return names;
+    }
+
+    /**
+     * Collects every category reachable from a node, including names ending at the node itself.
+     * A subtree leading to a single category is not descended into.
+     *
+     * @param node The subtree root.
+     * @param found The set to add categories to.
+     */
+    private static void collect(Node node, Set<CategoryKey> found) {
+        if (node.only != null) {
+            found.add(node.only);
+            return;
+        }
+        if (node.exact != null) {
+            found.add(node.exact);
+        }
+        if (node.alias != null) {
+            found.add(node.alias);
+        }
+        for (int i = 0; i < node.childCount; i++) {
+            collect(node.children[i], found);
+        }
+    }
+}
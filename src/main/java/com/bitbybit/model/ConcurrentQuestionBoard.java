@@ -0,0 +1,300 @@
+package com.bitbybit.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread-safe {@link QuestionBoard} variant for team and buzzer play, where several threads
+ * may pick the same category and value at the same moment. Picking a question is a claim: a
+ * compare-and-set of the question's slot from unclaimed to claimed, so exactly one thread wins
+ * each question and the others move on to the next question with that value, if any.
+ *
+ * <p>Each category has its own claim stamp, packing the number of claims started (high 32
+ * bits) and finished (low 32 bits), and its own remaining counter. Both are padded onto
+ * separate cache lines, so claims in different categories do not contend. Readers never lock:
+ * {@link #getAvailableValues(CategoryKey)} and {@link #getSnapshot()} read the stamps, scan
+ * the slots and re-read the stamps, and retry if a claim started or was in flight meanwhile.
+ * What they return is therefore the exact board state at one instant. Writers never wait for
+ * readers.
+ */
+public class ConcurrentQuestionBoard {
+    // longs per category stamp: one 64-byte cache line each
+    private static final int STAMP_STRIDE = 8;
+    // ints per category counter: one 64-byte cache line each
+    private static final int COUNT_STRIDE = 16;
+    private static final long CLAIM_STARTED = 1L << 32;
+    private static final int UNCLAIMED = 0;
+    private static final int CLAIMED = 1;
+
+    private final QuestionBank bank;
+    private final AtomicIntegerArray claims;
+    private final AtomicLongArray stamps;
+    private final AtomicIntegerArray remainingByCategory;
+    private final AtomicInteger remaining;
+
+    /**
+     * Constructs a board over a shared {@link QuestionBank}, with every question unclaimed.
+     *
+     * @param bank The bank of questions to play.
+     */
+    public ConcurrentQuestionBoard(QuestionBank bank) {
+        this.bank = bank;
+        this.claims = new AtomicIntegerArray(bank.size());
+        int categories = bank.getCategoryCount();
+        this.stamps = new AtomicLongArray(categories * STAMP_STRIDE);
+        this.remainingByCategory = new AtomicIntegerArray(categories * COUNT_STRIDE);
+        for (int ordinal = 0; ordinal < categories; ordinal++) {
+            remainingByCategory.set(ordinal * COUNT_STRIDE, bank.category(ordinal).slots.length);
+        }
+        this.remaining = new AtomicInteger(bank.size());
+    }
+
+    /**
+     * Returns the shared {@link QuestionBank} this board is played over.
+     *
+     * @return The question bank.
+     */
+    public QuestionBank getBank() {
+        return bank;
+    }
+
+    /**
+     * Claims an unclaimed question with the given category and value. When several threads
+     * claim the same category and value at once, each question goes to exactly one of them.
+     *
+     * @param category The category; matching is case-insensitive and space-insensitive.
+     * @param value The point value.
+     * @return The claimed question, or {@code null} if none with that value is left.
+     */
+    public Question claim(String category, int value) {
+        return claim(CategoryKey.of(category), value);
+    }
+
+    /**
+     * Claims an unclaimed question with the given category and value.
+     *
+     * @param key The canonical key of the category.
+     * @param value The point value.
+     * @return The claimed question, or {@code null} if none with that value is left.
+     */
+    public Question claim(CategoryKey key, int value) {
+        QuestionBank.CategorySlots category = bank.category(key);
+        if (category == null) {
+            return null;
+        }
+        for (int i = firstWithValue(category, value); i >= 0 && i < category.values.length
+                && category.values[i] == value; i++) {
+            int slot = category.slots[i];
+            if (claims.get(slot) == UNCLAIMED && claimSlot(category, slot)) {
+                return bank.getQuestion(slot);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Claims exactly the given question.
+     *
+     * @param question The question.
+     * @return {@code true} if this call claimed it; {@code false} if it was already claimed or
+     *         is not on the board.
+     */
+    public boolean claim(Question question) {
+        int slot = bank.slotOf(question);
+        return slot >= 0 && claimSlot(bank.category(question.getCategoryKey()), slot);
+    }
+
+    /**
+     * Claims a slot with one compare-and-set, bracketed by the category's claim stamp so that
+     * readers can tell when a claim was in flight.
+     *
+     * @param category The slot's category.
+     * @param slot The slot.
+     * @return {@code true} if this call won the slot.
+     */
+    private boolean claimSlot(QuestionBank.CategorySlots category, int slot) {
+        int stamp = category.ordinal * STAMP_STRIDE;
+        stamps.getAndAdd(stamp, CLAIM_STARTED);
+        boolean won = claims.compareAndSet(slot, UNCLAIMED, CLAIMED);
+        if (won) {
+            remainingByCategory.decrementAndGet(category.ordinal * COUNT_STRIDE);
+            remaining.decrementAndGet();
+        }
+        stamps.getAndIncrement(stamp);
+        return won;
+    }
+
+    /**
+     * Checks whether a question has been claimed.
+     *
+     * @param question The question.
+     * @return {@code true} if claimed; {@code false} if unclaimed or not on the board.
+     */
+    public boolean isClaimed(Question question) {
+        int slot = bank.slotOf(question);
+        return slot >= 0 && claims.get(slot) != UNCLAIMED;
+    }
+
+    /**
+     * Returns the values of a category's unclaimed questions, in ascending order, as they
+     * were at one instant. Never blocks claimers.
+     *
+     * @param key The canonical key of the category.
+     * @return A new array of available values; empty if the category is not on the board.
+     */
+    public int[] getAvailableValues(CategoryKey key) {
+        QuestionBank.CategorySlots category = bank.category(key);
+        if (category == null) {
+            return new int[0];
+        }
+        while (true) {
+            long before = quiescentStamp(category);
+            int[] values = scan(category);
+            if (stamps.get(category.ordinal * STAMP_STRIDE) == before) {
+                return values;
+            }
+        }
+    }
+
+    /**
+     * Returns an immutable snapshot of every category's available values, as they were at
+     * one instant across the whole board. The snapshot's version is the number of questions
+     * claimed at that instant.
+     *
+     * @return The snapshot.
+     */
+    public BoardSnapshot getSnapshot() {
+        List<CategoryKey> keys = bank.getCategoryKeys();
+        QuestionBank.CategorySlots[] categories = new QuestionBank.CategorySlots[keys.size()];
+        for (int c = 0; c < categories.length; c++) {
+            categories[c] = bank.category(keys.get(c));
+        }
+        long[] before = new long[categories.length];
+        int[][] values = new int[categories.length][];
+        while (true) {
+            long version = 0;
+            for (int c = 0; c < categories.length; c++) {
+                before[c] = quiescentStamp(categories[c]);
+                version += categories[c].slots.length
+                        - remainingByCategory.get(categories[c].ordinal * COUNT_STRIDE);
+            }
+            for (int c = 0; c < categories.length; c++) {
+                values[c] = scan(categories[c]);
+            }
+            boolean stable = true;
+            for (int c = 0; c < categories.length && stable; c++) {
+                stable = stamps.get(categories[c].ordinal * STAMP_STRIDE) == before[c];
+            }
+            if (stable) {
+                return new BoardSnapshot(version, bank.getCategories(), keys, values);
+            }
+        }
+    }
+
+    /**
+     * Waits until no claim is in flight in a category and returns its stamp.
+     *
+     * @param category The category.
+     * @return A stamp whose started and finished counts are equal.
+     */
+    private long quiescentStamp(QuestionBank.CategorySlots category) {
+        int index = category.ordinal * STAMP_STRIDE;
+        while (true) {
+            long stamp = stamps.get(index);
+            if ((int) (stamp >>> 32) == (int) stamp) {
+                return stamp;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Collects the values of a category's unclaimed questions, in ascending order.
+     *
+     * @param category The category.
+     * @return A new array of values.
+     */
+    private int[] scan(QuestionBank.CategorySlots category) {
+        int[] buffer = new int[category.slots.length];
+        int count = 0;
+        for (int i = 0; i < category.slots.length; i++) {
+            if (claims.get(category.slots[i]) == UNCLAIMED) {
+                buffer[count++] = category.values[i];
+            }
+        }
+        return count == buffer.length ? buffer : Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * Finds the first position in a category holding the given value.
+     *
+     * @param category The category, whose values are sorted ascending.
+     * @param value The value.
+     * @return The first position with a value of at least {@code value}.
+     */
+    private static int firstWithValue(QuestionBank.CategorySlots category, int value) {
+        int low = 0;
+        int high = category.values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (category.values[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the unclaimed questions of a category, in value order.
+     *
+     * @param key The canonical key of the category.
+     * @return A new list of unclaimed questions; empty if the category is not on the board.
+     */
+    public List<Question> getAvailableQuestions(CategoryKey key) {
+        QuestionBank.CategorySlots category = bank.category(key);
+        List<Question> available = new ArrayList<>();
+        if (category != null) {
+            for (int slot : category.slots) {
+                if (claims.get(slot) == UNCLAIMED) {
+                    available.add(bank.getQuestion(slot));
+                }
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Returns the number of unclaimed questions in a category.
+     *
+     * @param key The canonical key of the category.
+     * @return The remaining count, or 0 if the category is not on the board.
+     */
+    public int getRemainingCount(CategoryKey key) {
+        QuestionBank.CategorySlots category = bank.category(key);
+        return category == null ? 0 : remainingByCategory.get(category.ordinal * COUNT_STRIDE);
+    }
+
+    /**
+     * Returns the number of unclaimed questions on the board.
+     *
+     * @return The remaining count.
+     */
+    public int getRemainingCount() {
+        return remaining.get();
+    }
+
+    /**
+     * Checks if every question on the board has been claimed.
+     *
+     * @return {@code true} if no question is left.
+     */
+    public boolean isBoardEmpty() {
+        return remaining.get() == 0;
+    }
+}
@@ -0,0 +1,451 @@
+package com.bitbybit.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * A live ranking of players, kept up to date as their scores change.
+ * Players are ordered by score, highest first; players with equal scores keep the order in
+ * which they were added. Ranks start at 1.
+ *
+ * <p>The ranking is an order-statistic treap: a randomized balanced binary search tree whose
+ * nodes also record the size of their subtree. That gives O(log n) updates, rank queries and
+ * rank lookups, and O(log n + k) top-k and "players around me" views, without re-sorting the
+ * player list. The leaderboard registers itself as a {@link ScoreListener} on every player it
+ * tracks, so each score change moves exactly one node.
+ *
+ * <p>All methods are synchronized, so scores may change on several threads while the
+ * leaderboard is read. When a change is reported, the player is re-ranked by the score the
+ * player holds at that moment, so notifications arriving out of order still leave every
+ * player ranked by their latest score.
+ */
+public class Leaderboard implements ScoreListener {
+    private final Map<Player, Node> nodes = new IdentityHashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+    private long nextSequence;
+
+    /**
+     * A player's position in the ranking.
+     */
+    public static final class Entry {
+        private final Player player;
+        private final int score;
+        private final int rank;
+
+        Entry(Player player, int score, int rank) {
+            this.player = player;
+            this.score = score;
+            this.rank = rank;
+        }
+
+        /**
+         * Returns the ranked player.
+         *
+         * @return The player.
+         */
+        public Player getPlayer() {
+            return player;
+        }
+
+        /**
+         * Returns the score the player was ranked by.
+         *
+         * @return The score.
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * Returns the player's rank, starting at 1 for the leader.
+         *
+         * @return The rank.
+         */
+        public int getRank() {
+            return rank;
+        }
+    }
+
+    /**
+     * A treap node. Nodes are ordered by score descending, then by sequence ascending,
+     * and heap-ordered by priority.
+     */
+    private static final class Node {
+        final Player player;
+        final long sequence;
+        final int priority;
+        int score;
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(Player player, int score, long sequence, int priority) {
+            this.player = player;
+            this.score = score;
+            this.sequence = sequence;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * Adds a player to the leaderboard and starts following their score.
+     * Adding a player that is already on the leaderboard is a no-op.
+     *
+     * @param player The player to add.
+     */
+    public synchronized void add(Player player) {
+        if (nodes.containsKey(player)) {
+            return;
+        }
+        Node node = new Node(player, player.getScore(), nextSequence++, random.nextInt());
+        nodes.put(player, node);
+        root = insert(root, node);
+        player.addScoreListener(this);
+    }
+
+    /**
+     * Removes a player from the leaderboard and stops following their score.
+     *
+     * @param player The player to remove.
+     */
+    public synchronized void remove(Player player) {
+        Node node = nodes.remove(player);
+        if (node != null) {
+            player.removeScoreListener(this);
+            root = delete(root, node);
+        }
+    }
+
+    /**
+     * Removes every player from the leaderboard and stops following their scores, so the
+     * leaderboard can be reused for another game.
+     */
+    public synchronized void clear() {
+        for (Player player : nodes.keySet()) {
+            player.removeScoreListener(this);
+        }
+        nodes.clear();
+        root = null;
+        nextSequence = 0;
+    }
+
+    /**
+     * Re-ranks a player after their score changed. Called by the players this leaderboard
+     * follows.
+     *
+     * @param player The player whose score changed.
+     * @param oldScore The score before the change.
+     * @param newScore The score after the change.
+     */
+    @Override
+    public synchronized void onScoreChanged(Player player, int oldScore, int newScore) {
+        Node node = nodes.get(player);
+        if (node == null) {
+            return;
+        }
+        int current = player.getScore();
+        if (current == node.score) {
+            return;
+        }
+        root = delete(root, node);
+        node.score = current;
+        node.left = null;
+        node.right = null;
+        node.size = 1;
+        root = insert(root, node);
+    }
+
+    /**
+     * Returns the number of players on the leaderboard.
+     *
+     * @return The player count.
+     */
+    public synchronized int size() {
+        return size(root);
+    }
+
+    /**
+     * Checks whether a player is on the leaderboard.
+     *
+     * @param player The player to check.
+     * @return {@code true} if the player is ranked here.
+     */
+    public synchronized boolean contains(Player player) {
+        return nodes.containsKey(player);
+    }
+
+    /**
+     * Returns a player's rank.
+     *
+     * @param player The player to look up.
+     * @return The player's rank, starting at 1, or -1 if the player is not on the leaderboard.
+     */
+    public synchronized int getRank(Player player) {
+        Node node = nodes.get(player);
+        return node == null ? -1 : rankOf(node);
+    }
+
+    /**
+     * Returns the entry at a given rank.
+     *
+     * @param rank The rank, from 1 to {@link #size()}.
+     * @return The entry at that rank, or {@code null} if the rank is out of range.
+     */
+    public synchronized Entry getEntry(int rank) {
+        if (rank < 1 || rank > size(root)) {
+            return null;
+        }
+        Node node = root;
+        int remaining = rank;
+        while (true) {
+            int leftSize = size(node.left);
+            if (remaining <= leftSize) {
+                node = node.left;
+            } else if (remaining == leftSize + 1) {
+                return new Entry(node.player, node.score, rank);
+            } else {
+                remaining -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the leading entry.
+     *
+     * @return The entry ranked first, or {@code null} if the leaderboard is empty.
+     */
+    public synchronized Entry getLeader() {
+        return getEntry(1);
+    }
+
+    /**
+     * Returns the highest-ranked entries.
+     *
+     * @param k The maximum number of entries to return.
+     * @return An unmodifiable list of up to {@code k} entries, best first.
+     */
+    public synchronized List<Entry> getTopK(int k) {
+        return range(1, k);
+    }
+
+    /**
+     * Returns a player's entry together with the entries ranked just above and below it.
+     *
+     * @param player The player to centre the view on.
+     * @param radius The number of neighbours to include on each side.
+     * @return An unmodifiable list of entries in rank order, or an empty list if the player
+     *         is not on the leaderboard.
+     */
+    public synchronized List<Entry> getAround(Player player, int radius) {
+        Node node = nodes.get(player);
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        int rank = rankOf(node);
+        return range(Math.max(1, rank - radius), rank + radius);
+    }
+
+    /**
+     * Returns all entries in rank order.
+     *
+     * @return An unmodifiable list of every entry, best first.
+     */
+    public synchronized List<Entry> getEntries() {
+        return range(1, size(root));
+    }
+
+    /**
+     * Collects the entries with ranks in {@code [from, to]}, clipped to the leaderboard size.
+     *
+     * @param from The first rank to include.
+     * @param to The last rank to include.
+     * @return An unmodifiable list of the entries in rank order.
+     */
+    private List<Entry> range(int from, int to) {
+        int last = Math.min(to, size(root));
+        if (from > last) {
+            return Collections.emptyList();
+        }
+        List<Entry> entries = new ArrayList<>(last - from + 1);
+        collect(root, 0, from, last, entries);
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Appends the entries of a subtree whose ranks fall in {@code [from, to]}, skipping
+     * subtrees that lie entirely outside the range.
+     *
+     * @param node The subtree root.
+     * @param offset The number of entries ranked before this subtree.
+     * @param from The first rank to include.
+     * @param to The last rank to include.
+     * @param out The list to append to.
+     */
+    private static void collect(Node node, int offset, int from, int to, List<Entry> out) {
+        if (node == null || offset >= to || offset + node.size < from) {
+            return;
+        }
+        int rank = offset + size(node.left) + 1;
+        if (from < rank) {
+            collect(node.left, offset, from, to, out);
+        }
+        if (rank >= from && rank <= to) {
+            out.add(new Entry(node.player, node.score, rank));
+        }
+        if (rank < to) {
+            collect(node.right, rank, from, to, out);
+        }
+    }
+
+    /**
+     * Computes the rank of a node by descending from the root along its key.
+     *
+     * @param target The node to rank.
+     * @return The node's rank, starting at 1.
+     */
+    private int rankOf(Node target) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(target, node);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left) + 1;
+            }
+        }
+        throw new IllegalStateException("Player is not in the leaderboard tree");
+    }
+
+    /**
+     * Orders nodes by score, highest first, then by the order they were added.
+     *
+     * @param a The first node.
+     * @param b The second node.
+     * @return A negative number if {@code a} ranks before {@code b}, zero if they are the same
+     *         node, positive otherwise.
+     */
+    private static int compare(Node a, Node b) {
+        if (a.score != b.score) {
+            return Integer.compare(b.score, a.score);
+        }
+        return Long.compare(a.sequence, b.sequence);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    /**
+     * Inserts a detached node into a subtree.
+     *
+     * @param node The subtree root.
+     * @param inserted The node to insert.
+     * @return The new subtree root.
+     */
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.priority > node.priority) {
+            Node[] parts = split(node, inserted);
+            inserted.left = parts[0];
+            inserted.right = parts[1];
+            update(inserted);
+            return inserted;
+        }
+        if (compare(inserted, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Removes a node from a subtree.
+     *
+     * @param node The subtree root.
+     * @param removed The node to remove.
+     * @return The new subtree root.
+     */
+    private static Node delete(Node node, Node removed) {
+        if (node == null) {
+            return null;
+        }
+        if (node == removed) {
+            return merge(node.left, node.right);
+        }
+        if (compare(removed, node) < 0) {
+            node.left = delete(node.left, removed);
+        } else {
+            node.right = delete(node.right, removed);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Splits a subtree into the nodes ranked before a key node and those ranked after it.
+     *
+     * @param node The subtree root.
+     * @param key The node to split around; it must not be in the subtree.
+     * @return The two subtrees: {@code [before, after]}.
+     */
+    private static Node[] split(Node node, Node key) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (compare(node, key) < 0) {
+            Node[] parts = split(node.right, key);
+            node.right = parts[0];
+            update(node);
+            parts[0] = node;
+            return parts;
+        }
+        Node[] parts = split(node.left, key);
+        node.left = parts[1];
+        update(node);
+        parts[1] = node;
+        return parts;
+    }
+
+    /**
+     * Merges two subtrees where every node of {@code left} ranks before every node of
+     * {@code right}.
+     *
+     * @param left The subtree ranked first.
+     * @param right The subtree ranked second.
+     * @return The merged subtree root.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+}
@@ -2,23 +2,55 @@ package com.bitbybit.model;
 
 /**
  * Represents a player in the Jeopardy game.
- * Each player has a name, a score, and a unique ID.
+ * Each player has a name, a score, and an ID assigned by the {@link PlayerRegistry}
+ * the player joins.
+ *
+ * <p>This class only describes a player; it holds no state. A {@link SimplePlayer} keeps its
+ * state in its own fields, while the players of a {@link PlayerTable} are views of a table
+ * row. Implementations must make scoring thread-safe, and must pack the score and a change
+ * counter into one stamp, so that {@link ScoreSnapshot} can take consistent snapshots across
+ * many players without locking. Registered {@link ScoreListener}s, such as a
+ * {@link Leaderboard}, are told about every change.
  */
-public class Player {
-    private String name;
-    private int score;
-    private int id;
+public abstract class Player {
+    /**
+     * The ID of a player that has not been registered with a {@link PlayerRegistry}.
+     */
+    public static final int UNASSIGNED_ID = -1;
+
+    /**
+     * The start of the name given to a player who does not enter one, followed by the seat.
+     */
+    public static final String DEFAULT_NAME_PREFIX = "Player ";
+
+    /**
+     * Returns the name given to a player who does not enter one.
+     *
+     * @param seat The player's seat, starting at 1.
+     * @return The default name, such as "Player 2".
+     */
+    public static String defaultName(int seat) {
+        return DEFAULT_NAME_PREFIX + seat;
+    }
 
     /**
-     * Constructs a new Player with the given name.
-     * The player's score is initialized to 0, and a unique ID is generated.
+     * Checks whether a name is a default name. Different people get the same default name in
+     * different games, so records kept per person across sessions, such as profiles and
+     * seen-question filters, are not kept for default names.
      *
-     * @param name The name of the player.
+     * @param name The name to check.
+     * @return {@code true} if the name is the prefix followed only by digits.
      */
-    public Player(String name) {
-        this.name = name;
-        this.score = 0;
-        this.id = System.identityHashCode(this); // Simple unique ID
+    public static boolean isDefaultName(String name) {
+        if (name == null || !name.startsWith(DEFAULT_NAME_PREFIX) || name.length() == DEFAULT_NAME_PREFIX.length()) {
+            return false;
+        }
+        for (int i = DEFAULT_NAME_PREFIX.length(); i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -26,45 +58,83 @@ public class Player {
      *
      * @return The player's name.
      */
-    public String getName() {
-        return name;
-    }
+    public abstract String getName();
 
     /**
      * Returns the current score of the player.
      *
      * @return The player's score.
      */
-    public int getScore() {
-        return score;
-    }
+    public abstract int getScore();
+
+    /**
+     * Returns the player's score together with its change counter, packed into a long
+     * (counter in the high 32 bits, score in the low 32 bits). Two equal stamps read at
+     * different times mean the score did not change in between.
+     *
+     * @return The packed score stamp.
+     */
+    abstract long getScoreStamp();
 
     /**
-     * Adds points to the player's score.
+     * Adds points to the player's score. Safe to call from multiple threads.
      *
      * @param points The number of points to add.
      */
-    public void addScore(int points) {
-        this.score += points;
-    }
+    public abstract void addScore(int points);
 
     /**
-     * Subtracts points from the player's score. The score will not go below zero.
+     * Subtracts points from the player's score. The score will not go below zero, even under
+     * concurrent calls.
      *
      * @param points The number of points to subtract.
      */
-    public void subtractScore(int points) {
-        this.score = Math.max(0, this.score - points);
-    }
+    public abstract void subtractScore(int points);
+
+    /**
+     * Sets the player's score back to zero, for example when a pooled player starts a new
+     * game. Score listeners are notified as for any other change.
+     */
+    public abstract void resetScore();
 
     /**
-     * Returns the unique ID of the player.
+     * Registers a listener to be notified whenever this player's score changes.
      *
-     * @return The player's ID.
+     * @param listener The listener to add.
      */
-    public int getId() {
-        return id;
-    }
+    public abstract void addScoreListener(ScoreListener listener);
+
+    /**
+     * Removes a previously registered score listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public abstract void removeScoreListener(ScoreListener listener);
+
+    /**
+     * Holds back new score changes until {@link #thawScore()}, so a {@link ScoreSnapshot}
+     * that keeps failing can finish. Freezes nest.
+     */
+    abstract void freezeScore();
+
+    /**
+     * Releases one {@link #freezeScore()}.
+     */
+    abstract void thawScore();
+
+    /**
+     * Returns the ID of the player. IDs are dense and unique within the player's registry.
+     *
+     * @return The player's ID, or {@link #UNASSIGNED_ID} if the player is not registered.
+     */
+    public abstract int getId();
+
+    /**
+     * Assigns the player's ID. Called by {@link PlayerRegistry} when the player is registered.
+     *
+     * @param id The ID to assign.
+     */
+    abstract void assignId(int id);
 
     /**
      * Returns a string representation of the player, including their name and score.
@@ -73,6 +143,6 @@ public class Player {
      */
     @Override
     public String toString() {
-        return name + " (Score: " + score + ")";
+        return getName() + " (Score: " + getScore() + ")";
     }
 }
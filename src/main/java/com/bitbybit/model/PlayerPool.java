@@ -0,0 +1,66 @@
+package com.bitbybit.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A fixed set of preallocated {@link Player}s for simulation loops that play many games in a
+ * row. Instead of constructing new players for every game, a worker acquires the pooled
+ * players, which come back with a score of zero, and the game's {@link PlayerRegistry} is
+ * cleared at the end of the game so they can be registered again.
+ *
+ * <p>A pool is not thread-safe; each simulation worker should own its pool.
+ */
+public class PlayerPool {
+    private final Player[] players;
+    private final List<Player> view;
+
+    /**
+     * Constructs a pool of players named "Player 1", "Player 2" and so on.
+     *
+     * @param capacity The number of players to preallocate.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public PlayerPool(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.players = new Player[capacity];
+        for (int i = 0; i < capacity; i++) {
+            players[i] = new SimplePlayer(Player.defaultName(i + 1));
+        }
+        this.view = Collections.unmodifiableList(Arrays.asList(players));
+    }
+
+    /**
+     * Returns the first {@code count} pooled players, with their scores reset to zero.
+     * The returned list is a view into the pool and is not copied.
+     *
+     * @param count The number of players needed.
+     * @return The players, ready to join a game.
+     * @throws IllegalArgumentException if the pool holds fewer than {@code count} players.
+     * @throws IllegalStateException if one of the players is still registered with a game.
+     */
+    public List<Player> acquire(int count) {
+        if (count < 0 || count > players.length) {
+            throw new IllegalArgumentException("Pool holds " + players.length + " players, not " + count);
+        }
+        for (int i = 0; i < count; i++) {
+            if (players[i].getId() != Player.UNASSIGNED_ID) {
+                throw new IllegalStateException(players[i].getName() + " is still registered with a game");
+            }
+            players[i].resetScore();
+        }
+        return view.subList(0, count);
+    }
+
+    /**
+     * Returns the number of pooled players.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return players.length;
+    }
+}
@@ -0,0 +1,146 @@
+package com.bitbybit.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Assigns dense, sequential IDs to {@link Player}s and looks players up by ID in constant time.
+ * The first player registered gets ID 0, the next ID 1, and so on, so an ID doubles as an
+ * index into the registry's backing array. Membership checks compare the player stored at the
+ * player's own ID, which avoids scanning the player list.
+ *
+ * <p>A player keeps the ID it was given until the registry is {@link #clear() cleared}, and can
+ * only be registered with one registry at a time. A registry is not thread-safe; a game
+ * registers its players from one thread.
+ */
+public class PlayerRegistry {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Player[] players;
+    private int size;
+
+    /**
+     * Constructs a new, empty registry.
+     */
+    public PlayerRegistry() {
+        this.players = new Player[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Builds a read-only lookup over players that have already been registered elsewhere,
+     * indexed by their existing IDs. Players without an ID are left out.
+     * Report strategies use this to resolve the player of each event by array index.
+     *
+     * @param registered The registered players to index.
+     * @return A registry that finds each given player by its ID.
+     */
+    public static PlayerRegistry indexOf(Collection<Player> registered) {
+        PlayerRegistry registry = new PlayerRegistry();
+        for (Player player : registered) {
+            int id = player.getId();
+            if (id == Player.UNASSIGNED_ID) {
+                continue;
+            }
+            registry.ensureCapacity(id + 1);
+            registry.players[id] = player;
+            registry.size = Math.max(registry.size, id + 1);
+        }
+        return registry;
+    }
+
+    /**
+     * Registers a player, assigning it the next sequential ID. Registering a player that is
+     * already in this registry is a no-op.
+     *
+     * @param player The player to register.
+     * @return The player's ID.
+     * @throws IllegalArgumentException if the player is registered with a different registry.
+     */
+    public int register(Player player) {
+        if (contains(player)) {
+            return player.getId();
+        }
+        if (player.getId() != Player.UNASSIGNED_ID) {
+            throw new IllegalArgumentException("Player " + player.getName() + " is already registered with ID " + player.getId());
+        }
+        ensureCapacity(size + 1);
+        int id = size++;
+        players[id] = player;
+        player.assignId(id);
+        return id;
+    }
+
+    /**
+     * Unregisters every player, returning their IDs to {@link Player#UNASSIGNED_ID} so they
+     * can be registered again, for example by the next game that reuses them. The backing
+     * array is kept.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            if (players[i] != null) {
+                players[i].assignId(Player.UNASSIGNED_ID);
+                players[i] = null;
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Checks whether a player is registered with this registry.
+     *
+     * @param player The player to check.
+     * @return {@code true} if the player is registered here.
+     */
+    public boolean contains(Player player) {
+        int id = player.getId();
+        return id >= 0 && id < size && players[id] == player;
+    }
+
+    /**
+     * Returns the player with the given ID.
+     *
+     * @param id The player ID.
+     * @return The player, or {@code null} if no player has that ID in this registry.
+     */
+    public Player get(int id) {
+        return id >= 0 && id < size ? players[id] : null;
+    }
+
+    /**
+     * Returns the number of IDs in use, which is one more than the highest assigned ID.
+     *
+     * @return The registry size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the registered players in ID order.
+     *
+     * @return An unmodifiable list of the registered players.
+     */
+    public List<Player> getPlayers() {
+        List<Player> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (players[i] != null) {
+                list.add(players[i]);
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Grows the backing array so it can hold at least the given number of players.
+     *
+     * @param capacity The required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > players.length) {
+            players = Arrays.copyOf(players, Math.max(capacity, players.length * 2));
+        }
+    }
+}
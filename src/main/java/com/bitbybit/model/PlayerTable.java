@@ -0,0 +1,559 @@
+package com.bitbybit.model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Stores the players of a large tournament column by column instead of as one {@link Player}
+ * object each. Rows are numbered in the order players are added; a row's name is a code into
+ * a dictionary of distinct names, and its score, change counter and answer statistics live in
+ * primitive arrays. A million players then cost about 28 bytes each, with per-player objects
+ * only for the rows asked for as a {@link Player}, and bulk passes such as
+ * {@link #addScores(int[])}, {@link #rankOrder()} and {@link #topK(int)} stream through
+ * contiguous arrays.
+ *
+ * <p>Code written against {@link Player} can still use the table: {@link #player(int)}
+ * returns a flyweight view of a row that reads and writes the columns. A row's view is
+ * created the first time it is asked for and then reused, so views can be added to a
+ * {@link Leaderboard}, a {@link ScoreHistory} or a {@link PlayerRegistry} like any player.
+ * Score listeners can be registered on the table, for every row, or on a view, for its row.
+ *
+ * <p>The capacity is fixed when the table is created, since a tournament knows its entrants
+ * when it opens. Adding rows is synchronized. Score updates are lock-free: like a
+ * {@link SimplePlayer}, each row packs its score and change counter into one long that is updated
+ * with compare-and-set, so views also work with {@link ScoreSnapshot}. Bulk reads see each
+ * row's latest score but are not a snapshot across rows while updates are in flight.
+ */
+public class PlayerTable {
+    private static final VarHandle STATES = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle COUNTS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle VIEWS = MethodHandles.arrayElementVarHandle(Row[].class);
+
+    private final int[] nameCodes;
+    // per row, high 32 bits: number of score changes; low 32 bits: the score
+    private final long[] scoreStates;
+    private final int[] answeredCounts;
+    private final int[] correctCounts;
+    // per row, the number of snapshots that have frozen the row's score
+    private final int[] scoreFreezes;
+    private final Row[] views;
+    private final Map<String, Integer> nameDictionary = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<ScoreListener> scoreListeners = new CopyOnWriteArrayList<>();
+    private volatile int size;
+
+    /**
+     * Constructs an empty table.
+     *
+     * @param capacity The maximum number of players.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public PlayerTable(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.nameCodes = new int[capacity];
+        this.scoreStates = new long[capacity];
+        this.answeredCounts = new int[capacity];
+        this.correctCounts = new int[capacity];
+        this.scoreFreezes = new int[capacity];
+        this.views = new Row[capacity];
+    }
+
+    /**
+     * Adds a player with a score of 0.
+     *
+     * @param name The player's name.
+     * @return The player's row.
+     * @throws IllegalStateException if the table is full.
+     */
+    public synchronized int add(String name) {
+        int row = size;
+        if (row == nameCodes.length) {
+            throw new IllegalStateException("Player table is full (" + row + " players)");
+        }
+        Integer code = nameDictionary.get(name);
+        if (code == null) {
+            code = names.size();
+            names.add(name);
+            nameDictionary.put(name, code);
+        }
+        nameCodes[row] = code;
+        size = row + 1;
+        return row;
+    }
+
+    /**
+     * Returns the number of players in the table.
+     *
+     * @return The player count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of players the table can hold.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return nameCodes.length;
+    }
+
+    /**
+     * Returns the number of distinct names in the name dictionary.
+     *
+     * @return The distinct name count.
+     */
+    public synchronized int getDistinctNameCount() {
+        return names.size();
+    }
+
+    /**
+     * Returns the flyweight {@link Player} view of a row, creating it on first use. Every call
+     * for the same row returns the same view.
+     *
+     * @param row The row.
+     * @return A view reading and writing the row.
+     * @throws IndexOutOfBoundsException if the row does not exist.
+     */
+    public Player player(int row) {
+        return view(checkRow(row));
+    }
+
+    private Row view(int row) {
+        Row view = (Row) VIEWS.getAcquire(views, row);
+        if (view == null) {
+            Row created = new Row(row);
+            view = (Row) VIEWS.compareAndExchange(views, row, null, created);
+            if (view == null) {
+                view = created;
+            }
+        }
+        return view;
+    }
+
+    /**
+     * Returns the name of a player.
+     *
+     * @param row The player's row.
+     * @return The name.
+     */
+    public synchronized String getName(int row) {
+        return names.get(nameCodes[checkRow(row)]);
+    }
+
+    /**
+     * Returns the current score of a player.
+     *
+     * @param row The player's row.
+     * @return The score.
+     */
+    public int getScore(int row) {
+        return (int) getScoreStamp(checkRow(row));
+    }
+
+    /**
+     * Returns a player's score and change counter packed like {@link Player}'s score stamp.
+     *
+     * @param row The player's row.
+     * @return The packed score stamp.
+     */
+    long getScoreStamp(int row) {
+        return (long) STATES.getVolatile(scoreStates, row);
+    }
+
+    /**
+     * Returns the number of questions a player has answered.
+     *
+     * @param row The player's row.
+     * @return The answered count.
+     */
+    public int getAnsweredCount(int row) {
+        return (int) COUNTS.getVolatile(answeredCounts, checkRow(row));
+    }
+
+    /**
+     * Returns the number of questions a player has answered correctly.
+     *
+     * @param row The player's row.
+     * @return The correct answer count.
+     */
+    public int getCorrectCount(int row) {
+        return (int) COUNTS.getVolatile(correctCounts, checkRow(row));
+    }
+
+    /**
+     * Adds points to a player's score. Safe to call from multiple threads.
+     *
+     * @param row The player's row.
+     * @param points The number of points to add.
+     */
+    public void addScore(int row, int points) {
+        updateScore(checkRow(row), score -> score + points);
+    }
+
+    /**
+     * Subtracts points from a player's score, which will not go below zero.
+     *
+     * @param row The player's row.
+     * @param points The number of points to subtract.
+     */
+    public void subtractScore(int row, int points) {
+        updateScore(checkRow(row), score -> Math.max(0, score - points));
+    }
+
+    /**
+     * Records an answer: counts it in the player's statistics, then adds the question's value
+     * for a correct answer or subtracts it for a wrong one.
+     *
+     * @param row The player's row.
+     * @param correct Whether the answer was correct.
+     * @param value The question's value.
+     */
+    public void recordAnswer(int row, boolean correct, int value) {
+        checkRow(row);
+        COUNTS.getAndAdd(answeredCounts, row, 1);
+        if (correct) {
+            COUNTS.getAndAdd(correctCounts, row, 1);
+            updateScore(row, score -> score + value);
+        } else {
+            updateScore(row, score -> Math.max(0, score - value));
+        }
+    }
+
+    /**
+     * Adds a round's points to many players in one pass, such as the results of a tournament
+     * round. Entry {@code i} of the array is added to row {@code i}; zero entries are skipped.
+     *
+     * @param deltas The points per row; may be shorter than the table.
+     * @throws IllegalArgumentException if the array is longer than the table.
+     */
+    public void addScores(int[] deltas) {
+        if (deltas.length > size) {
+            throw new IllegalArgumentException(deltas.length + " deltas for " + size + " players");
+        }
+        for (int row = 0; row < deltas.length; row++) {
+            int delta = deltas[row];
+            if (delta != 0) {
+                updateScore(row, score -> score + delta);
+            }
+        }
+    }
+
+    /**
+     * Resets every player's score to zero, for example between tournament stages. The answer
+     * statistics are kept.
+     */
+    public void resetScores() {
+        int count = size;
+        for (int row = 0; row < count; row++) {
+            updateScore(row, score -> 0);
+        }
+    }
+
+    /**
+     * Returns the rows ordered by rank: highest score first, and equal scores in row order,
+     * which is the order the players joined, as in {@link Leaderboard}.
+     *
+     * @return The rows in rank order.
+     */
+    public int[] rankOrder() {
+        int count = size;
+        long[] keys = new long[count];
+        for (int row = 0; row < count; row++) {
+            keys[row] = rankKey(row);
+        }
+        Arrays.parallelSort(keys);
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = rowOf(keys[i]);
+        }
+        return order;
+    }
+
+    /**
+     * Returns every player's 1-based rank, indexed by row.
+     *
+     * @return The ranks.
+     */
+    public int[] ranks() {
+        int[] order = rankOrder();
+        int[] ranks = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            ranks[order[i]] = i + 1;
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns the rows of the {@code k} highest-ranked players, in rank order. This keeps a
+     * heap of {@code k} entries instead of sorting the whole table.
+     *
+     * @param k The number of players.
+     * @return Up to {@code k} rows, best first.
+     */
+    public int[] topK(int k) {
+        int count = size;
+        int limit = Math.max(0, Math.min(k, count));
+        // max-heap of the smallest rank keys seen so far
+        long[] heap = new long[limit];
+        int filled = 0;
+        for (int row = 0; row < count && limit > 0; row++) {
+            long key = rankKey(row);
+            if (filled < limit) {
+                heap[filled] = key;
+                siftUp(heap, filled++);
+            } else if (key < heap[0]) {
+                heap[0] = key;
+                siftDown(heap, limit);
+            }
+        }
+        Arrays.sort(heap);
+        int[] rows = new int[limit];
+        for (int i = 0; i < limit; i++) {
+            rows[i] = rowOf(heap[i]);
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the rows of the players with a given name, in row order.
+     *
+     * @param name The name.
+     * @return The matching rows; empty if no player has the name.
+     */
+    public int[] rowsNamed(String name) {
+        int code;
+        int count;
+        synchronized (this) {
+            Integer found = nameDictionary.get(name);
+            if (found == null) {
+                return new int[0];
+            }
+            code = found;
+            count = size;
+        }
+        int[] rows = new int[8];
+        int matches = 0;
+        for (int row = 0; row < count; row++) {
+            if (nameCodes[row] == code) {
+                if (matches == rows.length) {
+                    rows = Arrays.copyOf(rows, matches * 2);
+                }
+                rows[matches++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, matches);
+    }
+
+    /**
+     * Registers a listener to be notified whenever any player's score changes. The listener
+     * receives the {@link #player(int) view} of the changed row.
+     *
+     * @param listener The listener to add.
+     */
+    public void addScoreListener(ScoreListener listener) {
+        scoreListeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered score listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeScoreListener(ScoreListener listener) {
+        scoreListeners.remove(listener);
+    }
+
+    /**
+     * Atomically applies an update to a row's score and bumps its change counter, then
+     * notifies the table's score listeners and those of the row's view if the score actually
+     * changed.
+     *
+     * @param row The row, already checked.
+     * @param update The function computing the new score from the current one.
+     */
+    private void updateScore(int row, IntUnaryOperator update) {
+        long current;
+        int newScore;
+        long next;
+        while ((int) COUNTS.getVolatile(scoreFreezes, row) != 0) {
+            Thread.onSpinWait();
+        }
+        do {
+            current = (long) STATES.getVolatile(scoreStates, row);
+            newScore = update.applyAsInt((int) current);
+            next = (((current >>> 32) + 1) << 32) | (newScore & 0xFFFFFFFFL);
+        } while (!STATES.compareAndSet(scoreStates, row, current, next));
+        int oldScore = (int) current;
+        if (oldScore == newScore) {
+            return;
+        }
+        Row existing = (Row) VIEWS.getAcquire(views, row);
+        List<ScoreListener> rowListeners = existing == null ? null : existing.listeners;
+        if (scoreListeners.isEmpty() && rowListeners == null) {
+            return;
+        }
+        Player view = existing != null ? existing : view(row);
+        for (ScoreListener listener : scoreListeners) {
+            listener.onScoreChanged(view, oldScore, newScore);
+        }
+        if (rowListeners != null) {
+            for (ScoreListener listener : rowListeners) {
+                listener.onScoreChanged(view, oldScore, newScore);
+            }
+        }
+    }
+
+    /**
+     * Packs a row's rank order into a non-negative long: the score, flipped so that higher
+     * scores sort first, in the upper 32 bits (below the sign bit), and the row in the lower 31.
+     *
+     * @param row The row.
+     * @return The sort key.
+     */
+    private long rankKey(int row) {
+        int score = (int) (long) STATES.getOpaque(scoreStates, row);
+        long descending = ~(score ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        return (descending << 31) | row;
+    }
+
+    private static int rowOf(long rankKey) {
+        return (int) (rankKey & Integer.MAX_VALUE);
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] >= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        long key = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (heap[child] <= key) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+
+    private int checkRow(int row) {
+        return Objects.checkIndex(row, size);
+    }
+
+    /**
+     * A flyweight {@link Player} showing one row of the table. Only its ID, which a
+     * {@link PlayerRegistry} assigns as for any player, and its listeners are kept in the view.
+     */
+    private final class Row extends Player {
+        private final int row;
+        private int id = UNASSIGNED_ID;
+        // created by the first listener registered on this view
+        private volatile List<ScoreListener> listeners;
+
+        Row(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String getName() {
+            return PlayerTable.this.getName(row);
+        }
+
+        @Override
+        public int getScore() {
+            return PlayerTable.this.getScore(row);
+        }
+
+        @Override
+        long getScoreStamp() {
+            return PlayerTable.this.getScoreStamp(row);
+        }
+
+        @Override
+        public void addScore(int points) {
+            PlayerTable.this.addScore(row, points);
+        }
+
+        @Override
+        void freezeScore() {
+            COUNTS.getAndAdd(scoreFreezes, row, 1);
+        }
+
+        @Override
+        void thawScore() {
+            COUNTS.getAndAdd(scoreFreezes, row, -1);
+        }
+
+        @Override
+        public void subtractScore(int points) {
+            PlayerTable.this.subtractScore(row, points);
+        }
+
+        @Override
+        public void resetScore() {
+            updateScore(row, score -> 0);
+        }
+
+        @Override
+        public void addScoreListener(ScoreListener listener) {
+            List<ScoreListener> list = listeners;
+            if (list == null) {
+                synchronized (this) {
+                    list = listeners;
+                    if (list == null) {
+                        list = new CopyOnWriteArrayList<>();
+                        listeners = list;
+                    }
+                }
+            }
+            list.add(listener);
+        }
+
+        @Override
+        public void removeScoreListener(ScoreListener listener) {
+            List<ScoreListener> list = listeners;
+            if (list != null) {
+                list.remove(listener);
+            }
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+
+        @Override
+        void assignId(int id) {
+            this.id = id;
+        }
+    }
+}
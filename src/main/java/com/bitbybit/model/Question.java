@@ -1,12 +1,30 @@
 package com.bitbybit.model;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
 /**
  * Represents a single Jeopardy question, including its category, value,
- * question text, multiple-choice options, correct answer, and whether it has been answered.
+ * question text, multiple-choice options, and correct answer.
+ * Questions are immutable, so one loaded {@link QuestionBank} can be shared between games;
+ * whether a question has been answered in a particular game is tracked by that game's {@link QuestionBoard}.
+ * A question may optionally reference an image or audio asset by name; the asset bytes
+ * themselves are served by {@link com.bitbybit.media.AssetStore} when the question is revealed.
+ * Questions may also carry optional tags and a difficulty rating, which {@link BoardFilter}s use
+ * to build themed boards.
  */
 public class Question {
+    /**
+     * The difficulty of a question that has not been rated.
+     */
+    public static final int UNRATED = 0;
+
     private final String id;
     private final String category;
+    private final CategoryKey categoryKey;
     private final int value;
     private final String question;
     private final String optionA;
@@ -14,7 +32,10 @@ public class Question {
     private final String optionC;
     private final String optionD;
     private final String correctAnswer;
-    private boolean isAnswered;
+    private final String mediaRef;
+    private final Set<String> tags;
+    private final int difficulty;
+    private final long contentHash;
 
     /**
      * Constructs a new Question instance.
@@ -39,8 +60,70 @@ public class Question {
             String optionC,
             String optionD,
             String correctAnswer) {
+        this(id, category, value, question, optionA, optionB, optionC, optionD, correctAnswer, null);
+    }
+
+    /**
+     * Constructs a new Question instance that references an image or audio asset.
+     *
+     * @param id A unique identifier for the question.
+     * @param category The category to which this question belongs.
+     * @param value The point value of the question.
+     * @param question The text of the question.
+     * @param optionA The text for option A.
+     * @param optionB The text for option B.
+     * @param optionC The text for option C.
+     * @param optionD The text for option D.
+     * @param correctAnswer The correct answer (e.g., "A", "B", "C", "D").
+     * @param mediaRef The name of the attached asset (e.g., "images/flag.png"), or {@code null} if none.
+     */
+    public Question(
+            String id,
+            String category,
+            int value,
+            String question,
+            String optionA,
+            String optionB,
+            String optionC,
+            String optionD,
+            String correctAnswer,
+            String mediaRef) {
+        this(id, category, value, question, optionA, optionB, optionC, optionD, correctAnswer, mediaRef, null, UNRATED);
+    }
+
+    /**
+     * Constructs a new Question instance with tags and a difficulty rating.
+     *
+     * @param id A unique identifier for the question.
+     * @param category The category to which this question belongs.
+     * @param value The point value of the question.
+     * @param question The text of the question.
+     * @param optionA The text for option A.
+     * @param optionB The text for option B.
+     * @param optionC The text for option C.
+     * @param optionD The text for option D.
+     * @param correctAnswer The correct answer (e.g., "A", "B", "C", "D").
+     * @param mediaRef The name of the attached asset, or {@code null} if none.
+     * @param tags The question's tags, or {@code null} if none. Tags are trimmed and lowercased;
+     *             blank tags are dropped.
+     * @param difficulty The difficulty rating, or {@link #UNRATED}.
+     */
+    public Question(
+            String id,
+            String category,
+            int value,
+            String question,
+            String optionA,
+            String optionB,
+            String optionC,
+            String optionD,
+            String correctAnswer,
+            String mediaRef,
+            Collection<String> tags,
+            int difficulty) {
         this.id = id;
         this.category = category;
+        this.categoryKey = CategoryKey.of(category);
         this.value = value;
         this.question = question;
         this.optionA = optionA;
@@ -48,7 +131,61 @@ public class Question {
         this.optionC = optionC;
         this.optionD = optionD;
         this.correctAnswer = correctAnswer;
-        this.isAnswered = false;
+        this.mediaRef = (mediaRef == null || mediaRef.isBlank()) ? null : mediaRef.trim();
+        this.tags = normalizeTags(tags);
+        this.difficulty = difficulty;
+        this.contentHash = hashContent(categoryKey.toString(), question);
+    }
+
+    /**
+     * Computes a 64-bit hash of a question's category key and text (FNV-1a, then the
+     * MurmurHash3 finalizer to spread the bits).
+     *
+     * @param categoryKey The normalized category.
+     * @param text The question text.
+     * @return The content hash.
+     */
+    private static long hashContent(String categoryKey, String text) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < categoryKey.length(); i++) {
+            h = (h ^ categoryKey.charAt(i)) * 0x100000001B3L;
+        }
+        h = (h ^ 0xFFFF) * 0x100000001B3L; // separator
+        if (text != null) {
+            for (int i = 0; i < text.length(); i++) {
+                h = (h ^ text.charAt(i)) * 0x100000001B3L;
+            }
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Normalizes a tag to the form it is stored and matched in.
+     *
+     * @param tag The tag as written.
+     * @return The trimmed, lowercased tag, or an empty string for {@code null}.
+     */
+    public static String normalizeTag(String tag) {
+        return tag == null ? "" : tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> normalizeTags(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String tag : tags) {
+            String t = normalizeTag(tag);
+            if (!t.isEmpty()) {
+                normalized.add(t);
+            }
+        }
+        return Collections.unmodifiableSet(normalized);
     }
 
     /**
@@ -69,6 +206,16 @@ public class Question {
         return category;
     }
 
+    /**
+     * Returns the canonical key of the question's category, computed once when the
+     * question was created. Use it for category comparisons instead of the raw name.
+     *
+     * @return The {@link CategoryKey} of the question's category.
+     */
+    public CategoryKey getCategoryKey() {
+        return categoryKey;
+    }
+
     /**
      * Returns the point value of the question.
      *
@@ -133,20 +280,59 @@ public class Question {
     }
 
     /**
-     * Checks if the question has been answered.
+     * Returns the name of the asset attached to this question.
+     *
+     * @return The media reference, or {@code null} if the question has no media.
+     */
+    public String getMediaRef() {
+        return mediaRef;
+    }
+
+    /**
+     * Checks if the question references an image or audio asset.
+     *
+     * @return {@code true} if a media reference is attached, {@code false} otherwise.
+     */
+    public boolean hasMedia() {
+        return mediaRef != null;
+    }
+
+    /**
+     * Returns the question's tags, normalized to lowercase.
+     *
+     * @return An unmodifiable set of tags; empty if the question has none.
+     */
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Checks whether the question carries a tag. The comparison ignores case and surrounding spaces.
+     *
+     * @param tag The tag to check.
+     * @return {@code true} if the question has the tag, {@code false} otherwise.
+     */
+    public boolean hasTag(String tag) {
+        return tags.contains(normalizeTag(tag));
+    }
+
+    /**
+     * Returns the difficulty rating of the question.
      *
-     * @return {@code true} if the question has been answered, {@code false} otherwise.
+     * @return The difficulty, or {@link #UNRATED} if the question has not been rated.
      */
-    public boolean isAnswered() {
-        return isAnswered;
+    public int getDifficulty() {
+        return difficulty;
     }
 
     /**
-     * Marks the question as answered or unanswered.
+     * Returns a stable 64-bit hash of the question's category and text. Unlike the ID, which
+     * loaders derive from the question's position in its file, the hash is the same whenever
+     * the same question is loaded, so it can identify questions across sessions and banks.
      *
-     * @param answered {@code true} to mark as answered, {@code false} to mark as unanswered.
+     * @return The content hash.
      */
-    public void markAnswered(boolean answered) {
-        isAnswered = answered;
+    public long getContentHash() {
+        return contentHash;
     }
 }
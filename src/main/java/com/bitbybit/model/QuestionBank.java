@@ -0,0 +1,440 @@
+package com.bitbybit.model;
+
+import java.util.*;
+
+/**
+ * An immutable, shareable collection of {@link Question}s together with the lookup
+ * structures built over them. A bank holds no game state, so a single loaded bank can back
+ * any number of concurrent games; each game keeps only a lightweight {@link QuestionBoard}
+ * overlay recording which of the bank's questions have been answered.
+ *
+ * <p>Every question occupies a fixed slot (its position in the bank). Per category, the slots
+ * are kept as int arrays ordered by value and then by original order, keyed by {@link CategoryKey}.
+ * All structures are built in the constructor and never modified, so a bank may be shared
+ * freely between threads once constructed.
+ *
+ * <p>The bank also keeps a {@link BitSet} over its slots for every category, value, tag and
+ * difficulty rating. {@link BoardFilter}s combine these with bitwise AND, OR and NOT, so
+ * selecting the questions for a themed board never scans the questions themselves.
+ *
+ * <p>A {@link #boardView(int[], int) board view} is a small bank over some of another bank's
+ * slots, used for generated boards. It shares the other bank's question objects and takes its
+ * categories already grouped and ordered, so building it costs O(board size). Its
+ * question-to-slot map, category trie and filter bit sets are built on first use, since most
+ * boards never need them; a bank built by the constructor builds them up front.
+ */
+public final class QuestionBank {
+    private final Question[] questions;
+    private final List<String> categories;
+    private final List<CategoryKey> categoryKeys;
+    private final Map<CategoryKey, CategorySlots> index;
+    private final CategorySlots[] byOrdinal;
+    private volatile Map<Question, Integer> slotByQuestion;
+    private volatile CategoryTrie categoryTrie;
+    private volatile FilterBits filterBits;
+
+    /**
+     * The bit sets over the bank's slots that {@link BoardFilter}s combine.
+     */
+    private static final class FilterBits {
+        final BitSet[] categoryBits;
+        final TreeMap<Integer, BitSet> valueBits = new TreeMap<>();
+        final TreeMap<Integer, BitSet> difficultyBits = new TreeMap<>();
+        final Map<String, BitSet> tagBits = new HashMap<>();
+
+        FilterBits(int categoryCount) {
+            this.categoryBits = new BitSet[categoryCount];
+        }
+    }
+
+    /**
+     * The questions of one category, as slot numbers ordered by value and then by bank order.
+     * {@code values[i]} is the value of the question in slot {@code slots[i]}.
+     */
+    static final class CategorySlots {
+        final int ordinal;
+        final CategoryKey key;
+        final int[] slots;
+        final int[] values;
+
+        CategorySlots(int ordinal, CategoryKey key, int[] slots, int[] values) {
+            this.ordinal = ordinal;
+            this.key = key;
+            this.slots = slots;
+            this.values = values;
+        }
+    }
+
+    /**
+     * Constructs a new bank from the given questions. {@code null} entries are skipped.
+     *
+     * @param questions The questions to include in the bank.
+     */
+    public QuestionBank(Collection<Question> questions) {
+        List<Question> present = new ArrayList<>(questions.size());
+        for (Question q : questions) {
+            if (q != null) {
+                present.add(q);
+            }
+        }
+        this.questions = present.toArray(new Question[0]);
+
+        Map<CategoryKey, List<Integer>> slotsByKey = new LinkedHashMap<>();
+        Set<String> categoriesSet = new HashSet<>();
+        for (int slot = 0; slot < this.questions.length; slot++) {
+            Question q = this.questions[slot];
+            categoriesSet.add(q.getCategory());
+            slotsByKey.computeIfAbsent(q.getCategoryKey(), k -> new ArrayList<>()).add(slot);
+        }
+        this.categories = sortedCategories(categoriesSet);
+        this.categoryKeys = keysOf(categories);
+
+        Map<CategoryKey, CategorySlots> indexMap = new HashMap<>();
+        this.byOrdinal = new CategorySlots[slotsByKey.size()];
+        int ordinal = 0;
+        for (Map.Entry<CategoryKey, List<Integer>> entry : slotsByKey.entrySet()) {
+            List<Integer> categorySlots = entry.getValue();
+            // stable sort keeps bank order among equal values
+            categorySlots.sort(Comparator.comparingInt(slot -> this.questions[slot].getValue()));
+            int[] slotArray = new int[categorySlots.size()];
+            int[] valueArray = new int[categorySlots.size()];
+            for (int i = 0; i < slotArray.length; i++) {
+                slotArray[i] = categorySlots.get(i);
+                valueArray[i] = this.questions[slotArray[i]].getValue();
+            }
+            CategorySlots slots = new CategorySlots(ordinal, entry.getKey(), slotArray, valueArray);
+            indexMap.put(entry.getKey(), slots);
+            byOrdinal[ordinal++] = slots;
+        }
+        this.index = indexMap;
+
+        slotByQuestion();
+        getCategoryTrie();
+        filterBits();
+    }
+
+    /**
+     * Constructs a board view over some of another bank's slots.
+     *
+     * @param parent The bank holding the questions.
+     * @param slots The parent's slots, in groups of {@code groupSize}.
+     * @param groupSize The number of slots in each group.
+     */
+    private QuestionBank(QuestionBank parent, int[] slots, int groupSize) {
+        this.questions = new Question[slots.length];
+        this.byOrdinal = new CategorySlots[groupSize == 0 ? 0 : slots.length / groupSize];
+        this.index = new HashMap<>(byOrdinal.length * 2);
+        Set<String> categoriesSet = new HashSet<>();
+        for (int ordinal = 0; ordinal < byOrdinal.length; ordinal++) {
+            int[] slotArray = new int[groupSize];
+            int[] valueArray = new int[groupSize];
+            for (int i = 0; i < groupSize; i++) {
+                int slot = ordinal * groupSize + i;
+                Question q = parent.questions[slots[slot]];
+                questions[slot] = q;
+                slotArray[i] = slot;
+                valueArray[i] = q.getValue();
+                categoriesSet.add(q.getCategory());
+            }
+            CategoryKey key = questions[ordinal * groupSize].getCategoryKey();
+            byOrdinal[ordinal] = new CategorySlots(ordinal, key, slotArray, valueArray);
+            index.put(key, byOrdinal[ordinal]);
+        }
+        this.categories = sortedCategories(categoriesSet);
+        this.categoryKeys = keysOf(categories);
+    }
+
+    private static List<String> sortedCategories(Set<String> names) {
+        List<String> sorted = new ArrayList<>(names);
+        Collections.sort(sorted);
+        return Collections.unmodifiableList(sorted);
+    }
+
+    private static List<CategoryKey> keysOf(List<String> categories) {
+        List<CategoryKey> keys = new ArrayList<>(categories.size());
+        for (String category : categories) {
+            keys.add(CategoryKey.of(category));
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * Creates a small bank over some of this bank's slots, for a generated board. Each group of
+     * {@code groupSize} consecutive slots becomes one category of the view; the slots of a group
+     * must belong to one category, no other group's category, and be ordered by value. The
+     * question objects are shared, and the view's lookup structures beyond the category index
+     * are built on first use, so the view costs O(slots).
+     *
+     * @param slots The slots to include, grouped by category.
+     * @param groupSize The number of questions per category.
+     * @return The view.
+     */
+    QuestionBank boardView(int[] slots, int groupSize) {
+        return new QuestionBank(this, slots, groupSize);
+    }
+
+    /**
+     * Constructs a new bank from an array of questions, as returned by a
+     * {@link com.bitbybit.input.QuestionLoader}.
+     *
+     * @param questions The questions to include in the bank.
+     * @return The new bank.
+     */
+    public static QuestionBank of(Question[] questions) {
+        return new QuestionBank(Arrays.asList(questions));
+    }
+
+    /**
+     * Returns the number of questions in the bank.
+     *
+     * @return The question count.
+     */
+    public int size() {
+        return questions.length;
+    }
+
+    /**
+     * Returns the question stored in a slot.
+     *
+     * @param slot The slot number, from 0 to {@link #size()} - 1.
+     * @return The question in that slot.
+     */
+    public Question getQuestion(int slot) {
+        return questions[slot];
+    }
+
+    /**
+     * Returns the slot of a question in this bank. Questions are matched by identity.
+     *
+     * @param question The question to look up.
+     * @return The question's slot, or -1 if the question is not in this bank.
+     */
+    public int slotOf(Question question) {
+        Integer slot = slotByQuestion().get(question);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns a copy of all questions in slot order.
+     *
+     * @return An array of the bank's questions.
+     */
+    public Question[] toArray() {
+        return questions.clone();
+    }
+
+    /**
+     * Returns the unique category names in the bank, sorted alphabetically.
+     *
+     * @return An unmodifiable list of category names in their original format.
+     */
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    /**
+     * Returns the canonical keys of the bank's category names, in the same order as
+     * {@link #getCategories()}.
+     *
+     * @return An unmodifiable list of category keys.
+     */
+    public List<CategoryKey> getCategoryKeys() {
+        return categoryKeys;
+    }
+
+    /**
+     * Returns the number of distinct categories, as identified by {@link CategoryKey}.
+     *
+     * @return The category count.
+     */
+    public int getCategoryCount() {
+        return byOrdinal.length;
+    }
+
+    /**
+     * Returns the {@link CategoryTrie} over the bank's categories, used to resolve prefixes
+     * and acronyms typed by players. It is built once with the bank.
+     *
+     * @return The category trie.
+     */
+    public CategoryTrie getCategoryTrie() {
+        CategoryTrie trie = categoryTrie;
+        if (trie == null) {
+            synchronized (this) {
+                trie = categoryTrie;
+                if (trie == null) {
+                    trie = new CategoryTrie(categories, categoryKeys);
+                    categoryTrie = trie;
+                }
+            }
+        }
+        return trie;
+    }
+
+    /**
+     * Returns the map from question to slot, building it on first use.
+     *
+     * @return The map, by identity.
+     */
+    private Map<Question, Integer> slotByQuestion() {
+        Map<Question, Integer> slots = slotByQuestion;
+        if (slots == null) {
+            synchronized (this) {
+                slots = slotByQuestion;
+                if (slots == null) {
+                    slots = new IdentityHashMap<>(questions.length);
+                    for (int slot = 0; slot < questions.length; slot++) {
+                        slots.putIfAbsent(questions[slot], slot);
+                    }
+                    slotByQuestion = slots;
+                }
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the filter bit sets, building them on first use.
+     *
+     * @return The bit sets.
+     */
+    private FilterBits filterBits() {
+        FilterBits bits = filterBits;
+        if (bits == null) {
+            synchronized (this) {
+                bits = filterBits;
+                if (bits == null) {
+                    bits = buildFilterBits();
+                    filterBits = bits;
+                }
+            }
+        }
+        return bits;
+    }
+
+    private FilterBits buildFilterBits() {
+        FilterBits bits = new FilterBits(byOrdinal.length);
+        for (CategorySlots category : byOrdinal) {
+            BitSet set = new BitSet(questions.length);
+            for (int slot : category.slots) {
+                set.set(slot);
+            }
+            bits.categoryBits[category.ordinal] = set;
+        }
+        for (int slot = 0; slot < questions.length; slot++) {
+            Question q = questions[slot];
+            bits.valueBits.computeIfAbsent(q.getValue(), v -> new BitSet()).set(slot);
+            bits.difficultyBits.computeIfAbsent(q.getDifficulty(), d -> new BitSet()).set(slot);
+            for (String tag : q.getTags()) {
+                bits.tagBits.computeIfAbsent(tag, t -> new BitSet()).set(slot);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Returns the distinct tags used by the bank's questions.
+     *
+     * @return A sorted set of normalized tags.
+     */
+    public SortedSet<String> getTags() {
+        return new TreeSet<>(filterBits().tagBits.keySet());
+    }
+
+    /**
+     * Creates a new bank holding only the questions in the given slots, in slot order.
+     * Used to build a themed board from the result of a {@link BoardFilter}.
+     *
+     * @param slots The slots to keep.
+     * @return The new bank.
+     */
+    public QuestionBank subset(BitSet slots) {
+        List<Question> selected = new ArrayList<>(slots.cardinality());
+        for (int slot = slots.nextSetBit(0); slot >= 0 && slot < questions.length; slot = slots.nextSetBit(slot + 1)) {
+            selected.add(questions[slot]);
+        }
+        return new QuestionBank(selected);
+    }
+
+    /**
+     * Returns the slots of a category's questions.
+     *
+     * @param key The canonical category key.
+     * @return A new bit set of slots; empty if the category is not in the bank.
+     */
+    BitSet categoryBits(CategoryKey key) {
+        CategorySlots category = index.get(key);
+        return category == null ? new BitSet() : (BitSet) filterBits().categoryBits[category.ordinal].clone();
+    }
+
+    /**
+     * Returns the slots of a category's questions by the category's ordinal.
+     *
+     * @param ordinal The category ordinal.
+     * @return The bank's own bit set, which must not be modified.
+     */
+    BitSet categoryBits(int ordinal) {
+        return filterBits().categoryBits[ordinal];
+    }
+
+    /**
+     * Returns the slots of the questions whose value lies in a range.
+     *
+     * @param min The lowest value to include.
+     * @param max The highest value to include.
+     * @return A new bit set of slots.
+     */
+    BitSet valueBits(int min, int max) {
+        return union(min > max ? Collections.emptyMap() : filterBits().valueBits.subMap(min, true, max, true));
+    }
+
+    /**
+     * Returns the slots of the questions whose difficulty lies in a range.
+     *
+     * @param min The lowest difficulty to include.
+     * @param max The highest difficulty to include.
+     * @return A new bit set of slots.
+     */
+    BitSet difficultyBits(int min, int max) {
+        return union(min > max ? Collections.emptyMap() : filterBits().difficultyBits.subMap(min, true, max, true));
+    }
+
+    /**
+     * Returns the slots of the questions carrying a tag.
+     *
+     * @param tag The tag; it is normalized like the questions' tags.
+     * @return A new bit set of slots; empty if no question has the tag.
+     */
+    BitSet tagBits(String tag) {
+        BitSet bits = filterBits().tagBits.get(Question.normalizeTag(tag));
+        return bits == null ? new BitSet() : (BitSet) bits.clone();
+    }
+
+    private static BitSet union(Map<Integer, BitSet> sets) {
+        BitSet result = new BitSet();
+        for (BitSet bits : sets.values()) {
+            result.or(bits);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the slot index for a category.
+     *
+     * @param key The canonical category key.
+     * @return The category's slots, or {@code null} if the category is not in the bank.
+     */
+    CategorySlots category(CategoryKey key) {
+        return index.get(key);
+    }
+
+    /**
+     * Returns the slot index for a category by its ordinal.
+     *
+     * @param ordinal The category ordinal, from 0 to {@link #getCategoryCount()} - 1.
+     * @return The category's slots.
+     */
+    CategorySlots category(int ordinal) {
+        return byOrdinal[ordinal];
+    }
+}
@@ -1,22 +1,102 @@
 package com.bitbybit.model;
 
 import java.util.*;
+import java.util.function.ToLongFunction;
 
 /**
  * Represents the Jeopardy game board, managing a collection of {@link Question}s.
  * It provides methods to retrieve categories, available question values within categories,
  * specific questions, and to mark questions as answered.
+ *
+ * <p>A board is a per-game overlay on an immutable, shareable {@link QuestionBank}. The bank
+ * indexes its questions by {@link CategoryKey} and then by value, so lookups cost at most one
+ * normalization of the caller's category plus a map lookup instead of a scan over every
+ * question. Callers that already hold a {@link CategoryKey} can use the key-based overloads
+ * and skip normalization entirely. Within a value, questions keep their original order.
+ *
+ * <p>The board itself only records which bank slots are answered, in a {@link BitSet}, plus a
+ * remaining-question counter per category and for the whole board. {@link #isBoardEmpty()} and
+ * the per-category availability and progress queries therefore run in constant time, and many
+ * games can share one bank at a cost of a few bytes of state each.
+ *
+ * <p>Every change made by {@link #markQuestionAsAnswered(CategoryKey, int)} bumps the board's
+ * version. {@link #getSnapshot()} caches an immutable {@link BoardSnapshot}, including the
+ * rendered board text, and only rebuilds it when the version has moved on.
+ *
+ * <p>Weighted random draws for auto-pick mode come from {@link QuestionSampler}s created with
+ * {@link #newSampler(ToLongFunction)}. The board keeps each sampler in step as questions are
+ * answered, until it is {@link #removeSampler(QuestionSampler) removed}. Each call creates a new
+ * sampler owned by the caller, who should keep it for reuse and remove it once it is no longer
+ * needed, so samplers do not pile up on a long-lived board.
+ *
+ * <p>{@link BoardFilter}s select questions by category, value, tag, difficulty and answered state
+ * using bit sets kept by the bank and the board, and {@link #createFilteredBoard(BoardFilter)}
+ * turns a selection into a new themed board.
  */
 public class QuestionBoard {
-    private final List<Question> questions;
+    private final QuestionBank bank;
+    private final BitSet answered;
+    private final int[] remainingByCategory;
+    private int remaining;
+    private long version;
+    private BoardSnapshot snapshot;
+    private final List<QuestionSampler> samplers = new ArrayList<>();
 
     /**
      * Constructs a new QuestionBoard with the given list of questions.
+     * A private {@link QuestionBank} is built for the questions.
      *
      * @param questions A list of {@link Question} objects to populate the board.
      */
     public QuestionBoard(List<Question> questions) {
-        this.questions = new ArrayList<>(questions);
+        this(new QuestionBank(questions));
+    }
+
+    /**
+     * Constructs a new QuestionBoard over a shared {@link QuestionBank}, with every question unanswered.
+     * The bank is not copied or modified.
+     *
+     * @param bank The bank of questions to play.
+     */
+    public QuestionBoard(QuestionBank bank) {
+        this.bank = bank;
+        this.answered = new BitSet(bank.size());
+        this.remainingByCategory = new int[bank.getCategoryCount()];
+        resetCounters();
+    }
+
+    /**
+     * Marks every question as unanswered again, so the board can be reused for another game
+     * without allocating a new one. The answered bits and counters are cleared in place, and
+     * the board's samplers are rebuilt in place and stay valid. The version keeps increasing,
+     * so a snapshot taken before the reset is not mistaken for the reset board.
+     */
+    public void reset() {
+        answered.clear();
+        resetCounters();
+        version++;
+        for (QuestionSampler sampler : samplers) {
+            sampler.rebuild(answered);
+        }
+    }
+
+    /**
+     * Sets the remaining-question counters to the full size of each category.
+     */
+    private void resetCounters() {
+        for (int ordinal = 0; ordinal < remainingByCategory.length; ordinal++) {
+            remainingByCategory[ordinal] = bank.category(ordinal).slots.length;
+        }
+        remaining = bank.size();
+    }
+
+    /**
+     * Returns the shared {@link QuestionBank} this board is played over.
+     *
+     * @return The question bank.
+     */
+    public QuestionBank getBank() {
+        return bank;
     }
 
     /**
@@ -26,27 +106,53 @@ public class QuestionBoard {
      * @return A {@link List} of category names (Strings), sorted alphabetically.
      */
     public List<String> getCategories() {
-        Set<String> categoriesSet = new HashSet<>();
-        for (Question q : questions) {
-            if (q != null) {
-                categoriesSet.add(q.getCategory());
-            }
-        }
-        List<String> categoriesList = new ArrayList<>(categoriesSet);
-        Collections.sort(categoriesList);
-        return categoriesList;
+        return new ArrayList<>(bank.getCategories());
+    }
+
+    /**
+     * Resolves what a player typed to one of the board's categories, accepting the full
+     * name, a unique prefix, or the acronym of a multi-word name. See {@link CategoryTrie}.
+     *
+     * @param input The canonical key of the player's input.
+     * @return The key of the resolved category, or {@code null} if the input matches no
+     *         category or is ambiguous.
+     */
+    public CategoryKey resolveCategory(CategoryKey input) {
+        return bank.getCategoryTrie().resolve(input);
     }
 
     /**
-     * Normalizes a category string by trimming whitespace, converting to lowercase,
-     * and removing all internal spaces. This is used for case-insensitive and
-     * space-insensitive matching.
+     * Lists the categories whose name or acronym starts with the player's input, for
+     * autocomplete and for suggesting matches when the input is ambiguous.
      *
-     * @param category The category string to normalize.
-     * @return The normalized category string.
+     * @param prefix The canonical key of the player's input.
+     * @return The display names of the matching categories, sorted alphabetically.
      */
-    private String normalizeCategory(String category) {
-        return category.trim().toLowerCase().replaceAll("\\s+", "");
+    public List<String> completeCategory(CategoryKey prefix) {
+        return bank.getCategoryTrie().complete(prefix);
+    }
+
+    /**
+     * Returns the position within a category of the first unanswered question with the given value.
+     *
+     * @param category The category's slots.
+     * @param value The point value to look for.
+     * @return The position in {@code category.slots}, or -1 if no unanswered question has that value.
+     */
+    private int firstUnanswered(QuestionBank.CategorySlots category, int value) {
+        int i = Arrays.binarySearch(category.values, value);
+        if (i < 0) {
+            return -1;
+        }
+        while (i > 0 && category.values[i - 1] == value) {
+            i--;
+        }
+        for (; i < category.values.length && category.values[i] == value; i++) {
+            if (!answered.get(category.slots[i])) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -58,19 +164,80 @@ public class QuestionBoard {
      * @return A {@link List} of available integer values, sorted numerically.
      */
     public List<Integer> getAvailableValues(String category) {
-        String normalizedCategory = normalizeCategory(category);
-        List<Integer> values = new ArrayList<>();
-        for (Question q : questions) {
-            if (q != null &&
-                    normalizeCategory(q.getCategory()).equals(normalizedCategory) &&
-                    !q.isAnswered()) {
-                values.add(q.getValue());
-            }
+        return getAvailableValues(CategoryKey.of(category));
+    }
+
+    /**
+     * Retrieves a sorted list of available point values for questions within a specific category.
+     * Only values for unanswered questions in the given category are returned.
+     * The category is given as a precomputed {@link CategoryKey}.
+     *
+     * @param key The canonical key of the category to search for.
+     * @return A {@link List} of available integer values, sorted numerically.
+     */
+    public List<Integer> getAvailableValues(CategoryKey key) {
+        int[] available = getAvailableValueArray(key);
+        List<Integer> values = new ArrayList<>(available.length);
+        for (int value : available) {
+            values.add(value);
         }
-        Collections.sort(values);
         return values;
     }
 
+    /**
+     * Returns the available point values of a category as a sorted primitive array,
+     * avoiding the boxing of {@link #getAvailableValues(String)}.
+     * The category matching is case-insensitive and space-insensitive.
+     *
+     * @param category The category name to search for.
+     * @return A new array of available values, sorted ascending; empty if the category is unknown.
+     */
+    public int[] getAvailableValueArray(String category) {
+        return getAvailableValueArray(CategoryKey.of(category));
+    }
+
+    /**
+     * Returns the available point values of a category as a sorted primitive array.
+     *
+     * @param key The canonical key of the category to search for.
+     * @return A new array of available values, sorted ascending; empty if the category is unknown.
+     */
+    public int[] getAvailableValueArray(CategoryKey key) {
+        QuestionBank.CategorySlots category = bank.category(key);
+        return category == null ? new int[0] : availableValues(category);
+    }
+
+    /**
+     * Copies the available point values of a category, sorted ascending, into a caller-supplied
+     * buffer. Reusing the buffer across turns makes this call allocation-free. At most
+     * {@code dest.length} values are copied; size the buffer with {@link #getRemainingCount(CategoryKey)}
+     * or {@link #getQuestionCount(CategoryKey)}.
+     *
+     * @param key The canonical key of the category to search for.
+     * @param dest The buffer to fill.
+     * @return The number of values written to {@code dest}.
+     */
+    public int copyAvailableValues(CategoryKey key, int[] dest) {
+        QuestionBank.CategorySlots category = bank.category(key);
+        if (category == null) {
+            return 0;
+        }
+        return copyAvailableValues(category, dest);
+    }
+
+    /**
+     * Checks whether a category still has an unanswered question with the given value,
+     * without allocating.
+     *
+     * @param key The canonical key of the category.
+     * @param value The point value to check.
+     * @return {@code true} if such a question is available, {@code false} otherwise.
+     */
+    public boolean isValueAvailable(CategoryKey key, int value) {
+        QuestionBank.CategorySlots category = bank.category(key);
+        return category != null && firstUnanswered(category, value) >= 0;
+    }
+
     /**
      * Retrieves a specific {@link Question} from the board based on its category and value.
      * Only unanswered questions are considered. The category matching is case-insensitive
@@ -81,16 +248,24 @@ public class QuestionBoard {
      * @return The matching {@link Question} object, or {@code null} if not found or already answered.
      */
     public Question getQuestion(String category, int value) {
-        String normalizedCategory = normalizeCategory(category);
-        for (Question q : questions) {
-            if (q != null &&
-                    normalizeCategory(q.getCategory()).equals(normalizedCategory) &&
-                    q.getValue() == value &&
-                    !q.isAnswered()) {
-                return q;
-            }
+        return getQuestion(CategoryKey.of(category), value);
+    }
+
+    /**
+     * Retrieves a specific {@link Question} from the board based on its category and value.
+     * Only unanswered questions are considered. The category is given as a precomputed {@link CategoryKey}.
+     *
+     * @param key The canonical key of the question's category.
+     * @param value The point value of the question.
+     * @return The matching {@link Question} object, or {@code null} if not found or already answered.
+     */
+    public Question getQuestion(CategoryKey key, int value) {
+        QuestionBank.CategorySlots category = bank.category(key);
+        if (category == null) {
+            return null;
         }
-        return null;
+        int i = firstUnanswered(category, value);
+        return i < 0 ? null : bank.getQuestion(category.slots[i]);
     }
 
     /**
@@ -101,16 +276,152 @@ public class QuestionBoard {
      * @param value The point value of the question to mark.
      */
     public void markQuestionAsAnswered(String category, int value) {
-        String normalizedCategory = normalizeCategory(category);
-        for (Question q : questions) {
-            if (q != null &&
-                    normalizeCategory(q.getCategory()).equals(normalizedCategory) &&
-                    q.getValue() == value &&
-                    !q.isAnswered()) {
-                q.markAnswered(true);
-                return;
+        markQuestionAsAnswered(CategoryKey.of(category), value);
+    }
+
+    /**
+     * Marks a specific question as answered. The category is given as a precomputed {@link CategoryKey}.
+     * The answered bit and the remaining-question counters are updated together.
+     *
+     * @param key The canonical key of the category of the question to mark.
+     * @param value The point value of the question to mark.
+     */
+    public void markQuestionAsAnswered(CategoryKey key, int value) {
+        QuestionBank.CategorySlots category = bank.category(key);
+        if (category == null) {
+            return;
+        }
+        int i = firstUnanswered(category, value);
+        if (i < 0) {
+            return;
+        }
+        markSlotAnswered(category, category.slots[i]);
+    }
+
+    /**
+     * Marks exactly the given question as answered, even when other unanswered questions in
+     * its category share its value. Used when a question was chosen directly, for example by a
+     * {@link QuestionSampler}.
+     *
+     * @param question The question to mark.
+     */
+    public void markQuestionAsAnswered(Question question) {
+        int slot = bank.slotOf(question);
+        if (slot < 0 || answered.get(slot)) {
+            return;
+        }
+        markSlotAnswered(bank.category(question.getCategoryKey()), slot);
+    }
+
+    /**
+     * Sets a slot's answered bit and updates the remaining-question counters, the version
+     * and the samplers together.
+     *
+     * @param category The slot's category.
+     * @param slot The unanswered slot to mark.
+     */
+    private void markSlotAnswered(QuestionBank.CategorySlots category, int slot) {
+        answered.set(slot);
+        remainingByCategory[category.ordinal]--;
+        remaining--;
+        version++;
+        for (QuestionSampler sampler : samplers) {
+            sampler.remove(slot);
+        }
+    }
+
+    /**
+     * Returns a {@link QuestionSampler} that draws this board's unanswered questions in
+     * proportion to the given weight. The sampler stays correct as questions are answered,
+     * until it is {@link #removeSampler(QuestionSampler) removed}, which the caller should do
+     * once it no longer needs the sampler.
+     *
+     * @param weight The weight of each question, such as {@code Question::getValue}; must not be negative.
+     * @return The sampler.
+     * @throws IllegalArgumentException if a weight is negative.
+     */
+    public QuestionSampler newSampler(ToLongFunction<Question> weight) {
+        QuestionSampler sampler = new QuestionSampler(bank, answered, weight);
+        samplers.add(sampler);
+        return sampler;
+    }
+
+    /**
+     * Stops keeping a sampler in step with the board. The sampler must not be used afterwards,
+     * since it would still draw questions answered after its removal.
+     *
+     * @param sampler The sampler to remove.
+     * @return {@code true} if the sampler belonged to this board.
+     */
+    public boolean removeSampler(QuestionSampler sampler) {
+        return samplers.remove(sampler);
+    }
+
+    /**
+     * Returns the number of samplers the board keeps in step.
+     *
+     * @return The sampler count.
+     */
+    int getSamplerCount() {
+        return samplers.size();
+    }
+
+    /**
+     * Returns the board version, which increases every time a question is marked as answered
+     * and when the board is reset.
+     *
+     * @return The current board version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an immutable snapshot of the board's categories and available values,
+     * with the board pre-rendered as text. The snapshot is cached and only rebuilt after
+     * the board has changed, so calling this once per turn is cheap.
+     *
+     * @return The {@link BoardSnapshot} for the current board version.
+     */
+    public BoardSnapshot getSnapshot() {
+        if (snapshot == null || snapshot.getVersion() != version) {
+            List<CategoryKey> keys = bank.getCategoryKeys();
+            int[][] values = new int[keys.size()][];
+            for (int c = 0; c < values.length; c++) {
+                values[c] = availableValues(bank.category(keys.get(c)));
             }
+            snapshot = new BoardSnapshot(version, bank.getCategories(), keys, values);
         }
+        return snapshot;
+    }
+
+    /**
+     * Collects the values of a category's unanswered questions, in ascending order.
+     *
+     * @param category The category's slots.
+     * @return A new array of available values.
+     */
+    private int[] availableValues(QuestionBank.CategorySlots category) {
+        int[] values = new int[remainingByCategory[category.ordinal]];
+        copyAvailableValues(category, values);
+        return values;
+    }
+
+    /**
+     * Writes the values of a category's unanswered questions, in ascending order, into a buffer.
+     *
+     * @param category The category's slots.
+     * @param dest The buffer to fill; values beyond its length are not written.
+     * @return The number of values written.
+     */
+    private int copyAvailableValues(QuestionBank.CategorySlots category, int[] dest) {
+        int n = 0;
+        for (int i = 0; i < category.slots.length && n < dest.length; i++) {
+            if (!answered.get(category.slots[i])) {
+                dest[n++] = category.values[i];
+            }
+        }
+        return n;
     }
 
     /**
@@ -119,27 +430,179 @@ public class QuestionBoard {
      * @return {@code true} if all questions are answered, {@code false} otherwise.
      */
     public boolean isBoardEmpty() {
-        for (Question q : questions) {
-            if (q != null && !q.isAnswered()) {
-                return false;
-            }
-        }
-        return true;
+        return remaining == 0;
     }
 
     /**
-     * Retrieves a list of all available (unanswered) questions within a specific category.
+     * Checks whether a category still has at least one unanswered question.
      * The category matching is case-insensitive and space-insensitive.
      *
+     * @param category The category name to check.
+     * @return {@code true} if the category has unanswered questions, {@code false} otherwise.
+     */
+    public boolean hasAvailableQuestions(String category) {
+        return getRemainingCount(CategoryKey.of(category)) > 0;
+    }
+
+    /**
+     * Checks whether a category still has at least one unanswered question.
+     *
+     * @param key The canonical key of the category to check.
+     * @return {@code true} if the category has unanswered questions, {@code false} otherwise.
+     */
+    public boolean hasAvailableQuestions(CategoryKey key) {
+        return getRemainingCount(key) > 0;
+    }
+
+    /**
+     * Returns the number of unanswered questions left in a category.
+     *
+     * @param key The canonical key of the category.
+     * @return The number of unanswered questions, or 0 if the category is not on the board.
+     */
+    public int getRemainingCount(CategoryKey key) {
+        QuestionBank.CategorySlots category = bank.category(key);
+        return category == null ? 0 : remainingByCategory[category.ordinal];
+    }
+
+    /**
+     * Returns the total number of questions in a category, answered or not.
+     *
+     * @param key The canonical key of the category.
+     * @return The number of questions, or 0 if the category is not on the board.
+     */
+    public int getQuestionCount(CategoryKey key) {
+        QuestionBank.CategorySlots category = bank.category(key);
+        return category == null ? 0 : category.slots.length;
+    }
+
+    /**
+     * Returns the number of unanswered questions left on the whole board.
+     *
+     * @return The number of unanswered questions.
+     */
+    public int getRemainingCount() {
+        return remaining;
+    }
+
+    /**
+     * Returns the number of questions on the board that have been answered.
+     *
+     * @return The number of answered questions.
+     */
+    public int getAnsweredCount() {
+        return bank.size() - remaining;
+    }
+
+    /**
+     * Returns the total number of questions on the board.
+     *
+     * @return The number of questions.
+     */
+    public int getQuestionCount() {
+        return bank.size();
+    }
+
+    /**
+     * Returns the number of unanswered questions left in a category, by ordinal.
+     *
+     * @param ordinal The category ordinal in the bank.
+     * @return The number of unanswered questions.
+     */
+    int getRemainingCount(int ordinal) {
+        return remainingByCategory[ordinal];
+    }
+
+    /**
+     * Returns the bank slots of the questions not yet answered on this board.
+     *
+     * @return A new bit set of unanswered slots.
+     */
+    BitSet unansweredBits() {
+        BitSet bits = (BitSet) answered.clone();
+        bits.flip(0, bank.size());
+        return bits;
+    }
+
+    /**
+     * Returns the questions matching a filter.
+     *
+     * @param filter The filter to apply.
+     * @return The matching questions, in bank order.
+     */
+    public List<Question> select(BoardFilter filter) {
+        BitSet bits = filter.evaluate(this);
+        List<Question> selected = new ArrayList<>(bits.cardinality());
+        for (int slot = bits.nextSetBit(0); slot >= 0 && slot < bank.size(); slot = bits.nextSetBit(slot + 1)) {
+            selected.add(bank.getQuestion(slot));
+        }
+        return selected;
+    }
+
+    /**
+     * Counts the questions matching a filter.
+     *
+     * @param filter The filter to apply.
+     * @return The number of matching questions.
+     */
+    public int count(BoardFilter filter) {
+        BitSet bits = filter.evaluate(this);
+        if (bits.length() > bank.size()) {
+            bits.clear(bank.size(), bits.length());
+        }
+        return bits.cardinality();
+    }
+
+    /**
+     * Builds a new board, with every question unanswered, from the questions matching a filter.
+     * Combine the filter with {@link BoardFilter#unanswered()} to leave out questions already
+     * played on this board.
+     *
+     * @param filter The filter selecting the questions of the new board.
+     * @return The themed board.
+     */
+    public QuestionBoard createFilteredBoard(BoardFilter filter) {
+        return new QuestionBoard(bank.subset(filter.evaluate(this)));
+    }
+
+    /**
+     * Checks whether a question has been answered on this board.
+     *
+     * @param question The question to check.
+     * @return {@code true} if the question is on this board and has been answered, {@code false} otherwise.
+     */
+    public boolean isAnswered(Question question) {
+        int slot = bank.slotOf(question);
+        return slot >= 0 && answered.get(slot);
+    }
+
+    /**
+     * Retrieves a list of all available (unanswered) questions within a specific category,
+     * ordered by value. The category matching is case-insensitive and space-insensitive.
+     *
      * @param category The category name to search for.
      * @return A {@link List} of available {@link Question} objects in the specified category.
      */
     public List<Question> getAvailableQuestions(String category) {
-        String normalizedCategory = normalizeCategory(category);
+        return getAvailableQuestions(CategoryKey.of(category));
+    }
+
+    /**
+     * Retrieves a list of all available (unanswered) questions within a specific category,
+     * ordered by value. The category is given as a precomputed {@link CategoryKey}.
+     *
+     * @param key The canonical key of the category to search for.
+     * @return A {@link List} of available {@link Question} objects in the specified category.
+     */
+    public List<Question> getAvailableQuestions(CategoryKey key) {
         List<Question> availableQuestions = new ArrayList<>();
-        for (Question q : questions) {
-            if (q != null && normalizeCategory(q.getCategory()).equals(normalizedCategory) && !q.isAnswered()) {
-                availableQuestions.add(q);
+        QuestionBank.CategorySlots category = bank.category(key);
+        if (category == null) {
+            return availableQuestions;
+        }
+        for (int slot : category.slots) {
+            if (!answered.get(slot)) {
+                availableQuestions.add(bank.getQuestion(slot));
             }
         }
         return availableQuestions;
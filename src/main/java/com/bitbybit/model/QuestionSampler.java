@@ -0,0 +1,153 @@
+package com.bitbybit.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.ToLongFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws unanswered questions from a {@link QuestionBoard} at random, in proportion to a weight
+ * assigned to each question (for example its value, its difficulty, or the inverse size of its
+ * category). Used by auto-pick mode, where the game chooses the next question.
+ *
+ * <p>The weights are held in a Fenwick (binary indexed) tree over the bank's slots, so a draw is
+ * a single O(log n) descent of the tree. Removals are needed as questions get answered, which
+ * rules out a static alias table: the board tells each of its samplers when a question is
+ * answered, and the sampler zeroes that slot's weight in O(log n). Answered questions are
+ * therefore never drawn, and weights never need to be rebuilt from the board.
+ *
+ * <p>Samplers are created with {@link QuestionBoard#newSampler(ToLongFunction)} and, like the
+ * board, are not thread-safe.
+ */
+public class QuestionSampler {
+    private final QuestionBank bank;
+    private final ToLongFunction<Question> weight;
+    private final long[] weights;
+    // 1-based Fenwick tree: tree[i] holds the sum of weights[i - lowbit(i) .. i - 1]
+    private final long[] tree;
+    private final int topStep;
+    private long totalWeight;
+
+    /**
+     * Constructs a sampler over a board's bank, giving answered slots a weight of zero.
+     * The tree is built in O(n).
+     *
+     * @param bank The bank whose slots are sampled.
+     * @param answered The slots already answered on the board.
+     * @param weight The weight of each question; must not be negative.
+     * @throws IllegalArgumentException if a weight is negative.
+     */
+    QuestionSampler(QuestionBank bank, BitSet answered, ToLongFunction<Question> weight) {
+        this.bank = bank;
+        this.weight = weight;
+        int n = bank.size();
+        this.weights = new long[n];
+        this.tree = new long[n + 1];
+        this.topStep = n == 0 ? 0 : Integer.highestOneBit(n);
+        rebuild(answered);
+    }
+
+    /**
+     * Recomputes every weight and rebuilds the tree in place, giving answered slots a weight
+     * of zero. Called by the board when it is reset, so a reused board keeps its samplers
+     * without allocating new ones.
+     *
+     * @param answered The slots answered on the board.
+     * @throws IllegalArgumentException if a weight is negative.
+     */
+    void rebuild(BitSet answered) {
+        int n = weights.length;
+        Arrays.fill(weights, 0);
+        Arrays.fill(tree, 0);
+        totalWeight = 0;
+        for (int slot = 0; slot < n; slot++) {
+            if (answered.get(slot)) {
+                continue;
+            }
+            long w = weight.applyAsLong(bank.getQuestion(slot));
+            if (w < 0) {
+                throw new IllegalArgumentException("Negative weight " + w + " for question " + bank.getQuestion(slot).getId());
+            }
+            weights[slot] = w;
+            tree[slot + 1] = w;
+            totalWeight += w;
+        }
+        for (int i = 1; i <= n; i++) {
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /**
+     * Removes a slot from the draw by setting its weight to zero.
+     * Called by the board when a question is answered.
+     *
+     * @param slot The slot that was answered.
+     */
+    void remove(int slot) {
+        long w = weights[slot];
+        if (w == 0) {
+            return;
+        }
+        weights[slot] = 0;
+        totalWeight -= w;
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] -= w;
+        }
+    }
+
+    /**
+     * Draws an unanswered question at random, with probability proportional to its weight.
+     *
+     * @param random The source of randomness.
+     * @return The drawn question, or {@code null} if no unanswered question has a positive weight.
+     */
+    public Question draw(RandomGenerator random) {
+        if (totalWeight == 0) {
+            return null;
+        }
+        return bank.getQuestion(find(random.nextLong(totalWeight)));
+    }
+
+    /**
+     * Finds the slot whose cumulative weight range contains a target, that is, the smallest
+     * slot whose prefix sum of weights exceeds {@code target}.
+     *
+     * @param target A value from 0 to {@link #getTotalWeight()} - 1.
+     * @return The slot.
+     */
+    private int find(long target) {
+        int pos = 0;
+        long remaining = target;
+        for (int step = topStep; step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next < tree.length && tree[next] <= remaining) {
+                pos = next;
+                remaining -= tree[next];
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Returns the sum of the weights of all questions that can still be drawn.
+     *
+     * @return The total weight.
+     */
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Returns the current weight of a question in this sampler.
+     *
+     * @param question The question to look up.
+     * @return The question's weight, or 0 if it is answered or not on the board.
+     */
+    public long getWeight(Question question) {
+        int slot = bank.slotOf(question);
+        return slot < 0 ? 0 : weights[slot];
+    }
+}
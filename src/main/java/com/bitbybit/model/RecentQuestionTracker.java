@@ -0,0 +1,90 @@
+package com.bitbybit.model;
+
+import java.util.BitSet;
+
+/**
+ * Remembers which questions of a {@link QuestionBank} one tenant has been served recently, so
+ * that {@link BoardGenerator} does not repeat them within a window of boards.
+ *
+ * <p>The window is split into a fixed number of generations, each a {@link BitSet} over the
+ * bank's slots covering an equal share of the window's boards. One generation more than that
+ * is kept, so when the current generation is full and the oldest one is cleared for reuse,
+ * every board it held is already outside the window. A question therefore stays recent for at
+ * least the window and at most one generation longer, and the tracker costs a fixed
+ * {@code generations + 1} bits per bank question however many boards are played.
+ *
+ * <p>Trackers are not thread-safe on their own; {@link BoardGenerator} locks the tracker while
+ * it generates a board for its tenant.
+ */
+public class RecentQuestionTracker {
+    private final BitSet[] generations;
+    private final int boardsPerGeneration;
+    private int current;
+    private int boardsInCurrent;
+
+    /**
+     * Constructs a tracker with nothing recent.
+     *
+     * @param window The number of boards after the one serving a question on which it must
+     *               not repeat.
+     * @param generationCount The number of generations the window is split into.
+     * @throws IllegalArgumentException if a parameter is not positive.
+     */
+    public RecentQuestionTracker(int window, int generationCount) {
+        if (window < 1 || generationCount < 1) {
+            throw new IllegalArgumentException("Window and generation count must be positive");
+        }
+        int count = Math.min(window, generationCount);
+        this.generations = new BitSet[count + 1];
+        for (int i = 0; i <= count; i++) {
+            generations[i] = new BitSet();
+        }
+        this.boardsPerGeneration = (window + count - 1) / count;
+    }
+
+    /**
+     * Checks whether a question was served within the window.
+     *
+     * @param slot The question's bank slot.
+     * @return {@code true} if the question is recent.
+     */
+    public boolean isRecent(int slot) {
+        for (BitSet generation : generations) {
+            if (generation.get(slot)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records the questions of a board that was just served, rotating to a fresh generation
+     * when the current one has covered its share of the window.
+     *
+     * @param slots The bank slots of the board's questions.
+     */
+    public void recordBoard(int[] slots) {
+        if (boardsInCurrent == boardsPerGeneration) {
+            current = (current + 1) % generations.length;
+            generations[current].clear();
+            boardsInCurrent = 0;
+        }
+        for (int slot : slots) {
+            generations[current].set(slot);
+        }
+        boardsInCurrent++;
+    }
+
+    /**
+     * Counts the distinct questions currently considered recent.
+     *
+     * @return The number of recent questions.
+     */
+    public int getRecentCount() {
+        BitSet all = new BitSet();
+        for (BitSet generation : generations) {
+            all.or(generation);
+        }
+        return all.cardinality();
+    }
+}
@@ -0,0 +1,270 @@
+package com.bitbybit.model;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Keeps each player's score over the course of a game, for charting score progression without
+ * rescanning the game's events. Every point is a turn number and the score after that turn.
+ *
+ * <p>A player's points are stored in a {@link Series} as a byte array of deltas from the
+ * previous point: the turn delta as an unsigned varint and the score delta as a zigzag varint.
+ * Consecutive turns and typical question values take one or two bytes each, so a game of
+ * thousands of turns costs a few kilobytes per player.
+ *
+ * <p>A history is not thread-safe; a game records its turns from one thread.
+ */
+public class ScoreHistory {
+    private final Map<Player, Series> series = new IdentityHashMap<>();
+
+    /**
+     * Appends a point to a player's series, starting the series on the player's first point.
+     *
+     * @param player The player.
+     * @param turn The turn number; must not be lower than the player's previous turn.
+     * @param score The player's score after the turn.
+     * @throws IllegalArgumentException if the turn goes backwards.
+     */
+    public void record(Player player, int turn, int score) {
+        series.computeIfAbsent(player, p -> new Series()).append(turn, score);
+    }
+
+    /**
+     * Returns a player's series.
+     *
+     * @param player The player.
+     * @return The player's series, or {@code null} if nothing was recorded for the player.
+     */
+    public Series get(Player player) {
+        return series.get(player);
+    }
+
+    /**
+     * Forgets every player's series.
+     */
+    public void clear() {
+        series.clear();
+    }
+
+    /**
+     * One player's score over time, delta-encoded.
+     */
+    public static final class Series {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private byte[] data = new byte[INITIAL_CAPACITY];
+        private int length;
+        private int size;
+        private int lastTurn;
+        private int lastScore;
+
+        /**
+         * Constructs an empty series.
+         */
+        public Series() {
+        }
+
+        /**
+         * Appends a point.
+         *
+         * @param turn The turn number; must not be lower than the previous point's turn.
+         * @param score The score after the turn.
+         * @throws IllegalArgumentException if the turn goes backwards.
+         */
+        public void append(int turn, int score) {
+            if (size > 0 && turn < lastTurn) {
+                throw new IllegalArgumentException("Turn " + turn + " is before turn " + lastTurn);
+            }
+            // at most 5 bytes per varint
+            if (length + 10 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            writeVarint(turn - lastTurn);
+            int delta = score - lastScore;
+            writeVarint((delta << 1) ^ (delta >> 31));
+            lastTurn = turn;
+            lastScore = score;
+            size++;
+        }
+
+        private void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+
+        /**
+         * Returns the number of points.
+         *
+         * @return The point count.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the turn of the last point.
+         *
+         * @return The last turn, or 0 if the series is empty.
+         */
+        public int getLastTurn() {
+            return lastTurn;
+        }
+
+        /**
+         * Returns the score of the last point.
+         *
+         * @return The last score, or 0 if the series is empty.
+         */
+        public int getLastScore() {
+            return lastScore;
+        }
+
+        /**
+         * Returns the number of bytes the encoded points take.
+         *
+         * @return The encoded size.
+         */
+        public int getEncodedSize() {
+            return length;
+        }
+
+        /**
+         * Returns a cursor over the points, which decodes them one at a time without
+         * allocating.
+         *
+         * @return A cursor positioned before the first point.
+         */
+        public Cursor cursor() {
+            return new Cursor(this);
+        }
+
+        /**
+         * Reduces the series to at most {@code maxPoints} points that keep its visual shape,
+         * for charting, using the Largest-Triangle-Three-Buckets algorithm. The first and last
+         * points are always kept; each bucket in between keeps the point forming the largest
+         * triangle with the point kept before it and the average of the next bucket.
+         *
+         * @param maxPoints The maximum number of points; at least 3.
+         * @return A new series; a copy of this one if it is already small enough.
+         * @throws IllegalArgumentException if {@code maxPoints} is less than 3.
+         */
+        public Series downsample(int maxPoints) {
+            if (maxPoints < 3) {
+                throw new IllegalArgumentException("Downsampling needs at least 3 points");
+            }
+            int[] turns = new int[size];
+            int[] scores = new int[size];
+            Cursor cursor = cursor();
+            for (int i = 0; cursor.next(); i++) {
+                turns[i] = cursor.getTurn();
+                scores[i] = cursor.getScore();
+            }
+            Series sampled = new Series();
+            if (size <= maxPoints) {
+                for (int i = 0; i < size; i++) {
+                    sampled.append(turns[i], scores[i]);
+                }
+                return sampled;
+            }
+            sampled.append(turns[0], scores[0]);
+            double bucketSize = (double) (size - 2) / (maxPoints - 2);
+            int kept = 0;
+            for (int b = 0; b < maxPoints - 2; b++) {
+                int start = (int) (b * bucketSize) + 1;
+                int end = b == maxPoints - 3 ? size - 1 : (int) ((b + 1) * bucketSize) + 1;
+                int nextEnd = b == maxPoints - 3 ? size : Math.min(size - 1, (int) ((b + 2) * bucketSize) + 1);
+                double averageTurn = 0;
+                double averageScore = 0;
+                for (int i = end; i < nextEnd; i++) {
+                    averageTurn += turns[i];
+                    averageScore += scores[i];
+                }
+                averageTurn /= nextEnd - end;
+                averageScore /= nextEnd - end;
+
+                int best = start;
+                double bestArea = -1;
+                for (int i = start; i < end; i++) {
+                    double area = Math.abs((turns[kept] - averageTurn) * (scores[i] - scores[kept])
+                            - (turns[kept] - turns[i]) * (averageScore - scores[kept]));
+                    if (area > bestArea) {
+                        bestArea = area;
+                        best = i;
+                    }
+                }
+                sampled.append(turns[best], scores[best]);
+                kept = best;
+            }
+            sampled.append(turns[size - 1], scores[size - 1]);
+            return sampled;
+        }
+    }
+
+    /**
+     * A forward-only cursor over a {@link Series}. The getters describe the point the cursor
+     * was last moved to.
+     */
+    public static final class Cursor {
+        private final Series series;
+        private int position;
+        private int remaining;
+        private int turn;
+        private int score;
+
+        private Cursor(Series series) {
+            this.series = series;
+            this.remaining = series.size;
+        }
+
+        /**
+         * Moves to the next point.
+         *
+         * @return {@code true} if there was another point.
+         */
+        public boolean next() {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            turn += readVarint();
+            int zigzag = readVarint();
+            score += (zigzag >>> 1) ^ -(zigzag & 1);
+            return true;
+        }
+
+        private int readVarint() {
+            byte[] data = series.data;
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+
+        /**
+         * Returns the turn of the current point.
+         *
+         * @return The turn number.
+         */
+        public int getTurn() {
+            return turn;
+        }
+
+        /**
+         * Returns the score of the current point.
+         *
+         * @return The score.
+         */
+        public int getScore() {
+            return score;
+        }
+    }
+}
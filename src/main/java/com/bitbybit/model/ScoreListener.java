@@ -0,0 +1,17 @@
+package com.bitbybit.model;
+
+/**
+ * Receives notifications when a {@link Player}'s score changes.
+ * Listeners are called on the thread that changed the score, after the change is visible.
+ */
+public interface ScoreListener {
+
+    /**
+     * Called after a player's score has changed.
+     *
+     * @param player The player whose score changed.
+     * @param oldScore The score before the change.
+     * @param newScore The score after the change.
+     */
+    void onScoreChanged(Player player, int oldScore, int newScore);
+}
@@ -0,0 +1,143 @@
+package com.bitbybit.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A consistent, point-in-time view of several players' scores, ordered for a leaderboard.
+ * All scores in a snapshot were held by their players at the same instant, even while other
+ * threads keep scoring.
+ *
+ * <p>The snapshot is taken without locks by double collection: every player's packed score
+ * stamp is read, then read again, and the pass is repeated until no stamp changed between
+ * the two reads. Because every score change bumps the player's change counter, equal stamps
+ * prove the scores were stable over the whole pass.
+ *
+ * <p>Under a continuous stream of score changes the passes could keep failing, so the number
+ * of lock-free passes is bounded. After {@value #OPTIMISTIC_ATTEMPTS} failed passes the
+ * snapshot freezes the scores of its own players: new score changes to those players wait
+ * until the snapshot is taken, so only writes already in progress can still land. Each of
+ * those changes one score once and finishes, so the passes stop failing after a bounded number
+ * of retries. Players outside the snapshot are never held up, and writers pay for the freeze
+ * only with one volatile read while their player is not frozen.
+ */
+public final class ScoreSnapshot {
+    /**
+     * The number of lock-free passes tried before freezing the players' scores.
+     */
+    static final int OPTIMISTIC_ATTEMPTS = 64;
+
+    private final List<Entry> entries;
+
+    /**
+     * One player's score within a snapshot.
+     */
+    public static final class Entry {
+        private final Player player;
+        private final int score;
+
+        Entry(Player player, int score) {
+            this.player = player;
+            this.score = score;
+        }
+
+        /**
+         * Returns the player this entry belongs to.
+         *
+         * @return The player.
+         */
+        public Player getPlayer() {
+            return player;
+        }
+
+        /**
+         * Returns the player's score at the time of the snapshot.
+         *
+         * @return The score.
+         */
+        public int getScore() {
+            return score;
+        }
+    }
+
+    private ScoreSnapshot(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Takes a consistent snapshot of the given players' scores.
+     *
+     * @param players The players to include.
+     * @return A snapshot whose entries are sorted by score, highest first; players with equal
+     *         scores keep their order from {@code players}.
+     */
+    public static ScoreSnapshot of(Collection<Player> players) {
+        Player[] list = players.toArray(new Player[0]);
+        long[] stamps = new long[list.length];
+        boolean stable = false;
+        for (int attempt = 0; attempt < OPTIMISTIC_ATTEMPTS && !stable; attempt++) {
+            stable = collect(list, stamps);
+        }
+        if (!stable) {
+            for (Player player : list) {
+                player.freezeScore();
+            }
+            try {
+                while (!collect(list, stamps)) {
+                    Thread.onSpinWait();
+                }
+            } finally {
+                for (Player player : list) {
+                    player.thawScore();
+                }
+            }
+        }
+
+        List<Entry> entries = new ArrayList<>(list.length);
+        for (int i = 0; i < list.length; i++) {
+            entries.add(new Entry(list[i], (int) stamps[i]));
+        }
+        entries.sort(Comparator.comparingInt(Entry::getScore).reversed());
+        return new ScoreSnapshot(Collections.unmodifiableList(entries));
+    }
+
+    /**
+     * Reads every player's stamp twice.
+     *
+     * @param list The players.
+     * @param stamps Filled with the stamps of the first read.
+     * @return {@code true} if no stamp changed between the two reads.
+     */
+    private static boolean collect(Player[] list, long[] stamps) {
+        for (int i = 0; i < list.length; i++) {
+            stamps[i] = list[i].getScoreStamp();
+        }
+        for (int i = 0; i < list.length; i++) {
+            if (list[i].getScoreStamp() != stamps[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the entries of the snapshot, highest score first.
+     *
+     * @return An unmodifiable list of entries.
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the entry with the highest score.
+     *
+     * @return The leading entry, or {@code null} if the snapshot is empty.
+     */
+    public Entry getLeader() {
+        return entries.isEmpty() ? null : entries.get(0);
+    }
+}
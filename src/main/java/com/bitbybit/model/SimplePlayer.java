@@ -0,0 +1,189 @@
+package com.bitbybit.model;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A {@link Player} that keeps its name, score and ID in its own fields, as every player does
+ * outside a {@link PlayerTable}.
+ *
+ * <p>Scoring is thread-safe and lock-free, so concurrent modes (buzzers, classroom answers,
+ * timers) can update a player from several threads. The score and a change counter are packed
+ * into a single {@link AtomicLong} and updated with compare-and-set, which keeps
+ * {@link #subtractScore(int)}'s clamp at zero atomic. The change counter lets
+ * {@link ScoreSnapshot} take consistent snapshots across many players without locking.
+ * Registered {@link ScoreListener}s, such as a {@link Leaderboard}, are told about every change.
+ */
+public class SimplePlayer extends Player {
+    private final String name;
+    // high 32 bits: number of score changes; low 32 bits: the score
+    private final AtomicLong scoreState;
+    // number of snapshots that have frozen this player's score
+    private final AtomicInteger scoreFreezes = new AtomicInteger();
+    private int id = UNASSIGNED_ID;
+    private final List<ScoreListener> scoreListeners;
+
+    /**
+     * Constructs a new player with the given name.
+     * The player's score is initialized to 0, and its ID is {@link #UNASSIGNED_ID} until
+     * the player is registered.
+     *
+     * @param name The name of the player.
+     */
+    public SimplePlayer(String name) {
+        this.name = name;
+        this.scoreState = new AtomicLong();
+        this.scoreListeners = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Returns the name of the player.
+     *
+     * @return The player's name.
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the current score of the player.
+     *
+     * @return The player's score.
+     */
+    @Override
+    public int getScore() {
+        return (int) scoreState.get();
+    }
+
+    /**
+     * Returns the player's score together with its change counter, packed into a long
+     * (counter in the high 32 bits, score in the low 32 bits). Two equal stamps read at
+     * different times mean the score did not change in between.
+     *
+     * @return The packed score stamp.
+     */
+    @Override
+    long getScoreStamp() {
+        return scoreState.get();
+    }
+
+    /**
+     * Adds points to the player's score. Safe to call from multiple threads.
+     *
+     * @param points The number of points to add.
+     */
+    @Override
+    public void addScore(int points) {
+        updateScore(score -> score + points);
+    }
+
+    /**
+     * Subtracts points from the player's score. The score will not go below zero.
+     * The read, clamp and write happen as one atomic update, so concurrent calls cannot
+     * push the score below zero.
+     *
+     * @param points The number of points to subtract.
+     */
+    @Override
+    public void subtractScore(int points) {
+        updateScore(score -> Math.max(0, score - points));
+    }
+
+    /**
+     * Sets the player's score back to zero, for example when a pooled player starts a new
+     * game. Score listeners are notified as for any other change.
+     */
+    @Override
+    public void resetScore() {
+        updateScore(score -> 0);
+    }
+
+    /**
+     * Registers a listener to be notified whenever this player's score changes.
+     *
+     * @param listener The listener to add.
+     */
+    @Override
+    public void addScoreListener(ScoreListener listener) {
+        scoreListeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered score listener.
+     *
+     * @param listener The listener to remove.
+     */
+    @Override
+    public void removeScoreListener(ScoreListener listener) {
+        scoreListeners.remove(listener);
+    }
+
+    /**
+     * Atomically applies an update to the score and bumps the change counter, then notifies
+     * the score listeners if the score actually changed.
+     *
+     * @param update The function computing the new score from the current one.
+     * @return The new score.
+     */
+    private int updateScore(IntUnaryOperator update) {
+        long current;
+        int newScore;
+        long next;
+        while (scoreFreezes.get() != 0) {
+            Thread.onSpinWait();
+        }
+        do {
+            current = scoreState.get();
+            newScore = update.applyAsInt((int) current);
+            next = (((current >>> 32) + 1) << 32) | (newScore & 0xFFFFFFFFL);
+        } while (!scoreState.compareAndSet(current, next));
+        int oldScore = (int) current;
+        if (oldScore != newScore) {
+            for (ScoreListener listener : scoreListeners) {
+                listener.onScoreChanged(this, oldScore, newScore);
+            }
+        }
+        return newScore;
+    }
+
+    /**
+     * Holds back new score changes until {@link #thawScore()}, so a {@link ScoreSnapshot}
+     * that keeps failing can finish. Freezes nest.
+     */
+    @Override
+    void freezeScore() {
+        scoreFreezes.incrementAndGet();
+    }
+
+    /**
+     * Releases one {@link #freezeScore()}.
+     */
+    @Override
+    void thawScore() {
+        scoreFreezes.decrementAndGet();
+    }
+
+    /**
+     * Returns the ID of the player. IDs are dense and unique within the player's registry.
+     *
+     * @return The player's ID, or {@link #UNASSIGNED_ID} if the player is not registered.
+     */
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Assigns the player's ID. Called by {@link PlayerRegistry} when the player is registered.
+     *
+     * @param id The ID to assign.
+     */
+    @Override
+    void assignId(int id) {
+        this.id = id;
+    }
+}
@@ -0,0 +1,148 @@
+package com.bitbybit.profile;
+
+/**
+ * A returning player's lifetime statistics, as kept by a {@link ProfileStore}. Profiles are
+ * immutable; recording a game produces a new profile.
+ */
+public final class PlayerProfile {
+    private final String name;
+    private final int gamesPlayed;
+    private final int gamesWon;
+    private final long totalScore;
+    private final int bestScore;
+    private final long questionsAnswered;
+    private final long correctAnswers;
+    private final long lastPlayed;
+
+    /**
+     * Constructs a profile.
+     *
+     * @param name The player's name.
+     * @param gamesPlayed The number of games finished.
+     * @param gamesWon The number of games finished with the highest score.
+     * @param totalScore The sum of the final scores of every game.
+     * @param bestScore The highest final score of any game.
+     * @param questionsAnswered The number of questions answered.
+     * @param correctAnswers The number of questions answered correctly.
+     * @param lastPlayed The time the last game finished, in milliseconds since the epoch.
+     */
+    public PlayerProfile(String name, int gamesPlayed, int gamesWon, long totalScore, int bestScore,
+                         long questionsAnswered, long correctAnswers, long lastPlayed) {
+        this.name = name;
+        this.gamesPlayed = gamesPlayed;
+        this.gamesWon = gamesWon;
+        this.totalScore = totalScore;
+        this.bestScore = bestScore;
+        this.questionsAnswered = questionsAnswered;
+        this.correctAnswers = correctAnswers;
+        this.lastPlayed = lastPlayed;
+    }
+
+    /**
+     * Returns the profile of a player who has not finished a game yet.
+     *
+     * @param name The player's name.
+     * @return An empty profile.
+     */
+    public static PlayerProfile empty(String name) {
+        return new PlayerProfile(name, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Returns this profile updated with one more finished game.
+     *
+     * @param score The player's final score.
+     * @param won Whether the player won the game.
+     * @param answered The number of questions the player answered.
+     * @param correct The number of those answered correctly.
+     * @param finishedAt The time the game finished, in milliseconds since the epoch.
+     * @return A new profile.
+     */
+    public PlayerProfile withGame(int score, boolean won, int answered, int correct, long finishedAt) {
+        return new PlayerProfile(name, gamesPlayed + 1, gamesWon + (won ? 1 : 0), totalScore + score,
+                gamesPlayed == 0 ? score : Math.max(bestScore, score), questionsAnswered + answered,
+                correctAnswers + correct, finishedAt);
+    }
+
+    /**
+     * Returns the player's name.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of games the player finished.
+     *
+     * @return The games played.
+     */
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Returns the number of games the player finished with the highest score, ties included.
+     *
+     * @return The games won.
+     */
+    public int getGamesWon() {
+        return gamesWon;
+    }
+
+    /**
+     * Returns the sum of the player's final scores; the global leaderboard ranks by it.
+     *
+     * @return The lifetime score.
+     */
+    public long getTotalScore() {
+        return totalScore;
+    }
+
+    /**
+     * Returns the player's highest final score.
+     *
+     * @return The best score, or 0 if no game was played.
+     */
+    public int getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * Returns the number of questions the player answered.
+     *
+     * @return The questions answered.
+     */
+    public long getQuestionsAnswered() {
+        return questionsAnswered;
+    }
+
+    /**
+     * Returns the number of questions the player answered correctly.
+     *
+     * @return The correct answers.
+     */
+    public long getCorrectAnswers() {
+        return correctAnswers;
+    }
+
+    /**
+     * Returns the time the player's last game finished.
+     *
+     * @return The time in milliseconds since the epoch, or 0 if no game was played.
+     */
+    public long getLastPlayed() {
+        return lastPlayed;
+    }
+
+    /**
+     * Returns a short summary of the profile.
+     *
+     * @return The name, games played and lifetime score.
+     */
+    @Override
+    public String toString() {
+        return name + " (" + gamesPlayed + " games, " + totalScore + " points)";
+    }
+}
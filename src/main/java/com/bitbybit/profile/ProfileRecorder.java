@@ -0,0 +1,85 @@
+package com.bitbybit.profile;
+
+import com.bitbybit.logging.GameEvent;
+import com.bitbybit.logging.GameFinishedEvent;
+import com.bitbybit.logging.GameObserver;
+import com.bitbybit.logging.QuestionAnsweredEvent;
+import com.bitbybit.model.Player;
+import com.bitbybit.model.ScoreSnapshot;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An observer that counts each player's answers during a game and, when a
+ * {@link GameFinishedEvent} carrying final scores arrives, adds the game to every player's
+ * profile in a {@link ProfileStore}. Every player with the highest final score is counted as
+ * a winner, including players who are not recorded.
+ *
+ * <p>Profiles are kept by player name, so players with a
+ * {@link Player#isDefaultName(String) default name}, which different people share, do not
+ * get a profile.
+ */
+public class ProfileRecorder implements GameObserver {
+    private final ProfileStore store;
+    private final Map<String, int[]> answers = new HashMap<>();
+
+    /**
+     * Constructs a recorder.
+     *
+     * @param store The store holding the players' profiles.
+     */
+    public ProfileRecorder(ProfileStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Counts answers and records the finished game. Failures to write a profile are reported
+     * but do not interrupt the game.
+     *
+     * @param event The game event.
+     */
+    @Override
+    public synchronized void onEvent(GameEvent event) {
+        if (event instanceof QuestionAnsweredEvent) {
+            QuestionAnsweredEvent answered = (QuestionAnsweredEvent) event;
+            int[] counts = answers.computeIfAbsent(answered.getPlayer().getName(), k -> new int[2]);
+            counts[0]++;
+            if (answered.isCorrect()) {
+                counts[1]++;
+            }
+        } else if (event instanceof GameFinishedEvent) {
+            ScoreSnapshot scores = ((GameFinishedEvent) event).getFinalScores();
+            if (scores != null) {
+                record(scores, System.currentTimeMillis());
+            }
+            answers.clear();
+        }
+    }
+
+    private void record(ScoreSnapshot scores, long finishedAt) {
+        int best = scores.getLeader() == null ? 0 : scores.getLeader().getScore();
+        for (ScoreSnapshot.Entry entry : scores.getEntries()) {
+            String name = entry.getPlayer().getName();
+            if (Player.isDefaultName(name)) {
+                continue;
+            }
+            int[] counts = answers.getOrDefault(name, new int[2]);
+            try {
+                store.recordGame(name, entry.getScore(), entry.getScore() == best, counts[0], counts[1], finishedAt);
+            } catch (IOException e) {
+                System.err.println("Could not update profile of " + name + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the store the recorder writes to.
+     *
+     * @return The store.
+     */
+    public ProfileStore getStore() {
+        return store;
+    }
+}
@@ -0,0 +1,425 @@
+package com.bitbybit.profile;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * Keeps returning players' lifetime statistics on disk, together with a global leaderboard
+ * ranked by lifetime score. A profile is identified by the name the player enters, so two
+ * people who enter the same name share a profile.
+ *
+ * <p>Profiles live in an append-only log, {@code profiles.log}. Recording a game appends the
+ * player's whole updated profile as one record: its payload length, a CRC-32 of the payload,
+ * then the payload. Older records of the same player become garbage until {@link #compact()}
+ * rewrites the log.
+ *
+ * <p>Only the index is held in memory: a hash map from name to the offset of the player's
+ * latest record, and a sorted set of the same entries ordered by lifetime score. Looking up a
+ * profile is one hash lookup and one positional read; recording a game moves one entry in the
+ * sorted set in O(log n); {@link #topK(int)} walks the first k entries. None of these depend
+ * on the number of profiles beyond the logarithm, so they stay well under a millisecond with
+ * millions of players.
+ *
+ * <p>{@link #checkpoint()} saves the index to {@code profiles.idx}: the magic number
+ * {@code "JPIX"}, a format version, the log length it covers, then every entry in leaderboard
+ * order. Opening a store loads the index and replays only the log records written after it.
+ * A record cut short by a crash fails its length or checksum check and is truncated away; if
+ * the index is missing or unreadable, the whole log is replayed.
+ *
+ * <p>The store is thread-safe; all operations are synchronized.
+ */
+public class ProfileStore implements Closeable {
+    private static final String LOG_NAME = "profiles.log";
+    private static final String INDEX_NAME = "profiles.idx";
+    private static final int MAGIC = 0x4A504958; // "JPIX"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 1 << 16;
+
+    private final Path logFile;
+    private final Path indexFile;
+    private FileChannel channel;
+    private long logLength;
+    private final Map<String, Entry> index = new HashMap<>();
+    private final TreeSet<Entry> leaderboard = new TreeSet<>(ProfileStore::compareEntries);
+
+    /**
+     * A player's place in the index: where the latest record is and the lifetime score the
+     * leaderboard orders by. An entry must be removed from the leaderboard before its score
+     * changes.
+     */
+    private static final class Entry {
+        final String name;
+        long offset;
+        long totalScore;
+
+        Entry(String name, long offset, long totalScore) {
+            this.name = name;
+            this.offset = offset;
+            this.totalScore = totalScore;
+        }
+    }
+
+    private ProfileStore(Path directory, FileChannel channel) {
+        this.logFile = directory.resolve(LOG_NAME);
+        this.indexFile = directory.resolve(INDEX_NAME);
+        this.channel = channel;
+    }
+
+    /**
+     * Opens the store in a directory, creating the directory and an empty log if needed.
+     *
+     * @param directory The directory holding the log and index files.
+     * @return The open store.
+     * @throws IOException if the log cannot be opened or read.
+     */
+    public static ProfileStore open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel channel = FileChannel.open(directory.resolve(LOG_NAME), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ProfileStore store = new ProfileStore(directory, channel);
+        try {
+            store.replay(store.loadIndex());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * Returns a player's profile.
+     *
+     * @param name The player's name.
+     * @return The profile, or {@code null} if the player has not finished a game.
+     * @throws IOException if the profile cannot be read.
+     */
+    public synchronized PlayerProfile getProfile(String name) throws IOException {
+        Entry entry = index.get(name);
+        return entry == null ? null : read(entry.offset);
+    }
+
+    /**
+     * Adds a finished game to a player's profile, creating the profile on the player's first
+     * game, and moves the player on the leaderboard.
+     *
+     * @param name The player's name.
+     * @param score The player's final score.
+     * @param won Whether the player won the game.
+     * @param answered The number of questions the player answered.
+     * @param correct The number of those answered correctly.
+     * @param finishedAt The time the game finished, in milliseconds since the epoch.
+     * @return The updated profile.
+     * @throws IOException if the profile cannot be read or written.
+     */
+    public synchronized PlayerProfile recordGame(String name, int score, boolean won, int answered,
+                                                 int correct, long finishedAt) throws IOException {
+        Entry entry = index.get(name);
+        PlayerProfile current = entry == null ? PlayerProfile.empty(name) : read(entry.offset);
+        PlayerProfile updated = current.withGame(score, won, answered, correct, finishedAt);
+        long offset = append(updated);
+        if (entry == null) {
+            entry = new Entry(name, offset, updated.getTotalScore());
+            index.put(name, entry);
+        } else {
+            leaderboard.remove(entry);
+            entry.offset = offset;
+            entry.totalScore = updated.getTotalScore();
+        }
+        leaderboard.add(entry);
+        return updated;
+    }
+
+    /**
+     * Returns the players with the highest lifetime scores.
+     *
+     * @param k The maximum number of players.
+     * @return Up to {@code k} profiles, highest lifetime score first; players with equal
+     *         scores are ordered by name.
+     * @throws IOException if a profile cannot be read.
+     */
+    public synchronized List<PlayerProfile> topK(int k) throws IOException {
+        List<PlayerProfile> top = new ArrayList<>(Math.min(k, leaderboard.size()));
+        Iterator<Entry> entries = leaderboard.iterator();
+        while (top.size() < k && entries.hasNext()) {
+            top.add(read(entries.next().offset));
+        }
+        return top;
+    }
+
+    /**
+     * Returns the number of profiles.
+     *
+     * @return The profile count.
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns the length of the log, including records superseded by later games.
+     *
+     * @return The log length in bytes.
+     */
+    public synchronized long getLogLength() {
+        return logLength;
+    }
+
+    /**
+     * Flushes the log to disk and saves the index, so that the next open replays nothing.
+     * The index is written to a temporary file first and then moved into place.
+     *
+     * @throws IOException if the log cannot be flushed or the index cannot be written.
+     */
+    public synchronized void checkpoint() throws IOException {
+        channel.force(false);
+        Path temp = indexFile.resolveSibling(INDEX_NAME + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(logLength);
+            out.writeInt(leaderboard.size());
+            for (Entry entry : leaderboard) {
+                out.writeUTF(entry.name);
+                out.writeLong(entry.offset);
+                out.writeLong(entry.totalScore);
+            }
+        }
+        Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Rewrites the log with only each player's latest record, then saves the index. The index
+     * file is deleted before the new log is moved into place, so a crash in between leads to
+     * a full replay rather than to offsets into the wrong log.
+     *
+     * @throws IOException if the log cannot be rewritten.
+     */
+    public synchronized void compact() throws IOException {
+        Path temp = logFile.resolveSibling(LOG_NAME + ".tmp");
+        long[] offsets = new long[leaderboard.size()];
+        long position = 0;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            int i = 0;
+            for (Entry entry : leaderboard) {
+                ByteBuffer record = readRecord(entry.offset);
+                offsets[i++] = position;
+                while (record.hasRemaining()) {
+                    position += out.write(record);
+                }
+            }
+            out.force(false);
+        }
+        Files.deleteIfExists(indexFile);
+        channel.close();
+        try {
+            Files.move(temp, logFile, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            channel = FileChannel.open(logFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        int i = 0;
+        for (Entry entry : leaderboard) {
+            entry.offset = offsets[i++];
+        }
+        logLength = position;
+        checkpoint();
+    }
+
+    /**
+     * Checkpoints the index and closes the log.
+     *
+     * @throws IOException if the checkpoint fails; the log is closed regardless.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            checkpoint();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Loads the saved index, if it is present, readable and consistent with the log.
+     *
+     * @return The log length the index covers, or 0 if the whole log must be replayed.
+     * @throws IOException if the log size cannot be read.
+     */
+    private long loadIndex() throws IOException {
+        if (!Files.exists(indexFile)) {
+            return 0;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return 0;
+            }
+            long covered = in.readLong();
+            int count = in.readInt();
+            if (covered > channel.size() || count < 0) {
+                return 0;
+            }
+            for (int i = 0; i < count; i++) {
+                Entry entry = new Entry(in.readUTF(), in.readLong(), in.readLong());
+                index.put(entry.name, entry);
+                leaderboard.add(entry);
+            }
+            return covered;
+        } catch (IOException e) {
+            index.clear();
+            leaderboard.clear();
+            return 0;
+        }
+    }
+
+    /**
+     * Replays the log from a position, indexing every complete record and truncating a torn
+     * record at the end.
+     *
+     * @param from The position to start from.
+     * @throws IOException if the log cannot be read or truncated.
+     */
+    private void replay(long from) throws IOException {
+        long size = channel.size();
+        long position = from;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length <= 0 || length > MAX_RECORD_BYTES || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, position + HEADER_BYTES);
+            if (checksum(payload.array()) != checksum) {
+                break;
+            }
+            PlayerProfile profile = decode(payload.array());
+            Entry entry = index.get(profile.getName());
+            if (entry == null) {
+                entry = new Entry(profile.getName(), position, profile.getTotalScore());
+                index.put(entry.name, entry);
+            } else {
+                leaderboard.remove(entry);
+                entry.offset = position;
+                entry.totalScore = profile.getTotalScore();
+            }
+            leaderboard.add(entry);
+            position += HEADER_BYTES + length;
+        }
+        if (position < size) {
+            channel.truncate(position);
+        }
+        logLength = position;
+    }
+
+    /**
+     * Appends a profile record to the end of the log.
+     *
+     * @param profile The profile.
+     * @return The offset of the record.
+     * @throws IOException if the record cannot be written.
+     */
+    private long append(PlayerProfile profile) throws IOException {
+        byte[] payload = encode(profile);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        record.putInt(payload.length).putInt(checksum(payload)).put(payload).flip();
+        long offset = logLength;
+        while (record.hasRemaining()) {
+            channel.write(record, offset + record.position());
+        }
+        logLength = offset + record.limit();
+        return offset;
+    }
+
+    private PlayerProfile read(long offset) throws IOException {
+        ByteBuffer record = readRecord(offset);
+        return decode(record.array(), HEADER_BYTES, record.limit() - HEADER_BYTES);
+    }
+
+    /**
+     * Reads a whole record, header included.
+     *
+     * @param offset The offset of the record.
+     * @return A buffer holding the record, ready to be read.
+     * @throws IOException if the record cannot be read.
+     */
+    private ByteBuffer readRecord(long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(header, offset);
+        int length = header.getInt(0);
+        if (length <= 0 || length > MAX_RECORD_BYTES) {
+            throw new IOException("Corrupt profile record at offset " + offset);
+        }
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + length);
+        readFully(record, offset);
+        record.flip();
+        return record;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Profile log ends at " + channel.size());
+            }
+        }
+    }
+
+    private static byte[] encode(PlayerProfile profile) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeUTF(profile.getName());
+        out.writeInt(profile.getGamesPlayed());
+        out.writeInt(profile.getGamesWon());
+        out.writeLong(profile.getTotalScore());
+        out.writeInt(profile.getBestScore());
+        out.writeLong(profile.getQuestionsAnswered());
+        out.writeLong(profile.getCorrectAnswers());
+        out.writeLong(profile.getLastPlayed());
+        return bytes.toByteArray();
+    }
+
+    private static PlayerProfile decode(byte[] payload) throws IOException {
+        return decode(payload, 0, payload.length);
+    }
+
+    private static PlayerProfile decode(byte[] data, int offset, int length) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, offset, length));
+        return new PlayerProfile(in.readUTF(), in.readInt(), in.readInt(), in.readLong(), in.readInt(),
+                in.readLong(), in.readLong(), in.readLong());
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static int compareEntries(Entry a, Entry b) {
+        int byScore = Long.compare(b.totalScore, a.totalScore);
+        return byScore != 0 ? byScore : a.name.compareTo(b.name);
+    }
+}
@@ -0,0 +1,220 @@
+package com.bitbybit.profile;
+
+import com.bitbybit.model.Question;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A Bloom filter of the questions one player has seen, so that boards in later sessions can
+ * avoid repeating them. It never forgets a question it was given, and reports an unseen
+ * question as seen with roughly the false-positive rate it was sized for, at a fixed cost of
+ * about {@code -ln(p) / ln(2)^2} bits per question however long the questions are.
+ *
+ * <p>Questions are hashed once, when they are constructed ({@link Question#getContentHash()}),
+ * and the filter derives its {@code k} bit positions from that 64-bit hash by double hashing,
+ * so a lookup is {@code k} multiply-adds and array reads.
+ *
+ * <p>A filter is saved with {@link #writeTo(OutputStream)} in a small binary format: the magic
+ * number {@code "JBLM"}, a format version, the hash count, the bit count, the number of
+ * insertions and the bit words.
+ *
+ * <p>Filters are not thread-safe; callers that share one must synchronize.
+ */
+public class SeenQuestionFilter {
+    private static final int MAGIC = 0x4A424C4D; // "JBLM"
+    private static final int VERSION = 1;
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashCount;
+    private long insertions;
+
+    /**
+     * Constructs an empty filter sized for an expected number of questions and a target
+     * false-positive rate.
+     *
+     * @param expectedInsertions The number of questions the filter should hold at that rate.
+     * @param falsePositiveRate The probability of reporting an unseen question as seen,
+     *                          between 0 and 1 exclusive.
+     * @throws IllegalArgumentException if a parameter is out of range.
+     */
+    public SeenQuestionFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = (int) Math.max(1, (bits + 63) >>> 6);
+        this.words = new long[wordCount];
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+    }
+
+    private SeenQuestionFilter(long[] words, int hashCount, long insertions) {
+        this.words = words;
+        this.bitCount = (long) words.length << 6;
+        this.hashCount = hashCount;
+        this.insertions = insertions;
+    }
+
+    /**
+     * Records a question as seen.
+     *
+     * @param question The question.
+     */
+    public void put(Question question) {
+        put(question.getContentHash());
+    }
+
+    /**
+     * Records a question as seen by its content hash.
+     *
+     * @param hash The question's {@link Question#getContentHash() content hash}.
+     */
+    public void put(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1, h2, i);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        insertions++;
+    }
+
+    /**
+     * Checks whether a question may have been seen. A {@code false} result is certain; a
+     * {@code true} result is wrong with about the filter's false-positive rate.
+     *
+     * @param question The question.
+     * @return {@code true} if the question may have been seen.
+     */
+    public boolean mightContain(Question question) {
+        return mightContain(question.getContentHash());
+    }
+
+    /**
+     * Checks whether a question may have been seen, by its content hash.
+     *
+     * @param hash The question's {@link Question#getContentHash() content hash}.
+     * @return {@code true} if the question may have been seen.
+     */
+    public boolean mightContain(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1, h2, i);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the i-th bit position of a hash as {@code h1 + i * h2} (Kirsch and Mitzenmacher).
+     *
+     * @param h1 The low half of the hash.
+     * @param h2 The high half of the hash.
+     * @param i The probe number.
+     * @return The bit position.
+     */
+    private long index(int h1, int h2, int i) {
+        long combined = h1 + (long) i * h2;
+        return Math.floorMod(combined, bitCount);
+    }
+
+    /**
+     * Returns the number of questions put into the filter, counting repeats.
+     *
+     * @return The number of insertions.
+     */
+    public long getInsertionCount() {
+        return insertions;
+    }
+
+    /**
+     * Returns the number of bits in the filter.
+     *
+     * @return The bit count.
+     */
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Returns the number of bits set per question.
+     *
+     * @return The hash count.
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Estimates the current false-positive rate from the fraction of bits set.
+     *
+     * @return The estimated probability of reporting an unseen question as seen.
+     */
+    public double getEstimatedFalsePositiveRate() {
+        long set = 0;
+        for (long word : words) {
+            set += Long.bitCount(word);
+        }
+        return Math.pow((double) set / bitCount, hashCount);
+    }
+
+    /**
+     * Writes the filter to a stream. The stream is not closed.
+     *
+     * @param out The stream to write to.
+     * @throws IOException if writing fails.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(hashCount);
+        data.writeInt(words.length);
+        data.writeLong(insertions);
+        for (long word : words) {
+            data.writeLong(word);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a filter written by {@link #writeTo(OutputStream)}. The stream is not closed.
+     *
+     * @param in The stream to read from.
+     * @return The filter.
+     * @throws IOException if reading fails or the data is not a filter of a supported version.
+     */
+    public static SeenQuestionFilter readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a seen-question filter");
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported seen-question filter version " + version);
+        }
+        int hashCount = data.readInt();
+        int wordCount = data.readInt();
+        if (hashCount < 1 || wordCount < 1) {
+            throw new IOException("Corrupt seen-question filter header");
+        }
+        long insertions = data.readLong();
+        long[] words = new long[wordCount];
+        for (int i = 0; i < wordCount; i++) {
+            words[i] = data.readLong();
+        }
+        return new SeenQuestionFilter(words, hashCount, insertions);
+    }
+}
@@ -0,0 +1,63 @@
+package com.bitbybit.profile;
+
+import com.bitbybit.logging.GameEvent;
+import com.bitbybit.logging.GameFinishedEvent;
+import com.bitbybit.logging.GameObserver;
+import com.bitbybit.logging.QuestionAnsweredEvent;
+import com.bitbybit.model.Player;
+
+import java.io.IOException;
+
+/**
+ * An observer that records every question a player answers in the player's
+ * {@link SeenQuestionFilter}, and saves the filters when the game finishes. Filters are kept
+ * by player name, so players with a {@link Player#isDefaultName(String) default name}, which
+ * different people share, are not recorded.
+ */
+public class SeenQuestionRecorder implements GameObserver {
+    private final SeenQuestionStore store;
+
+    /**
+     * Constructs a recorder.
+     *
+     * @param store The store holding the players' filters.
+     */
+    public SeenQuestionRecorder(SeenQuestionStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Records answered questions and saves the filters at the end of the game. Failures to
+     * read or write a filter are reported but do not interrupt the game.
+     *
+     * @param event The game event.
+     */
+    @Override
+    public void onEvent(GameEvent event) {
+        try {
+            if (event instanceof QuestionAnsweredEvent) {
+                QuestionAnsweredEvent answered = (QuestionAnsweredEvent) event;
+                if (Player.isDefaultName(answered.getPlayer().getName())) {
+                    return;
+                }
+                SeenQuestionFilter filter = store.get(answered.getPlayer().getName());
+                synchronized (filter) {
+                    filter.put(answered.getQuestion());
+                }
+            } else if (event instanceof GameFinishedEvent) {
+                store.saveAll();
+            }
+        } catch (IOException e) {
+            System.err.println("Could not update seen questions: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the store the recorder writes to.
+     *
+     * @return The store.
+     */
+    public SeenQuestionStore getStore() {
+        return store;
+    }
+}
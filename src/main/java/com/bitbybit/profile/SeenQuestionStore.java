@@ -0,0 +1,133 @@
+package com.bitbybit.profile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Keeps one {@link SeenQuestionFilter} per player in a directory, loading each player's filter
+ * on first use and writing it back on {@link #save(String)}. Every filter is sized for the
+ * same expected number of questions and false-positive rate; a filter loaded from disk keeps
+ * the size it was saved with.
+ *
+ * <p>Files are named after the player, with characters unsafe in file names replaced and a
+ * hash of the exact name appended so that names differing only in those characters or in
+ * case do not share a file. Files are written to a temporary file first and then moved into
+ * place, so a crash never leaves a half-written filter.
+ *
+ * <p>The store is thread-safe; the filters it returns are not, and callers that share a
+ * player's filter across threads must synchronize on it.
+ */
+public class SeenQuestionStore {
+    private static final String EXTENSION = ".seen";
+
+    private final Path directory;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Map<String, SeenQuestionFilter> filters = new HashMap<>();
+
+    /**
+     * Constructs a store.
+     *
+     * @param directory The directory holding the filter files; created when a filter is saved.
+     * @param expectedInsertions The number of questions each new filter is sized for.
+     * @param falsePositiveRate The false-positive rate each new filter is sized for.
+     * @throws IllegalArgumentException if a parameter is out of range.
+     */
+    public SeenQuestionStore(Path directory, long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1");
+        }
+        this.directory = directory;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Returns a player's filter, loading it from disk or creating an empty one on first use.
+     *
+     * @param player The player's name.
+     * @return The player's filter.
+     * @throws IOException if the player's file exists but cannot be read.
+     */
+    public synchronized SeenQuestionFilter get(String player) throws IOException {
+        SeenQuestionFilter filter = filters.get(player);
+        if (filter == null) {
+            Path file = fileFor(player);
+            if (Files.exists(file)) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    filter = SeenQuestionFilter.readFrom(in);
+                }
+            } else {
+                filter = new SeenQuestionFilter(expectedInsertions, falsePositiveRate);
+            }
+            filters.put(player, filter);
+        }
+        return filter;
+    }
+
+    /**
+     * Writes a player's filter to disk, if it has been loaded.
+     *
+     * @param player The player's name.
+     * @throws IOException if the file cannot be written.
+     */
+    public synchronized void save(String player) throws IOException {
+        SeenQuestionFilter filter = filters.get(player);
+        if (filter == null) {
+            return;
+        }
+        Files.createDirectories(directory);
+        Path file = fileFor(player);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            synchronized (filter) {
+                filter.writeTo(out);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Writes every loaded filter to disk.
+     *
+     * @throws IOException if a file cannot be written.
+     */
+    public synchronized void saveAll() throws IOException {
+        for (String player : filters.keySet()) {
+            save(player);
+        }
+    }
+
+    /**
+     * Returns the directory holding the filter files.
+     *
+     * @return The directory.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the file holding a player's filter.
+     *
+     * @param player The player's name.
+     * @return The file path.
+     */
+    Path fileFor(String player) {
+        String safe = player.replaceAll("[^A-Za-z0-9_-]", "_").toLowerCase(Locale.ROOT);
+        if (safe.length() > 32) {
+            safe = safe.substring(0, 32);
+        }
+        return directory.resolve(safe + "-" + Integer.toHexString(player.hashCode()) + EXTENSION);
+    }
+}
@@ -1,15 +1,15 @@
 package com.bitbybit.reporting;
 
+import com.bitbybit.logging.EventStore;
 import com.bitbybit.logging.GameEvent;
-import com.bitbybit.logging.QuestionAnsweredEvent;
 import com.bitbybit.model.Player;
+import com.bitbybit.model.PlayerRegistry;
 import com.bitbybit.model.Question;
 import org.apache.poi.xwpf.usermodel.*;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Implements the {@link ReportStrategy} interface to generate game reports in DOCX format.
@@ -29,6 +29,19 @@ public class DocxReportStrategy implements ReportStrategy {
      */
     @Override
     public void generateReport(List<GameEvent> gameEvents, List<Player> players, String outputPath) {
+        generateReport(EventStore.of(gameEvents), players, outputPath);
+    }
+
+    /**
+     * Generates the report from the game's {@link EventStore}, reading the answered questions
+     * straight from its columns.
+     *
+     * @param events The events that occurred during the game.
+     * @param players A list of {@link Player}s who participated in the game.
+     * @param outputPath The base path for the output file; the ".docx" extension is appended.
+     */
+    @Override
+    public void generateReport(EventStore events, List<Player> players, String outputPath) {
         try (XWPFDocument document = new XWPFDocument();
              FileOutputStream out = new FileOutputStream(outputPath + ".docx")) {
 
@@ -78,31 +91,26 @@ public class DocxReportStrategy implements ReportStrategy {
             document.createParagraph().createRun().setText("---------------------");
             document.createParagraph().createRun().setText("\n"); // New line
 
+            PlayerRegistry playersById = PlayerRegistry.indexOf(players);
             int turn = 1;
-            for (GameEvent event : gameEvents) {
-                if (event instanceof QuestionAnsweredEvent) {
-                    QuestionAnsweredEvent qaEvent = (QuestionAnsweredEvent) event;
-                    // Find player from the list using the helper method
-                    Optional<Player> playerOptional = players.stream()
-                            .filter(p -> String.valueOf(p.getId()).equals(qaEvent.getPlayerId()))
-                            .findFirst();
-                    Player player = playerOptional.orElse(null);
-                    Question question = qaEvent.getQuestion();
-
-                    XWPFParagraph turnPara = document.createParagraph();
-                    turnPara.createRun().setText("Turn " + (turn++));
-                    turnPara.createRun().setBold(true);
-
-                    document.createParagraph().createRun().setText("  Player: " + (player != null ? player.getName() : "Unknown Player"));
-                    document.createParagraph().createRun().setText("  Category: " + question.getCategory());
-                    document.createParagraph().createRun().setText("  Question Value: " + question.getValue());
-                    document.createParagraph().createRun().setText("  Question Text: " + question.getQuestion());
-                    document.createParagraph().createRun().setText("  Given Answer: " + qaEvent.getAnswerGiven());
-                    document.createParagraph().createRun().setText("  Correctness: " + (qaEvent.isCorrect() ? "Correct" : "Incorrect"));
-                    document.createParagraph().createRun().setText("  Points Earned: " + qaEvent.getPointsEarned());
-                    document.createParagraph().createRun().setText("  Running Total for " + (player != null ? player.getName() : "Unknown Player") + ": " + qaEvent.getRunningScore());
-                    document.createParagraph().createRun().setText("\n"); // New line
-                }
+            EventStore.AnswerCursor answers = events.answers();
+            while (answers.next()) {
+                Player player = playersById.get(answers.getPlayer().getId());
+                Question question = answers.getQuestion();
+
+                XWPFParagraph turnPara = document.createParagraph();
+                turnPara.createRun().setText("Turn " + (turn++));
+                turnPara.createRun().setBold(true);
+
+                document.createParagraph().createRun().setText("  Player: " + (player != null ? player.getName() : "Unknown Player"));
+                document.createParagraph().createRun().setText("  Category: " + question.getCategory());
+                document.createParagraph().createRun().setText("  Question Value: " + question.getValue());
+                document.createParagraph().createRun().setText("  Question Text: " + question.getQuestion());
+                document.createParagraph().createRun().setText("  Given Answer: " + answers.getAnswerGiven());
+                document.createParagraph().createRun().setText("  Correctness: " + (answers.isCorrect() ? "Correct" : "Incorrect"));
+                document.createParagraph().createRun().setText("  Points Earned: " + answers.getPointsEarned());
+                document.createParagraph().createRun().setText("  Running Total for " + (player != null ? player.getName() : "Unknown Player") + ": " + answers.getRunningScore());
+                document.createParagraph().createRun().setText("\n"); // New line
             }
 
             document.write(out);
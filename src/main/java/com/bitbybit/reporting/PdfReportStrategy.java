@@ -1,8 +1,9 @@
 package com.bitbybit.reporting;
 
+import com.bitbybit.logging.EventStore;
 import com.bitbybit.logging.GameEvent;
-import com.bitbybit.logging.QuestionAnsweredEvent;
 import com.bitbybit.model.Player;
+import com.bitbybit.model.PlayerRegistry;
 import com.bitbybit.model.Question;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
@@ -14,7 +15,6 @@ import com.itextpdf.layout.properties.UnitValue;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Implements the {@link ReportStrategy} interface to generate game reports in PDF format.
@@ -34,6 +34,19 @@ public class PdfReportStrategy implements ReportStrategy {
      */
     @Override
     public void generateReport(List<GameEvent> gameEvents, List<Player> players, String outputPath) {
+        generateReport(EventStore.of(gameEvents), players, outputPath);
+    }
+
+    /**
+     * Generates the report from the game's {@link EventStore}, reading the answered questions
+     * straight from its columns.
+     *
+     * @param events The events that occurred during the game.
+     * @param players A list of {@link Player}s who participated in the game.
+     * @param outputPath The base path for the output file; the ".pdf" extension is appended.
+     */
+    @Override
+    public void generateReport(EventStore events, List<Player> players, String outputPath) {
         try (PdfWriter writer = new PdfWriter(outputPath + ".pdf");
              PdfDocument pdf = new PdfDocument(writer);
              Document document = new Document(pdf)) {
@@ -67,29 +80,24 @@ public class PdfReportStrategy implements ReportStrategy {
             document.add(new Paragraph("---------------------"));
             document.add(new Paragraph("\n"));
 
+            PlayerRegistry playersById = PlayerRegistry.indexOf(players);
             int turn = 1;
-            for (GameEvent event : gameEvents) {
-                if (event instanceof QuestionAnsweredEvent) {
-                    QuestionAnsweredEvent qaEvent = (QuestionAnsweredEvent) event;
-                    // Find player from the list using the helper method
-                    Optional<Player> playerOptional = players.stream()
-                            .filter(p -> String.valueOf(p.getId()).equals(qaEvent.getPlayerId()))
-                            .findFirst();
-                    Player player = playerOptional.orElse(null);
-                    Question question = qaEvent.getQuestion();
+            EventStore.AnswerCursor answers = events.answers();
+            while (answers.next()) {
+                Player player = playersById.get(answers.getPlayer().getId());
+                Question question = answers.getQuestion();
 
-                    document.add(new Paragraph("Turn " + (turn++))
-                            .setBold());
-                    document.add(new Paragraph("  Player: " + (player != null ? player.getName() : "Unknown Player")));
-                    document.add(new Paragraph("  Category: " + question.getCategory()));
-                    document.add(new Paragraph("  Question Value: " + question.getValue()));
-                    document.add(new Paragraph("  Question Text: " + question.getQuestion()));
-                    document.add(new Paragraph("  Given Answer: " + qaEvent.getAnswerGiven()));
-                    document.add(new Paragraph("  Correctness: " + (qaEvent.isCorrect() ? "Correct" : "Incorrect")));
-                    document.add(new Paragraph("  Points Earned: " + qaEvent.getPointsEarned()));
-                    document.add(new Paragraph("  Running Total for " + (player != null ? player.getName() : "Unknown Player") + ": " + qaEvent.getRunningScore()));
-                    document.add(new Paragraph("\n"));
-                }
+                document.add(new Paragraph("Turn " + (turn++))
+                        .setBold());
+                document.add(new Paragraph("  Player: " + (player != null ? player.getName() : "Unknown Player")));
+                document.add(new Paragraph("  Category: " + question.getCategory()));
+                document.add(new Paragraph("  Question Value: " + question.getValue()));
+                document.add(new Paragraph("  Question Text: " + question.getQuestion()));
+                document.add(new Paragraph("  Given Answer: " + answers.getAnswerGiven()));
+                document.add(new Paragraph("  Correctness: " + (answers.isCorrect() ? "Correct" : "Incorrect")));
+                document.add(new Paragraph("  Points Earned: " + answers.getPointsEarned()));
+                document.add(new Paragraph("  Running Total for " + (player != null ? player.getName() : "Unknown Player") + ": " + answers.getRunningScore()));
+                document.add(new Paragraph("\n"));
             }
 
         } catch (IOException e) {
@@ -1,6 +1,7 @@
 package com.bitbybit.reporting;
 
 import com.bitbybit.model.Player;
+import com.bitbybit.logging.EventStore;
 import com.bitbybit.logging.GameEvent;
 
 import java.util.List;
@@ -46,4 +47,20 @@ public class ReportGenerator {
         }
         strategy.generateReport(gameEvents, players, outputPath);
     }
+
+    /**
+     * Generates a report from a game's {@link EventStore} using the currently set
+     * {@link ReportStrategy}.
+     *
+     * @param events The events that occurred during the game.
+     * @param players A list of {@link Player}s who participated in the game.
+     * @param outputPath The base path for the output file.
+     * @throws IllegalStateException if no report strategy has been set.
+     */
+    public void generateReport(EventStore events, List<Player> players, String outputPath) {
+        if (strategy == null) {
+            throw new IllegalStateException("Report strategy not set. Please set a strategy before generating a report.");
+        }
+        strategy.generateReport(events, players, outputPath);
+    }
 }
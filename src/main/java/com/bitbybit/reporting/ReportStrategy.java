@@ -1,6 +1,7 @@
 package com.bitbybit.reporting;
 
 import com.bitbybit.model.Player;
+import com.bitbybit.logging.EventStore;
 import com.bitbybit.logging.GameEvent;
 
 import java.util.List;
@@ -20,4 +21,17 @@ public interface ReportStrategy {
      *                   The strategy implementation should append the appropriate extension.
      */
     void generateReport(List<GameEvent> gameEvents, List<Player> players, String outputPath);
+
+    /**
+     * Generates a game report from the game's columnar {@link EventStore}. The built-in
+     * strategies scan the store's columns without rebuilding event objects; the default
+     * rebuilds the events and calls {@link #generateReport(List, List, String)}.
+     *
+     * @param events The events that occurred during the game.
+     * @param players A list of {@link Player}s who participated in the game.
+     * @param outputPath The base path for the output file, without a file extension.
+     */
+    default void generateReport(EventStore events, List<Player> players, String outputPath) {
+        generateReport(events.toList(), players, outputPath);
+    }
 }
@@ -1,14 +1,15 @@
 package com.bitbybit.reporting;
 
-import com.bitbybit.logging.*;
+import com.bitbybit.logging.EventStore;
+import com.bitbybit.logging.GameEvent;
 import com.bitbybit.model.Player;
+import com.bitbybit.model.PlayerRegistry;
 import com.bitbybit.model.Question;
 
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Implements the {@link ReportStrategy} interface to generate game reports in plain text format.
@@ -28,6 +29,19 @@ public class TextReportStrategy implements ReportStrategy {
      */
     @Override
     public void generateReport(List<GameEvent> gameEvents, List<Player> players, String outputPath) {
+        generateReport(EventStore.of(gameEvents), players, outputPath);
+    }
+
+    /**
+     * Generates the report from the game's {@link EventStore}, reading the answered questions
+     * straight from its columns.
+     *
+     * @param events The events that occurred during the game.
+     * @param players A list of {@link Player}s who participated in the game.
+     * @param outputPath The base path for the output file; the ".txt" extension is appended.
+     */
+    @Override
+    public void generateReport(EventStore events, List<Player> players, String outputPath) {
         try (PrintWriter writer = new PrintWriter(new FileWriter(outputPath + ".txt"))) {
             writer.println("Jeopardy Game Summary Report");
             writer.println("============================");
@@ -41,28 +55,23 @@ public class TextReportStrategy implements ReportStrategy {
 
             writer.println("Turn-by-Turn Rundown:");
             writer.println("---------------------");
+            PlayerRegistry playersById = PlayerRegistry.indexOf(players);
             int turn = 1;
-            for (GameEvent event : gameEvents) {
-                if (event instanceof QuestionAnsweredEvent) {
-                    QuestionAnsweredEvent qaEvent = (QuestionAnsweredEvent) event;
-                    // Find player from the list using the helper method
-                    Optional<Player> playerOptional = players.stream()
-                            .filter(p -> String.valueOf(p.getId()).equals(qaEvent.getPlayerId()))
-                            .findFirst();
-                    Player player = playerOptional.orElse(null);
-                    Question question = qaEvent.getQuestion();
+            EventStore.AnswerCursor answers = events.answers();
+            while (answers.next()) {
+                Player player = playersById.get(answers.getPlayer().getId());
+                Question question = answers.getQuestion();
 
-                    writer.printf("Turn %d:%n", turn++);
-                    writer.printf("  Player: %s%n", player != null ? player.getName() : "Unknown Player");
-                    writer.printf("  Category: %s%n", question.getCategory());
-                    writer.printf("  Question Value: %d%n", question.getValue());
-                    writer.printf("  Question Text: %s%n", question.getQuestion());
-                    writer.printf("  Given Answer: %s%n", qaEvent.getAnswerGiven());
-                    writer.printf("  Correctness: %s%n", qaEvent.isCorrect() ? "Correct" : "Incorrect");
-                    writer.printf("  Points Earned: %d%n", qaEvent.getPointsEarned());
-                    writer.printf("  Running Total for %s: %d%n", player != null ? player.getName() : "Unknown Player", qaEvent.getRunningScore());
-                    writer.println();
-                }
+                writer.printf("Turn %d:%n", turn++);
+                writer.printf("  Player: %s%n", player != null ? player.getName() : "Unknown Player");
+                writer.printf("  Category: %s%n", question.getCategory());
+                writer.printf("  Question Value: %d%n", question.getValue());
+                writer.printf("  Question Text: %s%n", question.getQuestion());
+                writer.printf("  Given Answer: %s%n", answers.getAnswerGiven());
+                writer.printf("  Correctness: %s%n", answers.isCorrect() ? "Correct" : "Incorrect");
+                writer.printf("  Points Earned: %d%n", answers.getPointsEarned());
+                writer.printf("  Running Total for %s: %d%n", player != null ? player.getName() : "Unknown Player", answers.getRunningScore());
+                writer.println();
             }
 
         } catch (IOException e) {
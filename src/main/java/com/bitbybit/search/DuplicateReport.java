@@ -0,0 +1,83 @@
+package com.bitbybit.search;
+
+import com.bitbybit.model.Question;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of a near-duplicate scan: the clusters of questions that are near-duplicates of
+ * one another, as found by {@link NearDuplicateDetector}. Only clusters of two or more
+ * questions are reported, largest first.
+ */
+public final class DuplicateReport {
+    private final int scannedCount;
+    private final List<List<Question>> clusters;
+
+    /**
+     * Constructs a new report.
+     *
+     * @param scannedCount The number of questions that were scanned.
+     * @param clusters The duplicate clusters, largest first.
+     */
+    DuplicateReport(int scannedCount, List<List<Question>> clusters) {
+        this.scannedCount = scannedCount;
+        this.clusters = Collections.unmodifiableList(clusters);
+    }
+
+    /**
+     * Returns the number of questions that were scanned.
+     *
+     * @return The scanned question count.
+     */
+    public int getScannedCount() {
+        return scannedCount;
+    }
+
+    /**
+     * Returns the clusters of near-duplicate questions, largest first. Within a cluster,
+     * questions keep their order from the scanned array.
+     *
+     * @return An unmodifiable list of clusters.
+     */
+    public List<List<Question>> getClusters() {
+        return clusters;
+    }
+
+    /**
+     * Returns the number of questions that could be retired by keeping one question per cluster.
+     *
+     * @return The number of redundant questions.
+     */
+    public int getDuplicateCount() {
+        int count = 0;
+        for (List<Question> cluster : clusters) {
+            count += cluster.size() - 1;
+        }
+        return count;
+    }
+
+    /**
+     * Writes the report as plain text, one block per cluster.
+     *
+     * @param writer The writer to write to. It is flushed but not closed.
+     * @throws IOException if the report cannot be written.
+     */
+    public void writeTo(Writer writer) throws IOException {
+        String nl = System.lineSeparator();
+        writer.write("Near-Duplicate Question Report" + nl);
+        writer.write("==============================" + nl);
+        writer.write("Questions scanned: " + scannedCount + nl);
+        writer.write("Clusters: " + clusters.size() + ", redundant questions: " + getDuplicateCount() + nl);
+        for (int c = 0; c < clusters.size(); c++) {
+            List<Question> cluster = clusters.get(c);
+            writer.write(nl + "Cluster " + (c + 1) + " (" + cluster.size() + " questions):" + nl);
+            for (Question q : cluster) {
+                writer.write("  [" + q.getId() + "] " + q.getCategory() + " / " + q.getValue() + ": " + q.getQuestion() + nl);
+            }
+        }
+        writer.flush();
+    }
+}
@@ -0,0 +1,269 @@
+package com.bitbybit.search;
+
+import com.bitbybit.model.Question;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Finds near-duplicate questions, such as the same question submitted by two authors with
+ * slightly different wording, without comparing every pair of questions.
+ *
+ * <p>Each question is reduced to the set of terms in its text and answer options, and that set
+ * to a MinHash signature: for each of {@code bands * rows} hash functions, the smallest hash of
+ * any term. The fraction of equal signature entries estimates the Jaccard similarity of two
+ * term sets. Locality-sensitive hashing then splits each signature into bands; questions whose
+ * rows agree in some band land in the same bucket and become candidates. Only candidates are
+ * compared, and pairs whose estimated similarity reaches the threshold are merged into
+ * clusters with a union-find.
+ *
+ * <p>Buckets are found by sorting, per band, a long array packing each question's band hash
+ * above its index, which avoids building a map entry per question. Signatures are computed in
+ * parallel over the questions, and the bands are processed in parallel.
+ */
+public class NearDuplicateDetector {
+    private static final int DEFAULT_BANDS = 16;
+    private static final int DEFAULT_ROWS = 4;
+    private static final double DEFAULT_THRESHOLD = 0.8;
+    private static final long SEED = 0x5DEECE66DL;
+
+    private final int bands;
+    private final int rows;
+    private final double threshold;
+    private final long[] multipliers;
+    private final long[] offsets;
+
+    /**
+     * Constructs a detector with 16 bands of 4 rows and a similarity threshold of 0.8.
+     */
+    public NearDuplicateDetector() {
+        this(DEFAULT_BANDS, DEFAULT_ROWS, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructs a detector with the given LSH parameters. More bands catch less similar pairs
+     * as candidates; more rows per band make candidates rarer and scans faster.
+     *
+     * @param bands The number of LSH bands.
+     * @param rows The number of signature rows per band.
+     * @param threshold The estimated Jaccard similarity, from 0 to 1, at which two questions
+     *                  count as near-duplicates.
+     * @throws IllegalArgumentException if a parameter is out of range.
+     */
+    public NearDuplicateDetector(int bands, int rows, double threshold) {
+        if (bands < 1 || rows < 1) {
+            throw new IllegalArgumentException("Bands and rows must be positive");
+        }
+        if (threshold <= 0 || threshold > 1) {
+            throw new IllegalArgumentException("Threshold must be in (0, 1]: " + threshold);
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.threshold = threshold;
+        int k = bands * rows;
+        this.multipliers = new long[k];
+        this.offsets = new long[k];
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < k; i++) {
+            multipliers[i] = random.nextLong() | 1L;
+            offsets[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Scans questions for near-duplicates.
+     *
+     * @param questions The questions to scan, for example the merged banks of several authors.
+     *                  {@code null} entries and questions without any text are ignored.
+     * @return A report of the near-duplicate clusters.
+     */
+    public DuplicateReport detect(Question[] questions) {
+        int n = questions.length;
+        int[][] signatures = new int[n][];
+        IntStream.range(0, n).parallel().forEach(i -> signatures[i] = signature(questions[i]));
+
+        long[][] pairsByBand = IntStream.range(0, bands).parallel()
+                .mapToObj(band -> similarPairs(signatures, band))
+                .toArray(long[][]::new);
+
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+        for (long[] pairs : pairsByBand) {
+            for (long pair : pairs) {
+                union(parent, (int) (pair >>> 32), (int) pair);
+            }
+        }
+
+        Map<Integer, List<Question>> byRoot = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++) {
+            if (signatures[i] != null) {
+                byRoot.computeIfAbsent(find(parent, i), r -> new ArrayList<>()).add(questions[i]);
+            }
+        }
+        List<List<Question>> clusters = new ArrayList<>();
+        for (List<Question> cluster : byRoot.values()) {
+            if (cluster.size() > 1) {
+                clusters.add(cluster);
+            }
+        }
+        clusters.sort((a, b) -> Integer.compare(b.size(), a.size()));
+        return new DuplicateReport(n, clusters);
+    }
+
+    /**
+     * Computes the MinHash signature of a question's terms.
+     *
+     * @param question The question.
+     * @return The signature, or {@code null} if the question is {@code null} or has no terms.
+     */
+    int[] signature(Question question) {
+        if (question == null) {
+            return null;
+        }
+        Set<String> terms = new HashSet<>();
+        for (String text : new String[] {question.getQuestion(), question.getOptionA(), question.getOptionB(),
+                question.getOptionC(), question.getOptionD()}) {
+            terms.addAll(Tokenizer.tokenize(text));
+        }
+        if (terms.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[multipliers.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String term : terms) {
+            long h = mix(term.hashCode());
+            for (int i = 0; i < signature.length; i++) {
+                int value = (int) ((multipliers[i] * h + offsets[i]) >>> 32);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Finds the candidate pairs that share a bucket in one band and verifies them.
+     * Each member of a bucket is compared with the bucket's first member and, failing that,
+     * with the member before it, which links chains of similar questions without comparing
+     * every pair in a large bucket.
+     *
+     * @param signatures The signatures, {@code null} for ignored questions.
+     * @param band The band to process.
+     * @return The verified pairs, each packed as {@code (first << 32) | second}.
+     */
+    private long[] similarPairs(int[][] signatures, int band) {
+        long[] keys = new long[signatures.length];
+        int count = 0;
+        for (int i = 0; i < signatures.length; i++) {
+            if (signatures[i] != null) {
+                keys[count++] = ((long) bandHash(signatures[i], band) << 32) | i;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+
+        long[] pairs = new long[16];
+        int pairCount = 0;
+        int start = 0;
+        while (start < count) {
+            int end = start + 1;
+            while (end < count && (keys[end] >>> 32) == (keys[start] >>> 32)) {
+                end++;
+            }
+            int first = (int) keys[start];
+            for (int m = start + 1; m < end; m++) {
+                int member = (int) keys[m];
+                int linked = -1;
+                if (similarity(signatures[first], signatures[member]) >= threshold) {
+                    linked = first;
+                } else {
+                    int previous = (int) keys[m - 1];
+                    if (previous != first && similarity(signatures[previous], signatures[member]) >= threshold) {
+                        linked = previous;
+                    }
+                }
+                if (linked >= 0) {
+                    if (pairCount == pairs.length) {
+                        pairs = Arrays.copyOf(pairs, pairCount * 2);
+                    }
+                    pairs[pairCount++] = ((long) linked << 32) | member;
+                }
+            }
+            start = end;
+        }
+        return Arrays.copyOf(pairs, pairCount);
+    }
+
+    /**
+     * Hashes the rows of one band of a signature.
+     *
+     * @param signature The signature.
+     * @param band The band.
+     * @return The band hash.
+     */
+    private int bandHash(int[] signature, int band) {
+        long h = band;
+        for (int r = band * rows; r < (band + 1) * rows; r++) {
+            h = h * 0x9E3779B97F4A7C15L + signature[r];
+        }
+        return (int) (mix(h) >>> 32);
+    }
+
+    /**
+     * Estimates the Jaccard similarity of two term sets from their signatures.
+     *
+     * @param a The first signature.
+     * @param b The second signature.
+     * @return The fraction of signature entries that are equal.
+     */
+    static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    /**
+     * Scrambles the bits of a hash (the MurmurHash3 64-bit finalizer).
+     *
+     * @param h The value to mix.
+     * @return The mixed value.
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            // keep the lower index as root so clusters are listed in scan order
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+}
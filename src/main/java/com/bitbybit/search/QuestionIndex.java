@@ -0,0 +1,411 @@
+package com.bitbybit.search;
+
+import com.bitbybit.model.Question;
+import com.bitbybit.model.QuestionBank;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An inverted full-text index over the question text and answer options of a {@link QuestionBank}.
+ * Hosts use it to find questions by the words they contain, for example to retire bad ones,
+ * without scanning every {@link Question}.
+ *
+ * <p>Text is split into terms by {@link Tokenizer}. For every term the index stores a posting
+ * list: the ascending bank slots of the questions containing the term, as an int array. The term
+ * dictionary is a sorted array, so a single term is found by binary search and a prefix maps to
+ * one contiguous range of terms. AND queries intersect posting lists starting from the shortest,
+ * switching to binary search when one list is much shorter than the other; OR and prefix queries
+ * mark matches in a {@link BitSet} over the slots.
+ *
+ * <p>An index can be saved next to its bank with {@link #writeTo(OutputStream)} and loaded with
+ * {@link #readFrom(InputStream, QuestionBank)}. Layout (integers big-endian unless noted):
+ * <pre>
+ *   magic "JIDX" | int version | int documentCount | int termCount
+ *   termCount x (UTF term | varint postingCount | postingCount x varint slot delta)
+ * </pre>
+ * The index is immutable and safe to share between threads.
+ */
+public final class QuestionIndex {
+
+    static final int MAGIC = 0x4A494458; // "JIDX"
+    static final int VERSION = 1;
+
+    // once one list is this many times longer than the other, intersect by binary search
+    private static final int GALLOP_RATIO = 8;
+
+    private final QuestionBank bank;
+    private final String[] terms;
+    private final int[][] postings;
+
+    private QuestionIndex(QuestionBank bank, String[] terms, int[][] postings) {
+        this.bank = bank;
+        this.terms = terms;
+        this.postings = postings;
+    }
+
+    /**
+     * A posting list under construction. Slots arrive in ascending order, so a repeat of the
+     * last slot is the only possible duplicate.
+     */
+    private static final class PostingBuilder {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size > 0 && slots[size - 1] == slot) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(slots, size);
+        }
+    }
+
+    /**
+     * Builds an index over every question in a bank.
+     *
+     * @param bank The bank to index.
+     * @return The new index.
+     */
+    public static QuestionIndex build(QuestionBank bank) {
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        for (int slot = 0; slot < bank.size(); slot++) {
+            Question q = bank.getQuestion(slot);
+            for (String text : new String[] {q.getQuestion(), q.getOptionA(), q.getOptionB(), q.getOptionC(), q.getOptionD()}) {
+                for (String term : Tokenizer.tokenize(text)) {
+                    builders.computeIfAbsent(term, t -> new PostingBuilder()).add(slot);
+                }
+            }
+        }
+        String[] terms = builders.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+        int[][] postings = new int[terms.length][];
+        for (int i = 0; i < terms.length; i++) {
+            postings[i] = builders.get(terms[i]).toArray();
+        }
+        return new QuestionIndex(bank, terms, postings);
+    }
+
+    /**
+     * Returns the bank this index was built over.
+     *
+     * @return The question bank.
+     */
+    public QuestionBank getBank() {
+        return bank;
+    }
+
+    /**
+     * Returns the number of distinct terms in the index.
+     *
+     * @return The term count.
+     */
+    public int getTermCount() {
+        return terms.length;
+    }
+
+    /**
+     * Finds the questions containing a word. A word that tokenizes into several terms, such as
+     * {@code "H2O-based"}, matches questions containing all of them.
+     *
+     * @param word The word to look up.
+     * @return The ascending slots of the matching questions.
+     */
+    public int[] findTerm(String word) {
+        return findAll(word);
+    }
+
+    /**
+     * Finds the questions containing any term that starts with a prefix. If the prefix
+     * tokenizes into several terms, all but the last must match exactly.
+     *
+     * @param prefix The term prefix; it is lowercased like an indexed term.
+     * @return The ascending slots of the matching questions.
+     */
+    public int[] findPrefix(String prefix) {
+        List<String> tokens = Tokenizer.tokenize(prefix);
+        if (tokens.isEmpty()) {
+            return new int[0];
+        }
+        int[] matches = prefixPostings(tokens.get(tokens.size() - 1));
+        if (tokens.size() > 1) {
+            matches = intersect(matches, findAll(tokens.subList(0, tokens.size() - 1).toArray(new String[0])));
+        }
+        return matches;
+    }
+
+    /**
+     * Unions the posting lists of every term starting with a prefix.
+     *
+     * @param prefix A single lowercase term prefix.
+     * @return The ascending slots of the matching questions.
+     */
+    private int[] prefixPostings(String prefix) {
+        int from = lowerBound(prefix);
+        int to = from;
+        while (to < terms.length && terms[to].startsWith(prefix)) {
+            to++;
+        }
+        if (to - from == 1) {
+            return postings[from].clone();
+        }
+        BitSet matches = new BitSet(bank.size());
+        for (int t = from; t < to; t++) {
+            for (int slot : postings[t]) {
+                matches.set(slot);
+            }
+        }
+        return matches.stream().toArray();
+    }
+
+    /**
+     * Finds the questions containing every one of the given words.
+     *
+     * @param words The words that must all appear.
+     * @return The ascending slots of the matching questions.
+     */
+    public int[] findAll(String... words) {
+        List<int[]> lists = new ArrayList<>();
+        for (String word : words) {
+            for (String term : Tokenizer.tokenize(word)) {
+                int t = Arrays.binarySearch(terms, term);
+                if (t < 0) {
+                    return new int[0];
+                }
+                lists.add(postings[t]);
+            }
+        }
+        if (lists.isEmpty()) {
+            return new int[0];
+        }
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+        int[] result = lists.get(0).clone();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the questions containing at least one of the given words.
+     *
+     * @param words The words of which any may appear.
+     * @return The ascending slots of the matching questions.
+     */
+    public int[] findAny(String... words) {
+        BitSet matches = new BitSet(bank.size());
+        for (String word : words) {
+            for (int slot : findTerm(word)) {
+                matches.set(slot);
+            }
+        }
+        return matches.stream().toArray();
+    }
+
+    /**
+     * Runs a text query and returns the matching questions. Words are combined with AND;
+     * the keyword {@code OR} separates alternatives; a word ending in {@code *} matches every
+     * term with that prefix. For example {@code "planet sun OR star*"} finds questions
+     * mentioning both "planet" and "sun", or any word starting with "star". Words without any
+     * term, such as a lone {@code -}, are ignored.
+     *
+     * @param query The query text.
+     * @return The matching questions, in bank order.
+     */
+    public List<Question> search(String query) {
+        BitSet matches = new BitSet(bank.size());
+        for (String alternative : query.trim().split("\\s+OR\\s+")) {
+            int[] result = null;
+            for (String word : alternative.trim().split("\\s+")) {
+                boolean prefix = word.endsWith("*");
+                String text = prefix ? word.substring(0, word.length() - 1) : word;
+                if (Tokenizer.tokenize(text).isEmpty()) {
+                    continue;
+                }
+                int[] slots = prefix ? findPrefix(text) : findTerm(text);
+                result = result == null ? slots : intersect(result, slots);
+            }
+            if (result != null) {
+                for (int slot : result) {
+                    matches.set(slot);
+                }
+            }
+        }
+        return toQuestions(matches.stream().toArray());
+    }
+
+    /**
+     * Resolves slots returned by the query methods to their questions.
+     *
+     * @param slots The bank slots.
+     * @return The questions in the given slot order.
+     */
+    public List<Question> toQuestions(int[] slots) {
+        List<Question> questions = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            questions.add(bank.getQuestion(slot));
+        }
+        return questions;
+    }
+
+    /**
+     * Returns the position of the first term not less than the given text.
+     *
+     * @param text The text to search for.
+     * @return The insertion point in the sorted term array.
+     */
+    private int lowerBound(String text) {
+        int i = Arrays.binarySearch(terms, text);
+        return i >= 0 ? i : -i - 1;
+    }
+
+    /**
+     * Intersects two ascending slot arrays.
+     *
+     * @param a The first array.
+     * @param b The second array.
+     * @return The ascending slots present in both.
+     */
+    static int[] intersect(int[] a, int[] b) {
+        if (a.length > b.length) {
+            int[] swap = a;
+            a = b;
+            b = swap;
+        }
+        int[] out = new int[a.length];
+        int n = 0;
+        if ((long) a.length * GALLOP_RATIO < b.length) {
+            int from = 0;
+            for (int slot : a) {
+                int j = Arrays.binarySearch(b, from, b.length, slot);
+                if (j >= 0) {
+                    out[n++] = slot;
+                    from = j + 1;
+                } else {
+                    from = -j - 1;
+                }
+                if (from == b.length) {
+                    break;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    out[n++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * Writes the index so it can be stored alongside its bank. Posting lists are delta-encoded
+     * as variable-length integers. The stream is flushed but not closed.
+     *
+     * @param out The stream to write to.
+     * @throws IOException if the index cannot be written.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(bank.size());
+        data.writeInt(terms.length);
+        for (int t = 0; t < terms.length; t++) {
+            data.writeUTF(terms[t]);
+            int[] list = postings[t];
+            writeVarInt(data, list.length);
+            int previous = 0;
+            for (int slot : list) {
+                writeVarInt(data, slot - previous);
+                previous = slot;
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo(OutputStream)} and attaches it to its bank.
+     *
+     * @param in The stream to read from. It is not closed.
+     * @param bank The bank the index was built over.
+     * @return The loaded index.
+     * @throws IOException if the data is not a valid index or was built for a bank of a different size.
+     */
+    public static QuestionIndex readFrom(InputStream in, QuestionBank bank) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a question index");
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported question index version: " + version);
+        }
+        int documentCount = data.readInt();
+        if (documentCount != bank.size()) {
+            throw new IOException("Index covers " + documentCount + " questions but the bank has " + bank.size());
+        }
+        int termCount = data.readInt();
+        String[] terms = new String[termCount];
+        int[][] postings = new int[termCount][];
+        for (int t = 0; t < termCount; t++) {
+            terms[t] = data.readUTF();
+            int[] list = new int[readVarInt(data)];
+            int previous = 0;
+            for (int i = 0; i < list.length; i++) {
+                previous += readVarInt(data);
+                if (previous < 0 || previous >= documentCount) {
+                    throw new IOException("Corrupt posting list for term " + terms[t]);
+                }
+                list[i] = previous;
+            }
+            postings[t] = list;
+        }
+        return new QuestionIndex(bank, terms, postings);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+}
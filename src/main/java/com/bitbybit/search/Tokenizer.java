@@ -0,0 +1,46 @@
+package com.bitbybit.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits question text into index terms. A term is a maximal run of letters and digits,
+ * lowercased with {@link Locale#ROOT}; everything else separates terms. Indexing and querying
+ * use the same rules, so a query word matches the words it would have produced in a question.
+ */
+public final class Tokenizer {
+
+    private Tokenizer() {
+    }
+
+    /**
+     * Splits text into terms.
+     *
+     * @param text The text to tokenize; {@code null} yields no terms.
+     * @return The terms in the order they appear, including repeats.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            if (Character.isLetterOrDigit(cp)) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+            i += Character.charCount(cp);
+        }
+        if (start >= 0) {
+            terms.add(text.substring(start).toLowerCase(Locale.ROOT));
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,101 @@
+package com.bitbybit.analytics;
+
+import com.bitbybit.logging.QuestionAnsweredEvent;
+import com.bitbybit.model.Player;
+import com.bitbybit.model.Question;
+import com.bitbybit.model.QuestionBank;
+import com.bitbybit.model.SimplePlayer;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+public class DifficultyCalibratorTest {
+
+    private static final int[] LADDER = {100, 200, 300, 400, 500};
+
+    private final Question easy = new Question("E", "Science", 500, "Easy?", "A", "B", "C", "D", "A");
+    private final Question hard = new Question("H", "Science", 100, "Hard?", "A", "B", "C", "D", "A");
+    private final Question fresh = new Question("F", "Science", 300, "New?", "A", "B", "C", "D", "A");
+
+    private DifficultyCalibrator trained() {
+        DifficultyCalibrator calibrator = new DifficultyCalibrator();
+        Player[] players = {new SimplePlayer("Ann"), new SimplePlayer("Bob"), new SimplePlayer("Cy")};
+        for (int i = 0; i < 30; i++) {
+            Player player = players[i % players.length];
+            calibrator.onEvent(new QuestionAnsweredEvent(player, easy, true, "A", 500, 0));
+            calibrator.onEvent(new QuestionAnsweredEvent(player, hard, false, "B", -100, 0));
+        }
+        return calibrator;
+    }
+
+    @Test
+    void testRatingsFollowAnswers() {
+        DifficultyCalibrator calibrator = trained();
+        assertTrue(calibrator.getRating(easy) < DifficultyCalibrator.INITIAL_RATING);
+        assertTrue(calibrator.getRating(hard) > DifficultyCalibrator.INITIAL_RATING);
+        assertEquals(30, calibrator.getAnswerCount(hard));
+        assertEquals(30, calibrator.getCorrectCount(easy));
+        assertTrue(calibrator.getSuccessProbability(easy) > 0.8);
+        assertTrue(calibrator.getSuccessProbability(hard) < 0.2);
+    }
+
+    @Test
+    void testSuggestsAndReassignsValues() {
+        DifficultyCalibrator calibrator = trained();
+        assertEquals(100, calibrator.suggestValue(easy, LADDER));
+        assertEquals(500, calibrator.suggestValue(hard, LADDER));
+        assertEquals(300, calibrator.suggestValue(fresh, LADDER));
+
+        QuestionBank bank = calibrator.calibrate(new QuestionBank(List.of(easy, hard, fresh)), LADDER);
+        for (Question q : bank.toArray()) {
+            switch (q.getId()) {
+                case "E": assertEquals(100, q.getValue()); assertEquals(1, q.getDifficulty()); break;
+                case "H": assertEquals(500, q.getValue()); assertEquals(5, q.getDifficulty()); break;
+                default: assertSame(fresh, q);
+            }
+        }
+    }
+
+    @Test
+    void testQuestionsSharingAnIdAreRatedSeparately() {
+        DifficultyCalibrator calibrator = new DifficultyCalibrator();
+        // loaders number questions per file, so two files can both have question "11"
+        Question science = new Question("11", "Science", 100, "What is H2O?", "A", "B", "C", "D", "A");
+        Question history = new Question("11", "History", 100, "Who was first?", "A", "B", "C", "D", "A");
+        Question reloaded = new Question("42", "Science", 300, "What is H2O?", "A", "B", "C", "D", "A");
+        calibrator.record("Ann", science, true);
+
+        assertEquals(1, calibrator.getAnswerCount(science));
+        assertEquals(0, calibrator.getAnswerCount(history));
+        assertEquals(1, calibrator.getAnswerCount(reloaded));
+    }
+
+    @Test
+    void testDefaultNamesAreNotRated() {
+        DifficultyCalibrator calibrator = new DifficultyCalibrator();
+        calibrator.record(Player.defaultName(1), hard, false);
+        calibrator.record("Ann", easy, true);
+
+        assertEquals(DifficultyCalibrator.INITIAL_RATING, calibrator.getPlayerRating(Player.defaultName(1)));
+        assertTrue(calibrator.getRating(hard) > DifficultyCalibrator.INITIAL_RATING);
+        assertEquals(calibrator.getRating(hard) - DifficultyCalibrator.INITIAL_RATING,
+                DifficultyCalibrator.INITIAL_RATING - calibrator.getRating(easy), 1e-9);
+        assertTrue(calibrator.getPlayerRating("Ann") > DifficultyCalibrator.INITIAL_RATING);
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        DifficultyCalibrator calibrator = trained();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        calibrator.writeTo(out);
+        DifficultyCalibrator read = DifficultyCalibrator.readFrom(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(calibrator.getRating(hard), read.getRating(hard));
+        assertEquals(calibrator.getPlayerRating("Ann"), read.getPlayerRating("Ann"));
+        assertEquals(30, read.getAnswerCount(easy));
+        assertThrows(IOException.class, () -> DifficultyCalibrator.readFrom(new ByteArrayInputStream(new byte[8])));
+    }
+}
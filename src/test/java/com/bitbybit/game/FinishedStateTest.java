@@ -42,7 +42,7 @@ public class FinishedStateTest {
 
         // Add some test players
         gameContext.notifyObservers(new com.bitbybit.logging.PlayerJoinedEvent(
-                new com.bitbybit.model.Player("TestPlayer")));
+                new com.bitbybit.model.SimplePlayer("TestPlayer")));
 
         assertDoesNotThrow(() -> finishedState.executeState(gameContext));
     }
@@ -57,7 +57,7 @@ public class FinishedStateTest {
         gameContext.setQuestions(testQuestions);
 
         gameContext.notifyObservers(new com.bitbybit.logging.PlayerJoinedEvent(
-                new com.bitbybit.model.Player("TestPlayer")));
+                new com.bitbybit.model.SimplePlayer("TestPlayer")));
 
         // This test verifies the method runs without throwing exceptions
         // In a real scenario, you'd verify file output
@@ -74,7 +74,7 @@ public class FinishedStateTest {
         gameContext.setQuestions(testQuestions);
 
         gameContext.notifyObservers(new com.bitbybit.logging.PlayerJoinedEvent(
-                new com.bitbybit.model.Player("TestPlayer")));
+                new com.bitbybit.model.SimplePlayer("TestPlayer")));
 
         // Should default to text format
         assertDoesNotThrow(() -> finishedState.executeState(gameContext));
@@ -104,7 +104,7 @@ public class FinishedStateTest {
         gameContext = new GameContext(finishedState, scanner);
         gameContext.setQuestions(testQuestions);
 
-        com.bitbybit.model.Player player = new com.bitbybit.model.Player("Winner");
+        com.bitbybit.model.Player player = new com.bitbybit.model.SimplePlayer("Winner");
         player.addScore(500);
         gameContext.notifyObservers(new com.bitbybit.logging.PlayerJoinedEvent(player));
 
@@ -1,7 +1,13 @@
 package com.bitbybit.game;
 
 import com.bitbybit.logging.GameObserver;
+import com.bitbybit.logging.PlayerJoinedEvent;
+import com.bitbybit.logging.QuestionAnsweredEvent;
+import com.bitbybit.model.Player;
+import com.bitbybit.model.PlayerTable;
 import com.bitbybit.model.Question;
+import com.bitbybit.model.ScoreHistory;
+import com.bitbybit.model.SimplePlayer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -80,4 +86,50 @@ public class GameContextTest {
         gameContext.notifyObservers(mock(com.bitbybit.logging.GameEvent.class));
         verify(mockObserver, never()).onEvent(any());
     }
+
+    @Test
+    void testObserversSeeAssignedIdOnPlayerJoined() {
+        Player player = new SimplePlayer("Alice");
+        int[] seenId = {Player.UNASSIGNED_ID};
+        gameContext.addObserver(event -> {
+            if (event instanceof PlayerJoinedEvent) {
+                seenId[0] = ((PlayerJoinedEvent) event).getPlayer().getId();
+            }
+        });
+
+        gameContext.notifyObservers(new PlayerJoinedEvent(player));
+
+        assertEquals(0, seenId[0]);
+        assertEquals(0, player.getId());
+    }
+
+    @Test
+    void testTablePlayersJoinGame() {
+        PlayerTable table = new PlayerTable(2);
+        gameContext.notifyObservers(new PlayerJoinedEvent(table.player(table.add("Ann"))));
+        gameContext.notifyObservers(new PlayerJoinedEvent(table.player(table.add("Bob"))));
+
+        table.addScore(1, 200);
+
+        assertEquals(2, gameContext.getPlayers().size());
+        assertEquals(2, gameContext.getLeaderboard().size());
+        assertEquals(1, gameContext.getLeaderboard().getRank(table.player(1)));
+    }
+
+    @Test
+    void testScoreHistoryRecordsOnlyScoreChanges() {
+        Player player = new SimplePlayer("Alice");
+        gameContext.notifyObservers(new PlayerJoinedEvent(player));
+
+        player.addScore(100);
+        gameContext.notifyObservers(new QuestionAnsweredEvent(player, questions[0], true, "A", 100, 100));
+        gameContext.notifyObservers(new QuestionAnsweredEvent(player, questions[1], false, "A", 0, 100));
+        player.addScore(200);
+        gameContext.notifyObservers(new QuestionAnsweredEvent(player, questions[1], true, "B", 200, 300));
+
+        ScoreHistory.Series history = gameContext.getScoreHistory().get(player);
+        assertEquals(3, history.size());
+        assertEquals(3, history.getLastTurn());
+        assertEquals(300, history.getLastScore());
+    }
 }
@@ -57,7 +57,7 @@ public class GameFlowIntegrationTest {
         Scanner finishScanner = new Scanner(finishIn);
         gameContext = new GameContext(new FinishedState(), finishScanner);
         gameContext.notifyObservers(new com.bitbybit.logging.PlayerJoinedEvent(
-                new com.bitbybit.model.Player("Player1")));
+                new com.bitbybit.model.SimplePlayer("Player1")));
 
         assertDoesNotThrow(() -> new FinishedState().executeState(gameContext));
     }
@@ -1,12 +1,18 @@
 package com.bitbybit.game;
 
 import com.bitbybit.model.Player;
+import com.bitbybit.model.PlayerPool;
+import com.bitbybit.model.ScoreHistory;
 import com.bitbybit.model.Question;
+import com.bitbybit.profile.SeenQuestionStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -85,6 +91,79 @@ public class PlayingStateTest {
         assertTrue(gameContext.getState() instanceof FinishedState);
     }
 
+    @Test
+    void testAutoPickAnswersDrawnQuestion() {
+        Question only = new Question("31", "Art", 300, "Who painted the Mona Lisa?", "Da Vinci", "Monet", "Dali", "Picasso", "Da Vinci");
+        String input = "1\nPlayer1\nauto\nDa Vinci\nn\n";
+        Scanner scanner = new Scanner(new ByteArrayInputStream(input.getBytes()));
+
+        gameContext = new GameContext(playingState, scanner);
+        gameContext.setQuestions(new Question[] {only});
+
+        playingState.executeState(gameContext);
+
+        assertEquals(300, gameContext.getPlayers().get(0).getScore());
+    }
+
+    @Test
+    void testAutoPickSkipsQuestionsThePlayerHasSeen(@TempDir Path dir) throws IOException {
+        Question seen = new Question("31", "Art", 100, "Who painted the Mona Lisa?", "Da Vinci", "Monet", "Dali", "Picasso", "Da Vinci");
+        Question unseen = new Question("32", "Art", 900, "Who painted The Starry Night?", "Van Gogh", "Monet", "Dali", "Picasso", "Van Gogh");
+        SeenQuestionStore store = new SeenQuestionStore(dir, 100, 0.01);
+        store.get("Alice").put(seen);
+        String input = "1\nAlice\n*\nVan Gogh\nn\n";
+        Scanner scanner = new Scanner(new ByteArrayInputStream(input.getBytes()));
+
+        gameContext = new GameContext(playingState, scanner);
+        gameContext.setQuestions(new Question[] {seen, unseen});
+        gameContext.setSeenQuestionStore(store);
+
+        playingState.executeState(gameContext);
+
+        assertEquals(900, gameContext.getPlayers().get(0).getScore());
+    }
+
+    @Test
+    void testAutoPickAcceptsNegativeValues() {
+        Question penalty = new Question("51", "Trivia", -100, "Pick A", "A", "B", "C", "D", "A");
+        String input = "1\nPlayer1\n*\nA\nn\n";
+        Scanner scanner = new Scanner(new ByteArrayInputStream(input.getBytes()));
+
+        gameContext = new GameContext(playingState, scanner);
+        gameContext.setQuestions(new Question[] {penalty});
+
+        playingState.executeState(gameContext);
+
+        assertEquals(-100, gameContext.getPlayers().get(0).getScore());
+    }
+
+    @Test
+    void testCategoryStartingWithAutoIsReachableByPrefix() {
+        Question cars = new Question("41", "Automobiles", 400, "Who built the Model T?", "Ford", "Benz", "Fiat", "Opel", "Ford");
+        String input = "1\nPlayer1\nauto\n400\nFord\nn\n";
+        Scanner scanner = new Scanner(new ByteArrayInputStream(input.getBytes()));
+
+        gameContext = new GameContext(playingState, scanner);
+        gameContext.setQuestions(new Question[] {cars, testQuestions[0]});
+
+        playingState.executeState(gameContext);
+
+        assertEquals(400, gameContext.getPlayers().get(0).getScore());
+    }
+
+    @Test
+    void testCategoryPrefixResolves() {
+        String input = "1\nPlayer1\nhis\n200\nWashington\nn\n";
+        Scanner scanner = new Scanner(new ByteArrayInputStream(input.getBytes()));
+
+        gameContext = new GameContext(playingState, scanner);
+        gameContext.setQuestions(testQuestions);
+
+        playingState.executeState(gameContext);
+
+        assertEquals(200, gameContext.getPlayers().get(0).getScore());
+    }
+
     @Test
     void testScoreCalculationCorrectAnswer() {
         String input = "1\nPlayer1\nScience\n100\nWater\nn\n";
@@ -208,4 +287,31 @@ public class PlayingStateTest {
         Player player = gameContext.getPlayers().get(0);
         assertEquals("Player 1", player.getName());
     }
+
+    @Test
+    void testReuseContextAndStateAcrossGames() {
+        // two games, each answering Science 100 and stopping
+        String input = "Science\n100\nWater\nn\nScience\n100\nWater\nn\n";
+        Scanner scanner = new Scanner(new ByteArrayInputStream(input.getBytes()));
+        gameContext = new GameContext(playingState, scanner);
+        gameContext.setQuestions(testQuestions);
+        PlayerPool pool = new PlayerPool(2);
+
+        for (int game = 0; game < 2; game++) {
+            gameContext.reset(playingState);
+            playingState.reset();
+            playingState.seatPlayers(gameContext, pool.acquire(2));
+            playingState.executeState(gameContext);
+
+            assertInstanceOf(FinishedState.class, gameContext.getState());
+            assertEquals(2, gameContext.getPlayers().size());
+            // the question answered in the first game is available again in the second
+            assertEquals(100, gameContext.getLeaderboard().getLeader().getScore());
+            // the history restarts each game: joined at turn 0, then the answer on turn 1
+            ScoreHistory.Series history = gameContext.getScoreHistory().get(gameContext.getPlayers().get(0));
+            assertEquals(2, history.size());
+            assertEquals(1, history.getLastTurn());
+            assertEquals(100, history.getLastScore());
+        }
+    }
 }
@@ -130,4 +130,60 @@ public class CSVQuestionLoaderTest {
         assertEquals("Science", questions[1].getCategory());
         assertEquals("History", questions[2].getCategory());
     }
+
+    @Test
+    void testLoadStatisticsRecordBytesAndSkippedRows(@TempDir Path tempDir) throws IOException {
+        Path csvFile = tempDir.resolve("questions_stats.csv");
+        String csvContent = "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n" +
+                "Science,100,Complete question,A,B,C,D,A\n" +
+                "Incomplete,200\n" +
+                "Math,300,2+2=?,3,4,5,6,4";
+
+        Files.write(csvFile, csvContent.getBytes());
+
+        Question[] questions = loader.loadQuestions(csvFile.toString());
+        LoadStatistics stats = loader.getLastLoadStatistics();
+
+        assertEquals(2, questions.length);
+        assertEquals(1, stats.getSkippedRows());
+        assertEquals(csvContent.getBytes().length, stats.getBytesRead());
+        assertTrue(stats.getTotalNanos() > 0);
+        assertFalse(stats.toString().contains(","));
+    }
+
+    @Test
+    void testLoadQuestionsWithOptionalMediaColumn(@TempDir Path tempDir) throws IOException {
+        Path csvFile = tempDir.resolve("questions_media.csv");
+        String csvContent = "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer,Media\n" +
+                "Flags,100,Which country is this?,France,Italy,Spain,Chad,A,images/flag.png\n" +
+                "Flags,200,No picture here,A,B,C,D,B,";
+
+        Files.write(csvFile, csvContent.getBytes());
+
+        Question[] questions = loader.loadQuestions(csvFile.toString());
+
+        assertEquals(2, questions.length);
+        assertTrue(questions[0].hasMedia());
+        assertEquals("images/flag.png", questions[0].getMediaRef());
+        assertFalse(questions[1].hasMedia());
+    }
+
+    @Test
+    void testLoadQuestionsWithTagsAndDifficulty(@TempDir Path tempDir) throws IOException {
+        Path csvFile = tempDir.resolve("questions_tags.csv");
+        String csvContent = "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer,Media,Tags,Difficulty\n" +
+                "History,100,Who was Napoleon?,General,Poet,Painter,Chef,A,,Europe; Military,3\n" +
+                "History,200,No tags here,A,B,C,D,B";
+
+        Files.write(csvFile, csvContent.getBytes());
+
+        Question[] questions = loader.loadQuestions(csvFile.toString());
+
+        assertEquals(2, questions.length);
+        assertTrue(questions[0].hasTag("europe"));
+        assertTrue(questions[0].hasTag("MILITARY"));
+        assertEquals(3, questions[0].getDifficulty());
+        assertTrue(questions[1].getTags().isEmpty());
+        assertEquals(Question.UNRATED, questions[1].getDifficulty());
+    }
 }
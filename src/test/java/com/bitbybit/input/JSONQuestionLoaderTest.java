@@ -146,6 +146,52 @@ public class JSONQuestionLoaderTest {
         assertEquals(500, questions[0].getValue());
         assertEquals("4", questions[0].getOptionB());
         assertEquals("4", questions[0].getCorrectAnswer());
-        assertFalse(questions[0].isAnswered());
+    }
+
+    @Test
+    void testLoadStatisticsCountInvalidEntries(@TempDir Path tempDir) throws IOException {
+        Path jsonFile = tempDir.resolve("questions_malformed.json");
+        String jsonContent = """
+                [
+                  {
+                    "Category": "Science",
+                    "Value": 100,
+                    "Question": "What is H2O?",
+                    "Options": {"A": "Water", "B": "Salt", "C": "Air", "D": "Fire"},
+                    "CorrectAnswer": "Water"
+                  },
+                  {
+                    "Category": "Science",
+                    "Question": "No value",
+                    "Options": {"A": "A", "B": "B", "C": "C", "D": "D"},
+                    "CorrectAnswer": "A"
+                  },
+                  {
+                    "Category": " ",
+                    "Value": 200,
+                    "Question": "Blank category",
+                    "Options": {"A": "A", "B": "B", "C": "C", "D": "D"},
+                    "CorrectAnswer": "A"
+                  },
+                  {
+                    "Category": "Science",
+                    "Value": 300,
+                    "Question": "Missing options",
+                    "Options": {"A": "A"},
+                    "CorrectAnswer": "A"
+                  },
+                  null
+                ]
+                """;
+
+        Files.write(jsonFile, jsonContent.getBytes());
+
+        Question[] questions = loader.loadQuestions(jsonFile.toString());
+        LoadStatistics stats = loader.getLastLoadStatistics();
+
+        assertEquals(4, questions.length);
+        assertEquals(0, questions[1].getValue());
+        assertEquals(3, stats.getInvalidRows());
+        assertEquals(1, stats.getSkippedRows());
     }
 }
@@ -189,4 +189,65 @@ public class XMLQuestionLoaderTest {
         assertEquals(1, questions.length);
         assertEquals(0, questions[0].getValue()); // Should default to 0
     }
+
+    @Test
+    void testLoadStatisticsCountInvalidItems(@TempDir Path tempDir) throws IOException {
+        Path xmlFile = tempDir.resolve("questions_malformed.xml");
+        String xmlContent = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <Questions>
+                  <QuestionItem>
+                    <Category>Science</Category>
+                    <Value>100</Value>
+                    <QuestionText>What is H2O?</QuestionText>
+                    <Options>
+                      <OptionA>Water</OptionA>
+                      <OptionB>Salt</OptionB>
+                      <OptionC>Air</OptionC>
+                      <OptionD>Fire</OptionD>
+                    </Options>
+                    <CorrectAnswer>Water</CorrectAnswer>
+                  </QuestionItem>
+                  <QuestionItem>
+                    <Value>200</Value>
+                    <QuestionText>No category</QuestionText>
+                    <Options>
+                      <OptionA>A</OptionA>
+                      <OptionB>B</OptionB>
+                      <OptionC>C</OptionC>
+                      <OptionD>D</OptionD>
+                    </Options>
+                    <CorrectAnswer>A</CorrectAnswer>
+                  </QuestionItem>
+                  <QuestionItem>
+                    <Category>Science</Category>
+                    <Value>lots</Value>
+                    <QuestionText>Bad value</QuestionText>
+                    <Options>
+                      <OptionA>A</OptionA>
+                      <OptionB>B</OptionB>
+                      <OptionC>C</OptionC>
+                      <OptionD>D</OptionD>
+                    </Options>
+                    <CorrectAnswer>A</CorrectAnswer>
+                  </QuestionItem>
+                  <QuestionItem>
+                    <Category>Science</Category>
+                    <Value>300</Value>
+                    <QuestionText>No options</QuestionText>
+                    <CorrectAnswer>A</CorrectAnswer>
+                  </QuestionItem>
+                </Questions>
+                """;
+
+        Files.write(xmlFile, xmlContent.getBytes());
+
+        Question[] questions = loader.loadQuestions(xmlFile.toString());
+        LoadStatistics stats = loader.getLastLoadStatistics();
+
+        assertEquals(4, questions.length);
+        assertEquals(3, stats.getInvalidRows());
+        assertEquals(0, stats.getSkippedRows());
+        assertTrue(stats.toString().contains("invalid=3"));
+    }
 }
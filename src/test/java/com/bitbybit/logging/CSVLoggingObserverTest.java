@@ -0,0 +1,33 @@
+package com.bitbybit.logging;
+
+import com.bitbybit.input.LoadStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class CSVLoggingObserverTest {
+
+    @Test
+    void testLoadStatisticsGoToTheirOwnLog(@TempDir Path tempDir) throws IOException {
+        CSVLoggingObserver observer = new CSVLoggingObserver(tempDir.toString());
+        observer.onEvent(new LoadFileEvent("questions, final.csv", 42, new LoadStatistics()));
+
+        List<String> game = Files.readAllLines(tempDir.resolve("game_logs/game_001.csv"));
+        assertEquals(2, game.size());
+        String[] row = game.get(1).split(",", -1);
+        assertEquals("Load File", row[2]);
+        assertEquals("", row[5]);
+        assertEquals("", row[6]);
+
+        List<String> stats = Files.readAllLines(tempDir.resolve("game_logs/load_stats.csv"));
+        assertEquals(2, stats.size());
+        assertTrue(stats.get(0).startsWith("Case_ID,Timestamp,File,Question_Count"));
+        assertTrue(stats.get(1).contains("\"questions, final.csv\",42,"));
+        assertTrue(stats.get(1).endsWith(",0,0"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.bitbybit.logging;
+
+import com.bitbybit.input.LoadStatistics;
+import com.bitbybit.model.Player;
+import com.bitbybit.model.Question;
+import com.bitbybit.model.ScoreSnapshot;
+import com.bitbybit.model.SimplePlayer;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+public class EventStoreTest {
+
+    private final Player alice = new SimplePlayer("Alice");
+    private final Question question = new Question("1", "Science", 200, "What is H2O?", "Water", "Salt", "Air", "Fire", "Water");
+
+    @Test
+    void testRoundTripsEvents() {
+        EventStore store = new EventStore();
+        LoadFileEvent load = new LoadFileEvent("questions.csv", 10, new LoadStatistics());
+        store.append(load, 5L);
+        store.append(new GameStartedEvent());
+        store.append(new PlayerJoinedEvent(alice));
+        store.append(new SelectCategoryEvent("Science", "Alice"));
+        store.append(new SelectQuestionEvent("Science", 200, "Alice"));
+        store.append(new QuestionAnsweredEvent(alice, question, true, "Water", 200, 200));
+        store.append(new GameFinishedEvent());
+
+        assertEquals(7, store.size());
+        assertEquals("FILE_LOADED", store.getType(0));
+        assertEquals(5L, store.getTimestamp(0));
+        assertSame(load, store.get(0));
+        assertEquals(1, store.count("QUESTION_ANSWERED"));
+        assertEquals(1, store.count("FILE_LOADED"));
+        assertEquals(0, store.count("NO_SUCH_EVENT"));
+
+        List<GameEvent> events = store.toList();
+        assertSame(alice, ((PlayerJoinedEvent) events.get(2)).getPlayer());
+        SelectQuestionEvent selected = (SelectQuestionEvent) events.get(4);
+        assertEquals("Science", selected.getCategory());
+        assertEquals(200, selected.getValue());
+        assertEquals("Alice", selected.getPlayerName());
+        QuestionAnsweredEvent answered = (QuestionAnsweredEvent) events.get(5);
+        assertSame(question, answered.getQuestion());
+        assertTrue(answered.isCorrect());
+        assertEquals("Water", answered.getAnswerGiven());
+        assertEquals(200, answered.getRunningScore());
+        assertInstanceOf(GameFinishedEvent.class, events.get(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(7));
+    }
+
+    @Test
+    void testFinalScoresStayTyped() {
+        EventStore store = new EventStore();
+        ScoreSnapshot scores = ScoreSnapshot.of(List.of(alice));
+        store.append(new GameFinishedEvent(scores));
+
+        assertEquals(1, store.count("GAME_FINISHED"));
+        GameFinishedEvent finished = (GameFinishedEvent) store.get(0);
+        assertSame(scores, finished.getFinalScores());
+    }
+
+    @Test
+    void testAnswerCursorAndGrowth() {
+        EventStore store = new EventStore();
+        int expected = 0;
+        for (int i = 0; i < 500; i++) {
+            store.append(new SelectCategoryEvent("Science", "Alice"));
+            boolean correct = i % 3 == 0;
+            expected += correct ? 200 : -200;
+            store.append(new QuestionAnsweredEvent(alice, question, correct, correct ? "Water" : "Salt",
+                    correct ? 200 : -200, expected));
+        }
+        EventStore.AnswerCursor answers = store.answers();
+        int count = 0;
+        int total = 0;
+        while (answers.next()) {
+            assertSame(alice, answers.getPlayer());
+            total += answers.getPointsEarned();
+            assertEquals(total, answers.getRunningScore());
+            assertEquals(answers.isCorrect() ? "Water" : "Salt", answers.getAnswerGiven());
+            count++;
+        }
+        assertEquals(500, count);
+
+        store.clear();
+        assertEquals(0, store.size());
+        assertFalse(store.answers().next());
+    }
+}
@@ -0,0 +1,48 @@
+package com.bitbybit.media;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssetStoreTest {
+
+    @Test
+    void testPackAndServeAssets(@TempDir Path tempDir) throws IOException {
+        Path assets = Files.createDirectories(tempDir.resolve("assets/images"));
+        Files.write(assets.resolve("flag.png"), new byte[] {1, 2, 3, 4});
+        Files.write(tempDir.resolve("assets/intro.wav"), new byte[] {9, 8});
+        Path pack = tempDir.resolve("assets.pak");
+
+        assertEquals(2, AssetPacker.pack(tempDir.resolve("assets"), pack));
+
+        try (AssetStore store = AssetStore.open(pack)) {
+            assertTrue(store.contains("images/flag.png"));
+            assertEquals(2, store.getAssetNames().size());
+
+            ByteBuffer flag = store.getAsset("images/flag.png");
+            assertEquals(4, flag.remaining());
+            assertEquals(1, flag.get(0));
+            assertEquals(4, flag.get(3));
+            assertTrue(flag.isReadOnly());
+
+            ByteBuffer intro = store.getAsset("intro.wav");
+            assertEquals(2, intro.remaining());
+            assertEquals(9, intro.get(0));
+
+            assertNull(store.getAsset("missing.png"));
+        }
+    }
+
+    @Test
+    void testOpenRejectsNonPackFile(@TempDir Path tempDir) throws IOException {
+        Path notAPack = tempDir.resolve("bogus.pak");
+        Files.write(notAPack, "not a pack at all".getBytes());
+        assertThrows(IOException.class, () -> AssetStore.open(notAPack));
+    }
+}
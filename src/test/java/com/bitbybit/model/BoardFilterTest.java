@@ -0,0 +1,72 @@
+package com.bitbybit.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class BoardFilterTest {
+
+    private QuestionBoard board;
+    private List<Question> questions;
+
+    private static Question question(String id, String category, int value, int difficulty, String... tags) {
+        return new Question(id, category, value, "Q" + id, "A", "B", "C", "D", "A", null, Arrays.asList(tags), difficulty);
+    }
+
+    @BeforeEach
+    void setUp() {
+        questions = new ArrayList<>();
+        questions.add(question("H1", "History", 100, 1, "europe"));
+        questions.add(question("H2", "History", 200, 2, "Europe", "war"));
+        questions.add(question("H3", "History", 500, 5, "asia"));
+        questions.add(question("S1", "Science", 100, 1));
+        questions.add(question("S2", "Science", 400, 4, "europe"));
+        board = new QuestionBoard(questions);
+    }
+
+    @Test
+    void testBasicFilters() {
+        assertEquals(3, board.count(BoardFilter.category("history")));
+        assertEquals(4, board.count(BoardFilter.valueAtMost(400)));
+        assertEquals(2, board.count(BoardFilter.valueBetween(200, 400)));
+        assertEquals(3, board.count(BoardFilter.tag(" EUROPE ")));
+        assertEquals(2, board.count(BoardFilter.difficultyBetween(4, 5)));
+        assertEquals(5, board.count(BoardFilter.all()));
+        assertEquals(0, board.count(BoardFilter.tag("unknown")));
+        assertEquals(0, board.count(BoardFilter.category("Art")));
+        assertEquals(Arrays.asList("asia", "europe", "war"), new ArrayList<>(board.getBank().getTags()));
+    }
+
+    @Test
+    void testCombinedFilters() {
+        BoardFilter themed = BoardFilter.valueAtMost(400).and(BoardFilter.tag("europe"));
+        assertEquals(Arrays.asList(questions.get(0), questions.get(1), questions.get(4)), board.select(themed));
+
+        BoardFilter either = BoardFilter.tag("asia").or(BoardFilter.category("Science"));
+        assertEquals(3, board.count(either));
+        assertEquals(2, board.count(either.negate()));
+    }
+
+    @Test
+    void testAnsweredStateFilters() {
+        board.markQuestionAsAnswered("History", 100);
+        board.markQuestionAsAnswered("Science", 100);
+        assertEquals(3, board.count(BoardFilter.unanswered()));
+        // History has 2 unanswered questions left, Science only 1
+        assertEquals(3, board.count(BoardFilter.categoryHasAtLeast(2)));
+        assertEquals(2, board.count(BoardFilter.categoryHasAtLeast(2).and(BoardFilter.unanswered())));
+    }
+
+    @Test
+    void testCreateFilteredBoard() {
+        board.markQuestionAsAnswered("History", 100);
+        QuestionBoard themed = board.createFilteredBoard(BoardFilter.tag("europe").and(BoardFilter.unanswered()));
+        assertEquals(2, themed.getQuestionCount());
+        assertEquals(0, themed.getAnsweredCount());
+        assertEquals(Arrays.asList("History", "Science"), themed.getCategories());
+    }
+}
@@ -0,0 +1,150 @@
+package com.bitbybit.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class BoardGeneratorTest {
+
+    private QuestionBank bank;
+
+    @BeforeEach
+    void setUp() {
+        List<Question> questions = new ArrayList<>();
+        for (int c = 0; c < 10; c++) {
+            for (int q = 0; q < 20; q++) {
+                questions.add(new Question("C" + c + "Q" + q, "Category" + c, (q % 5 + 1) * 100,
+                        "Question " + q, "A", "B", "C", "D", "A"));
+            }
+        }
+        bank = new QuestionBank(questions);
+    }
+
+    private static Set<String> ids(QuestionBoard board) {
+        Set<String> ids = new HashSet<>();
+        for (Question q : board.getBank().toArray()) {
+            ids.add(q.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    void testGeneratesBoardOfRequestedShape() {
+        QuestionBoard board = new BoardGenerator(bank, 3).generate("tenant", 5, 4);
+        assertEquals(5, board.getCategories().size());
+        assertEquals(20, board.getQuestionCount());
+        for (CategoryKey key : board.getBank().getCategoryKeys()) {
+            assertEquals(4, board.getQuestionCount(key));
+            int[] values = board.getAvailableValueArray(key);
+            for (int i = 1; i < values.length; i++) {
+                assertTrue(values[i - 1] <= values[i]);
+            }
+        }
+    }
+
+    @Test
+    void testNoRepeatsWithinWindow() {
+        // 200 questions, 40 per board: 5 boards use the whole bank
+        BoardGenerator generator = new BoardGenerator(bank, 5, 5);
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            for (String id : ids(generator.generate("tenant", 10, 4))) {
+                assertTrue(seen.add(id), "repeated " + id);
+            }
+        }
+        assertEquals(200, generator.trackerFor("tenant").getRecentCount());
+        assertThrows(IllegalStateException.class, () -> generator.generate("tenant", 10, 4));
+
+        // other tenants are tracked separately
+        assertEquals(40, generator.generate("other", 10, 4).getQuestionCount());
+        generator.resetTenant("tenant");
+        assertEquals(40, generator.generate("tenant", 10, 4).getQuestionCount());
+    }
+
+    @Test
+    void testExcludedQuestionsAreSkipped() {
+        BoardGenerator generator = new BoardGenerator(bank, 1);
+        for (int i = 0; i < 20; i++) {
+            QuestionBoard board = generator.generate("tenant", 5, 5, q -> q.getId().endsWith("Q0"));
+            assertFalse(ids(board).stream().anyMatch(id -> id.endsWith("Q0")));
+        }
+        assertThrows(IllegalStateException.class,
+                () -> generator.generate("other", 1, 1, q -> true));
+    }
+
+    @Test
+    void testGeneratedBoardIsAViewOfTheBoardOnly() {
+        QuestionBoard board = new BoardGenerator(bank, 1).generate("tenant", 3, 4);
+        QuestionBank view = board.getBank();
+        assertEquals(12, view.size());
+        assertEquals(3, view.getCategoryCount());
+
+        CategoryKey key = view.getCategoryKeys().get(0);
+        assertEquals(key, board.resolveCategory(key));
+        assertEquals(4, board.count(BoardFilter.category(view.getCategories().get(0))));
+        assertEquals(12, board.count(BoardFilter.all()));
+
+        Question first = view.getQuestion(0);
+        assertSame(first, bank.getQuestion(bank.slotOf(first)));
+        board.markQuestionAsAnswered(first);
+        assertEquals(11, board.getRemainingCount());
+        assertEquals(3, board.getRemainingCount(first.getCategoryKey()));
+    }
+
+    @Test
+    void testTrackerForgetsOldGenerations() {
+        RecentQuestionTracker tracker = new RecentQuestionTracker(2, 2);
+        tracker.recordBoard(new int[] {1});
+        tracker.recordBoard(new int[] {2});
+        assertTrue(tracker.isRecent(1));
+        tracker.recordBoard(new int[] {3});
+        assertTrue(tracker.isRecent(1));
+        tracker.recordBoard(new int[] {4});
+        assertFalse(tracker.isRecent(1));
+        assertTrue(tracker.isRecent(2));
+        assertTrue(tracker.isRecent(4));
+    }
+
+    @Test
+    void testTrackerKeepsTheWholeWindow() {
+        // 10 boards in 3 generations of 4; board n serves only slot n
+        RecentQuestionTracker tracker = new RecentQuestionTracker(10, 3);
+        for (int board = 0; board < 60; board++) {
+            for (int served = Math.max(0, board - 10); served < board; served++) {
+                assertTrue(tracker.isRecent(served), "board " + served + " forgotten at " + board);
+            }
+            if (board >= 17) {
+                assertFalse(tracker.isRecent(board - 17));
+            }
+            tracker.recordBoard(new int[] {board});
+        }
+    }
+
+    @Test
+    void testConcurrentGenerationForOneTenant() throws Exception {
+        BoardGenerator generator = new BoardGenerator(bank, 10, 10);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<QuestionBoard>> boards = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                boards.add(pool.submit(() -> generator.generate("tenant", 10, 5)));
+            }
+            Set<String> seen = new HashSet<>();
+            for (Future<QuestionBoard> board : boards) {
+                for (String id : ids(board.get())) {
+                    assertTrue(seen.add(id), "repeated " + id);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
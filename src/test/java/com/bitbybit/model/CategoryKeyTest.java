@@ -0,0 +1,34 @@
+package com.bitbybit.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CategoryKeyTest {
+
+    @Test
+    void testCaseAndWhitespaceInsensitive() {
+        CategoryKey key = CategoryKey.of("Data Types");
+        assertEquals(key, CategoryKey.of("  data   types "));
+        assertEquals(key, CategoryKey.of("DATATYPES"));
+        assertEquals(key.hashCode(), CategoryKey.of("data\ttypes").hashCode());
+        assertEquals("datatypes", key.toString());
+    }
+
+    @Test
+    void testUnicodeCompatibilityForms() {
+        // Full-width letters and a no-break space normalize to their plain forms
+        assertEquals(CategoryKey.of("Data Types"), CategoryKey.of("Ｄata Types"));
+    }
+
+    @Test
+    void testDifferentCategoriesDiffer() {
+        assertNotEquals(CategoryKey.of("Arrays"), CategoryKey.of("Functions"));
+        assertTrue(CategoryKey.of(null).isEmpty());
+    }
+
+    @Test
+    void testQuestionPrecomputesKey() {
+        Question question = new Question("Q1", "File Handling", 100, "Q", "A", "B", "C", "D", "A");
+        assertEquals(CategoryKey.of("filehandling"), question.getCategoryKey());
+    }
+}
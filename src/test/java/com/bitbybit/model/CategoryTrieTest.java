@@ -0,0 +1,58 @@
+package com.bitbybit.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class CategoryTrieTest {
+
+    private CategoryTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        List<Question> questions = new ArrayList<>();
+        for (String category : new String[] {"Science", "Science Fiction", "History", "Data Types", "Design Trends", "OOP"}) {
+            questions.add(new Question(category, category, 100, "Q", "A", "B", "C", "D", "A"));
+        }
+        trie = new QuestionBank(questions).getCategoryTrie();
+    }
+
+    @Test
+    void testResolveExactAndUniquePrefix() {
+        assertEquals(CategoryKey.of("History"), trie.resolve("history"));
+        assertEquals(CategoryKey.of("History"), trie.resolve("Hi"));
+        assertEquals(CategoryKey.of("Science Fiction"), trie.resolve("science f"));
+        // "Science" is an exact key even though "Science Fiction" shares the prefix
+        assertEquals(CategoryKey.of("Science"), trie.resolve("SCIENCE"));
+    }
+
+    @Test
+    void testResolveAmbiguousOrUnknown() {
+        assertNull(trie.resolve("sci"));
+        assertNull(trie.resolve("d"));
+        assertNull(trie.resolve("geography"));
+        assertNull(trie.resolve(""));
+    }
+
+    @Test
+    void testResolveAcronyms() {
+        assertEquals(CategoryKey.of("Science Fiction"), trie.resolve("SF"));
+        // "dt" is the acronym of two categories, and their names share only "d"
+        assertNull(trie.resolve("dt"));
+        assertEquals(CategoryKey.of("Data Types"), trie.resolve("da"));
+        assertNull(CategoryTrie.acronym("OOP"));
+        assertEquals("dt", CategoryTrie.acronym(" Data  Types "));
+    }
+
+    @Test
+    void testComplete() {
+        assertEquals(Arrays.asList("Science", "Science Fiction"), trie.complete(CategoryKey.of("sci")));
+        assertEquals(Arrays.asList("Data Types", "Design Trends"), trie.complete(CategoryKey.of("d")));
+        assertEquals(6, trie.complete(CategoryKey.of("")).size());
+        assertTrue(trie.complete(CategoryKey.of("xyz")).isEmpty());
+    }
+}
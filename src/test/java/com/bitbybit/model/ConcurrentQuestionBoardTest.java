@@ -0,0 +1,99 @@
+package com.bitbybit.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ConcurrentQuestionBoardTest {
+
+    private static QuestionBank bank(int categories, int perValue) {
+        List<Question> questions = new ArrayList<>();
+        for (int c = 0; c < categories; c++) {
+            for (int v = 1; v <= 5; v++) {
+                for (int k = 0; k < perValue; k++) {
+                    questions.add(new Question("C" + c + "V" + v + "K" + k, "Category" + c, v * 100,
+                            "Q", "A", "B", "C", "D", "A"));
+                }
+            }
+        }
+        return new QuestionBank(questions);
+    }
+
+    @Test
+    void testClaimsLikeABoard() {
+        ConcurrentQuestionBoard board = new ConcurrentQuestionBoard(bank(2, 1));
+        CategoryKey key = CategoryKey.of("category0");
+        Question q = board.claim("Category0", 300);
+        assertNotNull(q);
+        assertTrue(board.isClaimed(q));
+        assertNull(board.claim(key, 300));
+        assertFalse(board.claim(q));
+        assertArrayEquals(new int[] {100, 200, 400, 500}, board.getAvailableValues(key));
+        assertEquals(4, board.getRemainingCount(key));
+        assertEquals(9, board.getRemainingCount());
+        assertEquals(4, board.getAvailableQuestions(key).size());
+        assertNull(board.claim("Nope", 100));
+        assertEquals(1, board.getSnapshot().getVersion());
+    }
+
+    @Test
+    void testEachQuestionIsClaimedOnce() throws Exception {
+        ConcurrentQuestionBoard board = new ConcurrentQuestionBoard(bank(4, 20));
+        Set<Question> claimed = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<Integer>> wins = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                wins.add(pool.submit(() -> {
+                    start.await();
+                    int won = 0;
+                    for (int c = 0; c < 4; c++) {
+                        for (int v = 1; v <= 5; v++) {
+                            Question q;
+                            while ((q = board.claim("Category" + c, v * 100)) != null) {
+                                assertTrue(claimed.add(q), "claimed twice: " + q.getId());
+                                won++;
+                            }
+                        }
+                    }
+                    return won;
+                }));
+            }
+            // a reader taking snapshots while claims happen only ever sees sorted, shrinking boards
+            Future<?> reader = pool.submit(() -> {
+                start.await();
+                int last = Integer.MAX_VALUE;
+                while (!board.isBoardEmpty()) {
+                    int[] values = board.getAvailableValues(CategoryKey.of("Category0"));
+                    for (int i = 1; i < values.length; i++) {
+                        assertTrue(values[i - 1] <= values[i]);
+                    }
+                    assertTrue(values.length <= last);
+                    last = values.length;
+                }
+                return null;
+            });
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> won : wins) {
+                total += won.get();
+            }
+            reader.get();
+            assertEquals(400, total);
+            assertTrue(board.isBoardEmpty());
+            assertEquals(0, board.getSnapshot().getValueCount(0));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.bitbybit.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class LeaderboardTest {
+
+    @Test
+    void testRankingFollowsScoreChanges() {
+        Leaderboard leaderboard = new Leaderboard();
+        Player alice = new SimplePlayer("Alice");
+        Player bob = new SimplePlayer("Bob");
+        Player carol = new SimplePlayer("Carol");
+        leaderboard.add(alice);
+        leaderboard.add(bob);
+        leaderboard.add(carol);
+
+        // equal scores keep the order players were added in
+        assertEquals(1, leaderboard.getRank(alice));
+        assertEquals(3, leaderboard.getRank(carol));
+
+        carol.addScore(300);
+        bob.addScore(100);
+        assertEquals(1, leaderboard.getRank(carol));
+        assertEquals(2, leaderboard.getRank(bob));
+        assertEquals(3, leaderboard.getRank(alice));
+        assertSame(carol, leaderboard.getLeader().getPlayer());
+        assertEquals(300, leaderboard.getLeader().getScore());
+
+        carol.subtractScore(300);
+        assertEquals(3, leaderboard.getRank(carol));
+    }
+
+    @Test
+    void testTopKAndAround() {
+        Leaderboard leaderboard = new Leaderboard();
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Player player = new SimplePlayer("P" + i);
+            player.addScore(i * 100);
+            players.add(player);
+            leaderboard.add(player);
+        }
+
+        List<Leaderboard.Entry> top = leaderboard.getTopK(3);
+        assertEquals(3, top.size());
+        assertSame(players.get(9), top.get(0).getPlayer());
+        assertSame(players.get(7), top.get(2).getPlayer());
+        assertEquals(3, top.get(2).getRank());
+
+        List<Leaderboard.Entry> around = leaderboard.getAround(players.get(5), 1);
+        assertEquals(3, around.size());
+        assertSame(players.get(6), around.get(0).getPlayer());
+        assertSame(players.get(5), around.get(1).getPlayer());
+        assertSame(players.get(4), around.get(2).getPlayer());
+
+        // views are clipped at both ends
+        assertEquals(3, leaderboard.getAround(players.get(9), 2).size());
+        assertEquals(10, leaderboard.getTopK(50).size());
+        assertNull(leaderboard.getEntry(11));
+    }
+
+    @Test
+    void testRemove() {
+        Leaderboard leaderboard = new Leaderboard();
+        Player alice = new SimplePlayer("Alice");
+        leaderboard.add(alice);
+        leaderboard.remove(alice);
+        alice.addScore(100);
+        assertEquals(0, leaderboard.size());
+        assertEquals(-1, leaderboard.getRank(alice));
+        assertTrue(leaderboard.getAround(alice, 1).isEmpty());
+    }
+
+    @Test
+    void testMatchesSortedOrder() {
+        Random random = new Random(42);
+        Leaderboard leaderboard = new Leaderboard();
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Player player = new SimplePlayer("P" + i);
+            players.add(player);
+            leaderboard.add(player);
+        }
+        for (int i = 0; i < 5000; i++) {
+            Player player = players.get(random.nextInt(players.size()));
+            if (random.nextBoolean()) {
+                player.addScore(random.nextInt(10) * 100);
+            } else {
+                player.subtractScore(random.nextInt(10) * 100);
+            }
+        }
+
+        List<Player> expected = new ArrayList<>(players);
+        expected.sort(Comparator.comparingInt(Player::getScore).reversed());
+        List<Leaderboard.Entry> entries = leaderboard.getEntries();
+        assertEquals(expected.size(), entries.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), entries.get(i).getPlayer());
+            assertEquals(i + 1, leaderboard.getRank(expected.get(i)));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.bitbybit.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+public class PlayerRegistryTest {
+
+    @Test
+    void testRegisterAssignsDenseIds() {
+        PlayerRegistry registry = new PlayerRegistry();
+        Player alice = new SimplePlayer("Alice");
+        assertEquals(Player.UNASSIGNED_ID, alice.getId());
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, registry.register(new SimplePlayer("P" + i)));
+        }
+        assertEquals(20, registry.register(alice));
+        assertEquals(20, alice.getId());
+        assertSame(alice, registry.get(20));
+        assertEquals(21, registry.size());
+        assertEquals(21, registry.getPlayers().size());
+    }
+
+    @Test
+    void testRegisterIsIdempotent() {
+        PlayerRegistry registry = new PlayerRegistry();
+        Player alice = new SimplePlayer("Alice");
+        registry.register(alice);
+        assertEquals(0, registry.register(alice));
+        assertEquals(1, registry.size());
+        assertTrue(registry.contains(alice));
+        assertFalse(registry.contains(new SimplePlayer("Alice")));
+    }
+
+    @Test
+    void testRegisterWithSecondRegistryFails() {
+        Player alice = new SimplePlayer("Alice");
+        new PlayerRegistry().register(alice);
+        PlayerRegistry other = new PlayerRegistry();
+        other.register(new SimplePlayer("Bob"));
+        assertThrows(IllegalArgumentException.class, () -> other.register(alice));
+    }
+
+    @Test
+    void testGetOutOfRange() {
+        PlayerRegistry registry = new PlayerRegistry();
+        assertNull(registry.get(0));
+        assertNull(registry.get(Player.UNASSIGNED_ID));
+    }
+
+    @Test
+    void testIndexOf() {
+        PlayerRegistry registry = new PlayerRegistry();
+        Player alice = new SimplePlayer("Alice");
+        Player bob = new SimplePlayer("Bob");
+        registry.register(alice);
+        registry.register(bob);
+
+        PlayerRegistry index = PlayerRegistry.indexOf(Arrays.asList(bob, new SimplePlayer("Unregistered")));
+        assertSame(bob, index.get(1));
+        assertNull(index.get(0));
+        assertEquals(Arrays.asList(bob), index.getPlayers());
+    }
+
+    @Test
+    void testPooledPlayersRejoinAfterClear() {
+        PlayerPool pool = new PlayerPool(3);
+        PlayerRegistry registry = new PlayerRegistry();
+        for (Player player : pool.acquire(2)) {
+            registry.register(player);
+            player.addScore(500);
+        }
+        assertThrows(IllegalStateException.class, () -> pool.acquire(2));
+
+        registry.clear();
+        assertEquals(0, registry.size());
+        Player first = pool.acquire(3).get(0);
+        assertEquals(Player.UNASSIGNED_ID, first.getId());
+        assertEquals(0, first.getScore());
+        assertEquals(0, registry.register(first));
+        assertThrows(IllegalArgumentException.class, () -> pool.acquire(4));
+    }
+}
@@ -0,0 +1,115 @@
+package com.bitbybit.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PlayerTableTest {
+
+    @Test
+    void testColumnsAndNameDictionary() {
+        PlayerTable table = new PlayerTable(4);
+        assertEquals(0, table.add("Ann"));
+        assertEquals(1, table.add("Bob"));
+        assertEquals(2, table.add("Ann"));
+        assertEquals(2, table.getDistinctNameCount());
+        assertArrayEquals(new int[] {0, 2}, table.rowsNamed("Ann"));
+        assertArrayEquals(new int[0], table.rowsNamed("Cy"));
+
+        table.recordAnswer(0, true, 200);
+        table.recordAnswer(0, false, 500);
+        assertEquals(0, table.getScore(0));
+        assertEquals(2, table.getAnsweredCount(0));
+        assertEquals(1, table.getCorrectCount(0));
+
+        table.add("Dee");
+        assertThrows(IllegalStateException.class, () -> table.add("Eve"));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getScore(4));
+    }
+
+    @Test
+    void testFlyweightView() {
+        PlayerTable table = new PlayerTable(2);
+        int row = table.add("Ann");
+        List<Integer> changes = new ArrayList<>();
+        table.addScoreListener((player, oldScore, newScore) -> changes.add(newScore));
+
+        Player view = table.player(row);
+        view.addScore(300);
+        view.subtractScore(100);
+        assertEquals(200, table.getScore(row));
+        assertEquals("Ann (Score: 200)", view.toString());
+        assertSame(table.player(row), view);
+        assertEquals(List.of(300, 200), changes);
+
+        assertEquals(Player.UNASSIGNED_ID, view.getId());
+    }
+
+    @Test
+    void testViewsGetRegistryIds() {
+        PlayerTable table = new PlayerTable(2);
+        PlayerTable other = new PlayerTable(1);
+        Player view = table.player(table.add("Ann"));
+        Player otherView = other.player(other.add("Bob"));
+
+        PlayerRegistry registry = new PlayerRegistry();
+        assertEquals(0, registry.register(new SimplePlayer("Alice")));
+        assertEquals(1, registry.register(view));
+        assertEquals(2, registry.register(otherView));
+        assertSame(view, registry.get(1));
+        assertEquals(1, registry.register(table.player(0)));
+        assertEquals(3, registry.size());
+
+        registry.clear();
+        assertEquals(Player.UNASSIGNED_ID, view.getId());
+        assertEquals(0, registry.register(otherView));
+    }
+
+    @Test
+    void testViewsJoinLeaderboard() {
+        PlayerTable table = new PlayerTable(3);
+        Leaderboard leaderboard = new Leaderboard();
+        for (int i = 0; i < 3; i++) {
+            leaderboard.add(table.player(table.add("P" + i)));
+        }
+        leaderboard.add(table.player(1));
+        assertEquals(3, leaderboard.size());
+
+        table.addScore(2, 500);
+        table.player(1).addScore(300);
+        assertEquals(1, leaderboard.getRank(table.player(2)));
+        assertEquals(2, leaderboard.getRank(table.player(1)));
+        assertEquals(500, leaderboard.getTopK(1).get(0).getScore());
+    }
+
+    @Test
+    void testBulkScoringAndRanking() {
+        PlayerTable table = new PlayerTable(1000);
+        int[] deltas = new int[1000];
+        for (int i = 0; i < 1000; i++) {
+            table.add("P" + i);
+            deltas[i] = (i * 37) % 500;
+        }
+        table.addScores(deltas);
+
+        int[] order = table.rankOrder();
+        for (int i = 1; i < order.length; i++) {
+            int previous = table.getScore(order[i - 1]);
+            int current = table.getScore(order[i]);
+            assertTrue(previous > current || (previous == current && order[i - 1] < order[i]));
+        }
+        int[] top = table.topK(25);
+        for (int i = 0; i < top.length; i++) {
+            assertEquals(order[i], top[i]);
+        }
+        int[] ranks = table.ranks();
+        assertEquals(1, ranks[order[0]]);
+        assertEquals(1000, ranks[order[999]]);
+
+        table.resetScores();
+        assertEquals(0, table.getScore(order[0]));
+        assertArrayEquals(new int[] {0, 1, 2}, table.topK(3));
+    }
+}
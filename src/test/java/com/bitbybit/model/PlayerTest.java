@@ -3,11 +3,16 @@ package com.bitbybit.model;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 public class PlayerTest {
 
     @Test
     void testPlayerCreation() {
-        Player player = new Player("Player1");
+        Player player = new SimplePlayer("Player1");
         assertNotNull(player);
         assertEquals("Player1", player.getName());
         assertEquals(0, player.getScore());
@@ -15,7 +20,7 @@ public class PlayerTest {
 
     @Test
     void testAddScore() {
-        Player player = new Player("Player1");
+        Player player = new SimplePlayer("Player1");
         player.addScore(100);
         assertEquals(100, player.getScore());
         player.addScore(50);
@@ -24,7 +29,7 @@ public class PlayerTest {
 
     @Test
     void testSubtractScore() {
-        Player player = new Player("Player1");
+        Player player = new SimplePlayer("Player1");
         player.addScore(200);
         player.subtractScore(50);
         assertEquals(150, player.getScore());
@@ -34,9 +39,109 @@ public class PlayerTest {
 
     @Test
     void testToString() {
-        Player player = new Player("Player1");
+        Player player = new SimplePlayer("Player1");
         player.addScore(100);
         String expectedToString = "Player1 (Score: 100)";
         assertEquals(expectedToString, player.toString());
     }
+
+    @Test
+    void testConcurrentScoreUpdates() throws InterruptedException {
+        Player player = new SimplePlayer("Player1");
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    player.addScore(2);
+                    player.subtractScore(1);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(40_000, player.getScore());
+    }
+
+    @Test
+    void testConcurrentSubtractNeverGoesBelowZero() throws InterruptedException {
+        Player player = new SimplePlayer("Player1");
+        player.addScore(100);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    player.subtractScore(7);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(0, player.getScore());
+    }
+
+    @Test
+    void testScoreSnapshotOrdersPlayers() {
+        Player alice = new SimplePlayer("Alice");
+        Player bob = new SimplePlayer("Bob");
+        alice.addScore(100);
+        bob.addScore(300);
+
+        ScoreSnapshot snapshot = ScoreSnapshot.of(Arrays.asList(alice, bob));
+        bob.addScore(1000); // later changes do not affect the snapshot
+
+        assertEquals(bob, snapshot.getLeader().getPlayer());
+        assertEquals(300, snapshot.getLeader().getScore());
+        assertEquals(100, snapshot.getEntries().get(1).getScore());
+    }
+
+    @Test
+    void testScoreSnapshotFinishesUnderContinuousWrites() throws InterruptedException {
+        Player alice = new SimplePlayer("Alice");
+        Player bob = new SimplePlayer("Bob");
+        Thread writer = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                alice.addScore(1);
+                bob.addScore(1);
+            }
+        });
+        writer.start();
+        try {
+            for (int i = 0; i < 500; i++) {
+                ScoreSnapshot snapshot = ScoreSnapshot.of(Arrays.asList(alice, bob));
+                int a = snapshot.getEntries().get(0).getPlayer() == alice
+                        ? snapshot.getEntries().get(0).getScore() : snapshot.getEntries().get(1).getScore();
+                int b = snapshot.getLeader().getScore() + snapshot.getEntries().get(1).getScore() - a;
+                assertTrue(a - b == 0 || a - b == 1, "inconsistent snapshot: " + a + " vs " + b);
+            }
+        } finally {
+            writer.interrupt();
+            writer.join();
+        }
+    }
+
+    @Test
+    void testFrozenScoreOnlyHoldsBackItsOwnPlayer() throws InterruptedException {
+        Player alice = new SimplePlayer("Alice");
+        Player bob = new SimplePlayer("Bob");
+        alice.freezeScore();
+        Thread writer = new Thread(() -> alice.addScore(100));
+        writer.start();
+        bob.addScore(50);
+        assertEquals(50, bob.getScore());
+        writer.join(50);
+        assertEquals(0, alice.getScore());
+
+        alice.thawScore();
+        writer.join();
+        assertEquals(100, alice.getScore());
+    }
+
+    @Test
+    void testDefaultNames() {
+        assertEquals("Player 3", Player.defaultName(3));
+        assertTrue(Player.isDefaultName(Player.defaultName(12)));
+        assertFalse(Player.isDefaultName("Player"));
+        assertFalse(Player.isDefaultName("Player One"));
+        assertFalse(Player.isDefaultName("Alice"));
+    }
 }
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.function.ToLongFunction;
 
 public class QuestionBoardTest {
 
@@ -39,10 +41,25 @@ public class QuestionBoardTest {
 
     @Test
     void testMarkQuestionAsAnswered() {
-        assertFalse(q1.isAnswered());
+        assertFalse(questionBoard.isAnswered(q1));
         questionBoard.markQuestionAsAnswered("Category1", 100);
-        assertTrue(q1.isAnswered());
-        assertFalse(q2.isAnswered()); // Other questions should remain unanswered
+        assertTrue(questionBoard.isAnswered(q1));
+        assertFalse(questionBoard.isAnswered(q2)); // Other questions should remain unanswered
+    }
+
+    @Test
+    void testBoardsShareBankWithoutSharingAnswers() {
+        QuestionBank bank = new QuestionBank(Arrays.asList(q1, q2, q3));
+        QuestionBoard game1 = new QuestionBoard(bank);
+        QuestionBoard game2 = new QuestionBoard(bank);
+
+        game1.markQuestionAsAnswered("Category1", 100);
+
+        assertTrue(game1.isAnswered(q1));
+        assertFalse(game2.isAnswered(q1));
+        assertEquals(q1, game2.getQuestion("Category1", 100));
+        assertEquals(q2, game1.getQuestion("Category1", 200));
+        assertSame(bank, game2.getBank());
     }
 
     @Test
@@ -78,4 +95,151 @@ public class QuestionBoardTest {
         assertTrue(categories.contains("Category1"));
         assertTrue(categories.contains("Category2"));
     }
+
+    @Test
+    void testLookupIgnoresCaseAndSpacing() {
+        assertEquals(q1, questionBoard.getQuestion("  category 1 ", 100));
+        assertEquals(Arrays.asList(100, 200), questionBoard.getAvailableValues("CATEGORY1"));
+    }
+
+    @Test
+    void testDuplicateValuesServedInBoardOrder() {
+        Question first = new Question("D1", "Dup", 100, "First", "A", "B", "C", "D", "A");
+        Question second = new Question("D2", "Dup", 100, "Second", "A", "B", "C", "D", "A");
+        QuestionBoard board = new QuestionBoard(Arrays.asList(first, second));
+
+        assertEquals(Arrays.asList(100, 100), board.getAvailableValues("Dup"));
+        assertEquals(first, board.getQuestion("Dup", 100));
+        board.markQuestionAsAnswered("Dup", 100);
+        assertEquals(second, board.getQuestion("Dup", 100));
+        board.markQuestionAsAnswered("Dup", 100);
+        assertNull(board.getQuestion("Dup", 100));
+        assertTrue(board.isBoardEmpty());
+    }
+
+    @Test
+    void testRemainingCountsTrackAnswers() {
+        CategoryKey category1 = CategoryKey.of("Category1");
+        assertEquals(3, questionBoard.getRemainingCount());
+        assertEquals(2, questionBoard.getRemainingCount(category1));
+        assertEquals(2, questionBoard.getQuestionCount(category1));
+
+        questionBoard.markQuestionAsAnswered("Category1", 100);
+        questionBoard.markQuestionAsAnswered("Category1", 100); // already answered, no change
+        assertEquals(1, questionBoard.getRemainingCount(category1));
+        assertEquals(1, questionBoard.getAnsweredCount());
+
+        questionBoard.markQuestionAsAnswered("Category1", 200);
+        assertFalse(questionBoard.hasAvailableQuestions("Category1"));
+        assertTrue(questionBoard.hasAvailableQuestions("Category2"));
+        assertEquals(0, questionBoard.getRemainingCount(CategoryKey.of("NonExistentCategory")));
+    }
+
+    @Test
+    void testSnapshotCachedUntilBoardChanges() {
+        BoardSnapshot first = questionBoard.getSnapshot();
+        assertSame(first, questionBoard.getSnapshot());
+        assertTrue(first.getText().contains("- Category1 (Values: 100, 200)"));
+
+        long version = questionBoard.getVersion();
+        questionBoard.markQuestionAsAnswered("Category1", 100);
+        assertEquals(version + 1, questionBoard.getVersion());
+
+        BoardSnapshot second = questionBoard.getSnapshot();
+        assertNotSame(first, second);
+        assertEquals(1, second.getValueCount(0));
+        assertEquals(200, second.getValue(0, 0));
+        assertTrue(second.getText().contains("- Category1 (Values: 200)"));
+        assertTrue(first.getText().contains("- Category1 (Values: 100, 200)")); // old snapshot unchanged
+
+        questionBoard.markQuestionAsAnswered("Category1", 100); // nothing left to mark
+        assertSame(second, questionBoard.getSnapshot());
+    }
+
+    @Test
+    void testPrimitiveValueViews() {
+        CategoryKey category1 = CategoryKey.of("Category1");
+        assertArrayEquals(new int[] {100, 200}, questionBoard.getAvailableValueArray("Category1"));
+        assertArrayEquals(new int[0], questionBoard.getAvailableValueArray("NonExistentCategory"));
+
+        int[] buffer = new int[questionBoard.getQuestionCount(category1)];
+        questionBoard.markQuestionAsAnswered(category1, 100);
+        assertEquals(1, questionBoard.copyAvailableValues(category1, buffer));
+        assertEquals(200, buffer[0]);
+        assertFalse(questionBoard.isValueAvailable(category1, 100));
+        assertTrue(questionBoard.isValueAvailable(category1, 200));
+    }
+
+    @Test
+    void testSamplerDrawsByWeight() {
+        QuestionSampler sampler = questionBoard.newSampler(Question::getValue);
+        assertEquals(400, sampler.getTotalWeight());
+
+        Random random = new Random(7);
+        int q2Draws = 0;
+        for (int i = 0; i < 4000; i++) {
+            if (sampler.draw(random) == q2) {
+                q2Draws++;
+            }
+        }
+        // q2 carries half of the total weight
+        assertTrue(q2Draws > 1800 && q2Draws < 2200, "q2 drawn " + q2Draws + " times");
+    }
+
+    @Test
+    void testSamplerSkipsAnsweredQuestions() {
+        questionBoard.markQuestionAsAnswered("Category1", 100);
+        QuestionSampler sampler = questionBoard.newSampler(q -> 1);
+        assertEquals(2, sampler.getTotalWeight());
+        assertEquals(0, sampler.getWeight(q1));
+
+        questionBoard.markQuestionAsAnswered(q3);
+        assertTrue(questionBoard.isAnswered(q3));
+        assertEquals(1, sampler.getTotalWeight());
+        Random random = new Random(7);
+        for (int i = 0; i < 100; i++) {
+            assertSame(q2, sampler.draw(random));
+        }
+
+        questionBoard.markQuestionAsAnswered(q2);
+        assertNull(sampler.draw(random));
+        assertTrue(questionBoard.isBoardEmpty());
+    }
+
+    @Test
+    void testResetMakesEveryQuestionAvailableAgain() {
+        QuestionSampler sampler = questionBoard.newSampler(q -> 1);
+        questionBoard.markQuestionAsAnswered(q1);
+        questionBoard.markQuestionAsAnswered(q2);
+        questionBoard.markQuestionAsAnswered(q3);
+        assertTrue(questionBoard.isBoardEmpty());
+        long version = questionBoard.getVersion();
+
+        questionBoard.reset();
+        assertFalse(questionBoard.isBoardEmpty());
+        assertFalse(questionBoard.isAnswered(q1));
+        assertTrue(questionBoard.getVersion() > version);
+        assertEquals(3, sampler.getTotalWeight());
+        assertNotNull(questionBoard.getQuestion("Category1", 100));
+    }
+
+    @Test
+    void testSamplersAreRemovable() {
+        ToLongFunction<Question> weight = q -> 1;
+        QuestionSampler sampler = questionBoard.newSampler(weight);
+        QuestionSampler other = questionBoard.newSampler(weight);
+        assertNotSame(sampler, other);
+        assertEquals(2, questionBoard.getSamplerCount());
+
+        assertTrue(questionBoard.removeSampler(sampler));
+        assertFalse(questionBoard.removeSampler(sampler));
+        assertEquals(1, questionBoard.getSamplerCount());
+        assertTrue(questionBoard.removeSampler(other));
+        assertEquals(0, questionBoard.getSamplerCount());
+    }
+
+    @Test
+    void testSamplerRejectsNegativeWeights() {
+        assertThrows(IllegalArgumentException.class, () -> questionBoard.newSampler(q -> -1));
+    }
 }
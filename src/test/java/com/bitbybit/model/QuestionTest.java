@@ -3,6 +3,8 @@ package com.bitbybit.model;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+
 public class QuestionTest {
 
     @Test
@@ -18,15 +20,18 @@ public class QuestionTest {
         assertEquals("C", question.getOptionC());
         assertEquals("D", question.getOptionD());
         assertEquals("A", question.getCorrectAnswer());
-        assertFalse(question.isAnswered());
+        assertFalse(question.hasMedia());
     }
 
     @Test
-    void testMarkAnswered() {
-        Question question = new Question("Q1", "Category1", 100, "Question Text", "A", "B", "C", "D", "A");
-        question.markAnswered(true);
-        assertTrue(question.isAnswered());
-        question.markAnswered(false);
-        assertFalse(question.isAnswered());
+    void testTagsAndDifficulty() {
+        Question question = new Question("Q1", "Category1", 100, "Question Text", "A", "B", "C", "D", "A",
+                null, Arrays.asList(" History ", "history", "", "Europe"), 3);
+        assertEquals(2, question.getTags().size());
+        assertTrue(question.hasTag("HISTORY"));
+        assertTrue(question.hasTag("europe"));
+        assertFalse(question.hasTag("asia"));
+        assertEquals(3, question.getDifficulty());
+        assertEquals(Question.UNRATED, new Question("Q2", "C", 100, "T", "A", "B", "C", "D", "A").getDifficulty());
     }
 }
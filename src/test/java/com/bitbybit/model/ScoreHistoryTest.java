@@ -0,0 +1,68 @@
+package com.bitbybit.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScoreHistoryTest {
+
+    @Test
+    void testRecordsAndDecodesDeltas() {
+        ScoreHistory history = new ScoreHistory();
+        Player alice = new SimplePlayer("Alice");
+        int[] scores = {0, 200, -300, 1_000_000, 999_500, Integer.MIN_VALUE, 0};
+        for (int turn = 0; turn < scores.length; turn++) {
+            history.record(alice, turn * 3, scores[turn]);
+        }
+        ScoreHistory.Series series = history.get(alice);
+        assertEquals(scores.length, series.size());
+        assertEquals(18, series.getLastTurn());
+
+        ScoreHistory.Cursor cursor = series.cursor();
+        for (int turn = 0; turn < scores.length; turn++) {
+            assertTrue(cursor.next());
+            assertEquals(turn * 3, cursor.getTurn());
+            assertEquals(scores[turn], cursor.getScore());
+        }
+        assertFalse(cursor.next());
+        assertNull(history.get(new SimplePlayer("Bob")));
+        assertThrows(IllegalArgumentException.class, () -> history.record(alice, 17, 0));
+    }
+
+    @Test
+    void testThousandsOfTurnsStayCompact() {
+        ScoreHistory.Series series = new ScoreHistory.Series();
+        int score = 0;
+        for (int turn = 1; turn <= 5000; turn++) {
+            score += (turn % 7 < 4 ? 1 : -1) * (turn % 5 + 1) * 100;
+            series.append(turn, score);
+        }
+        // one byte per turn delta and at most two per score delta
+        assertTrue(series.getEncodedSize() <= 15000, "encoded size " + series.getEncodedSize());
+        assertEquals(score, series.getLastScore());
+    }
+
+    @Test
+    void testDownsampleKeepsEndsAndPeaks() {
+        ScoreHistory.Series series = new ScoreHistory.Series();
+        for (int turn = 0; turn <= 1000; turn++) {
+            series.append(turn, turn == 500 ? 10_000 : turn);
+        }
+        ScoreHistory.Series sampled = series.downsample(50);
+        assertEquals(50, sampled.size());
+
+        ScoreHistory.Cursor cursor = sampled.cursor();
+        boolean peak = false;
+        int previousTurn = -1;
+        int lastTurn = -1;
+        while (cursor.next()) {
+            assertTrue(cursor.getTurn() > previousTurn);
+            previousTurn = cursor.getTurn();
+            peak |= cursor.getScore() == 10_000;
+            lastTurn = cursor.getTurn();
+        }
+        assertTrue(peak);
+        assertEquals(1000, lastTurn);
+        assertEquals(3, series.downsample(3).size());
+        assertEquals(1001, series.downsample(5000).size());
+    }
+}
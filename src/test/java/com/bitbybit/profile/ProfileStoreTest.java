@@ -0,0 +1,112 @@
+package com.bitbybit.profile;
+
+import com.bitbybit.logging.GameFinishedEvent;
+import com.bitbybit.logging.QuestionAnsweredEvent;
+import com.bitbybit.model.Player;
+import com.bitbybit.model.Question;
+import com.bitbybit.model.ScoreSnapshot;
+import com.bitbybit.model.SimplePlayer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class ProfileStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testRecordsGamesAndReopens() throws IOException {
+        try (ProfileStore store = ProfileStore.open(dir)) {
+            store.recordGame("Alice", 600, true, 5, 4, 1000L);
+            store.recordGame("Bob", 200, false, 5, 2, 1000L);
+            PlayerProfile alice = store.recordGame("Alice", -100, false, 3, 1, 2000L);
+            assertEquals(2, alice.getGamesPlayed());
+            assertEquals(1, alice.getGamesWon());
+            assertEquals(500, alice.getTotalScore());
+            assertEquals(600, alice.getBestScore());
+        }
+        try (ProfileStore store = ProfileStore.open(dir)) {
+            assertEquals(2, store.size());
+            PlayerProfile alice = store.getProfile("Alice");
+            assertEquals(500, alice.getTotalScore());
+            assertEquals(8, alice.getQuestionsAnswered());
+            assertEquals(5, alice.getCorrectAnswers());
+            assertEquals(2000L, alice.getLastPlayed());
+            assertNull(store.getProfile("Carol"));
+        }
+    }
+
+    @Test
+    void testLeaderboardTopK() throws IOException {
+        try (ProfileStore store = ProfileStore.open(dir)) {
+            for (int i = 0; i < 100; i++) {
+                store.recordGame("Player " + i, i * 10, false, 0, 0, 0L);
+            }
+            store.recordGame("Player 3", 5000, true, 0, 0, 0L);
+            List<PlayerProfile> top = store.topK(3);
+            assertEquals("Player 3", top.get(0).getName());
+            assertEquals("Player 99", top.get(1).getName());
+            assertEquals("Player 98", top.get(2).getName());
+            assertEquals(100, store.topK(500).size());
+
+            long before = store.getLogLength();
+            store.compact();
+            assertTrue(store.getLogLength() < before);
+            assertEquals(5030, store.getProfile("Player 3").getTotalScore());
+        }
+        try (ProfileStore store = ProfileStore.open(dir)) {
+            assertEquals("Player 3", store.topK(1).get(0).getName());
+        }
+    }
+
+    @Test
+    void testReplaysLogTailAndDropsTornRecord() throws IOException {
+        ProfileStore store = ProfileStore.open(dir);
+        store.recordGame("Alice", 100, true, 1, 1, 0L);
+        store.checkpoint();
+        store.recordGame("Bob", 300, true, 1, 1, 0L);
+        long length = store.getLogLength();
+        // simulate a crash while appending: no checkpoint, half a record at the end
+        Files.write(dir.resolve("profiles.log"), new byte[] {0, 0, 0, 40, 1, 2, 3},
+                StandardOpenOption.APPEND);
+
+        try (ProfileStore reopened = ProfileStore.open(dir)) {
+            assertEquals(length, reopened.getLogLength());
+            assertEquals("Bob", reopened.topK(1).get(0).getName());
+            assertEquals(100, reopened.getProfile("Alice").getTotalScore());
+        }
+    }
+
+    @Test
+    void testRecorderAddsFinishedGames() throws IOException {
+        Player alice = new SimplePlayer("Alice");
+        Player bob = new SimplePlayer("Bob");
+        Player guest = new SimplePlayer(Player.defaultName(3));
+        Question question = new Question("1", "Science", 200, "What is H2O?", "Water", "Salt", "Air", "Fire", "Water");
+        try (ProfileStore store = ProfileStore.open(dir)) {
+            ProfileRecorder recorder = new ProfileRecorder(store);
+            recorder.onEvent(new GameFinishedEvent());
+            assertEquals(0, store.size());
+            alice.addScore(200);
+            recorder.onEvent(new QuestionAnsweredEvent(alice, question, true, "Water", 200, 200));
+            recorder.onEvent(new QuestionAnsweredEvent(bob, question, false, "Salt", 0, 0));
+            recorder.onEvent(new GameFinishedEvent(ScoreSnapshot.of(List.of(alice, bob, guest))));
+            assertEquals(2, store.size());
+
+            PlayerProfile a = store.getProfile("Alice");
+            assertEquals(1, a.getGamesWon());
+            assertEquals(1, a.getCorrectAnswers());
+            PlayerProfile b = store.getProfile("Bob");
+            assertEquals(0, b.getGamesWon());
+            assertEquals(1, b.getQuestionsAnswered());
+            assertEquals(0, b.getCorrectAnswers());
+        }
+    }
+}
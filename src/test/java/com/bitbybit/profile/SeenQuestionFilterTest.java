@@ -0,0 +1,83 @@
+package com.bitbybit.profile;
+
+import com.bitbybit.logging.GameFinishedEvent;
+import com.bitbybit.logging.QuestionAnsweredEvent;
+import com.bitbybit.model.Player;
+import com.bitbybit.model.Question;
+import com.bitbybit.model.SimplePlayer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class SeenQuestionFilterTest {
+
+    private static Question question(int i) {
+        return new Question("Q" + i, "Category" + (i % 7), 100, "Question text " + i, "A", "B", "C", "D", "A");
+    }
+
+    @Test
+    void testNoFalseNegativesAndBoundedFalsePositives() {
+        SeenQuestionFilter filter = new SeenQuestionFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put(question(i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain(question(i)));
+        }
+        int falsePositives = 0;
+        for (int i = 1000; i < 11000; i++) {
+            if (filter.mightContain(question(i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+        assertEquals(7, filter.getHashCount());
+        assertEquals(1000, filter.getInsertionCount());
+    }
+
+    @Test
+    void testContentHashIgnoresIdAndCategoryFormatting() {
+        Question a = new Question("1", "World History", 100, "Who?", "A", "B", "C", "D", "A");
+        Question b = new Question("99", "world  history", 400, "Who?", "A", "B", "C", "D", "B");
+        Question c = new Question("1", "World History", 100, "Who else?", "A", "B", "C", "D", "A");
+        assertEquals(a.getContentHash(), b.getContentHash());
+        assertNotEquals(a.getContentHash(), c.getContentHash());
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        SeenQuestionFilter filter = new SeenQuestionFilter(100, 0.05);
+        filter.put(question(1));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        filter.writeTo(out);
+
+        SeenQuestionFilter read = SeenQuestionFilter.readFrom(new ByteArrayInputStream(out.toByteArray()));
+        assertTrue(read.mightContain(question(1)));
+        assertEquals(filter.getBitCount(), read.getBitCount());
+        assertEquals(1, read.getInsertionCount());
+        assertThrows(IOException.class, () -> SeenQuestionFilter.readFrom(new ByteArrayInputStream(new byte[8])));
+    }
+
+    @Test
+    void testRecorderPersistsPerPlayer(@TempDir Path dir) throws IOException {
+        SeenQuestionRecorder recorder = new SeenQuestionRecorder(new SeenQuestionStore(dir, 100, 0.01));
+        recorder.onEvent(new QuestionAnsweredEvent(new SimplePlayer("Ann"), question(1), true, "A", 100, 100));
+        recorder.onEvent(new QuestionAnsweredEvent(new SimplePlayer("Bob/2"), question(2), false, "B", -100, -100));
+        recorder.onEvent(new GameFinishedEvent());
+
+        try (var files = Files.list(dir)) {
+            assertEquals(2, files.count());
+        }
+        SeenQuestionStore reloaded = new SeenQuestionStore(dir, 100, 0.01);
+        assertTrue(reloaded.get("Ann").mightContain(question(1)));
+        assertFalse(reloaded.get("Ann").mightContain(question(2)));
+        assertTrue(reloaded.get("Bob/2").mightContain(question(2)));
+        assertNotEquals(reloaded.fileFor("ann"), reloaded.fileFor("Ann"));
+    }
+}
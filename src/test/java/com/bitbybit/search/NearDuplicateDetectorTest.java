@@ -0,0 +1,80 @@
+package com.bitbybit.search;
+
+import com.bitbybit.model.Question;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+public class NearDuplicateDetectorTest {
+
+    private static Question question(String id, String text, String a, String b, String c, String d) {
+        return new Question(id, "Science", 100, text, a, b, c, d, a);
+    }
+
+    @Test
+    void testFindsRewordedDuplicates() {
+        List<Question> questions = new ArrayList<>();
+        questions.add(question("A1", "Which planet in our solar system is closest to the Sun?", "Mercury", "Venus", "Earth", "Mars"));
+        questions.add(question("B1", "Which planet in the solar system is closest to the Sun?", "Mercury", "Venus", "Earth", "Mars"));
+        questions.add(question("C1", "Which planet in our solar system is closest to our Sun?", "Mercury", "Venus", "Earth", "Mars"));
+        questions.add(question("A2", "What is the chemical formula of water?", "H2O", "CO2", "NaCl", "O2"));
+        questions.add(question("A3", "Who wrote the play Hamlet?", "Shakespeare", "Marlowe", "Jonson", "Kyd"));
+        for (int i = 0; i < 200; i++) {
+            questions.add(question("F" + i, "Filler question number " + i + " about topic " + (i * 7919),
+                    "opt" + i, "alt" + (i * 31), "other" + (i * 17), "none" + (i * 13)));
+        }
+
+        DuplicateReport report = new NearDuplicateDetector().detect(questions.toArray(new Question[0]));
+
+        assertEquals(205, report.getScannedCount());
+        assertEquals(1, report.getClusters().size());
+        List<Question> cluster = report.getClusters().get(0);
+        assertEquals(3, cluster.size());
+        assertEquals("A1", cluster.get(0).getId());
+        assertEquals(2, report.getDuplicateCount());
+    }
+
+    @Test
+    void testIgnoresNullsAndEmptyText() {
+        Question[] questions = {
+                null,
+                question("E1", "", "", "", "", ""),
+                question("E2", "", "", "", "", ""),
+                question("Q1", "Who wrote Hamlet?", "Shakespeare", "Marlowe", "Jonson", "Kyd")
+        };
+        DuplicateReport report = new NearDuplicateDetector().detect(questions);
+        assertTrue(report.getClusters().isEmpty());
+    }
+
+    @Test
+    void testSignatureSimilarity() {
+        NearDuplicateDetector detector = new NearDuplicateDetector(32, 4, 0.5);
+        Question a = question("1", "alpha beta gamma delta epsilon zeta eta theta", "x", "y", "z", "w");
+        Question b = question("2", "alpha beta gamma delta epsilon zeta eta theta", "x", "y", "z", "w");
+        Question c = question("3", "one two three four five six seven eight", "p", "q", "r", "s");
+        assertEquals(1.0, NearDuplicateDetector.similarity(detector.signature(a), detector.signature(b)));
+        assertTrue(NearDuplicateDetector.similarity(detector.signature(a), detector.signature(c)) < 0.2);
+    }
+
+    @Test
+    void testReportText() throws IOException {
+        Question[] questions = {
+                question("1", "Who wrote the play Hamlet?", "Shakespeare", "Marlowe", "Jonson", "Kyd"),
+                question("2", "Who wrote the play Hamlet ?", "Shakespeare", "Marlowe", "Jonson", "Kyd")
+        };
+        StringWriter out = new StringWriter();
+        new NearDuplicateDetector().detect(questions).writeTo(out);
+        assertTrue(out.toString().contains("Cluster 1 (2 questions):"));
+        assertTrue(out.toString().contains("[2] Science / 100: Who wrote the play Hamlet ?"));
+    }
+
+    @Test
+    void testRejectsBadParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateDetector(0, 4, 0.8));
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateDetector(16, 4, 1.5));
+    }
+}
@@ -0,0 +1,101 @@
+package com.bitbybit.search;
+
+import com.bitbybit.model.Question;
+import com.bitbybit.model.QuestionBank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class QuestionIndexTest {
+
+    private QuestionBank bank;
+    private QuestionIndex index;
+    private Question water, planet, war, star;
+
+    @BeforeEach
+    void setUp() {
+        water = new Question("1", "Science", 100, "What is H2O?", "Hydrogen", "Water", "Oxygen", "Salt", "Water");
+        planet = new Question("2", "Science", 200, "Which planet is closest to the Sun?", "Mercury", "Venus", "Earth", "Mars", "Mercury");
+        war = new Question("3", "History", 100, "When did WWII end?", "1945", "1946", "1944", "1943", "1945");
+        star = new Question("4", "Science", 300, "Which star is the Sun?", "Sirius", "Sol", "Vega", "Polaris", "Sol");
+        bank = new QuestionBank(Arrays.asList(water, planet, war, star));
+        index = QuestionIndex.build(bank);
+    }
+
+    @Test
+    void testTokenizer() {
+        assertEquals(Arrays.asList("what", "is", "h2o"), Tokenizer.tokenize("What is H2O?"));
+        assertTrue(Tokenizer.tokenize("  --  ").isEmpty());
+        assertTrue(Tokenizer.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void testTermQueries() {
+        assertArrayEquals(new int[] {0}, index.findTerm("h2o"));
+        assertArrayEquals(new int[] {1, 3}, index.findTerm("SUN"));
+        assertArrayEquals(new int[] {2}, index.findTerm("1945")); // options are indexed too
+        assertArrayEquals(new int[0], index.findTerm("pluto"));
+    }
+
+    @Test
+    void testBooleanQueries() {
+        assertArrayEquals(new int[] {1}, index.findAll("planet", "sun"));
+        assertArrayEquals(new int[0], index.findAll("planet", "pluto"));
+        assertArrayEquals(new int[] {0, 2}, index.findAny("water", "wwii", "pluto"));
+        assertArrayEquals(new int[] {0, 1, 2, 3}, index.findPrefix("w"));
+        assertArrayEquals(new int[] {0}, index.findPrefix("Wat"));
+
+        assertEquals(Arrays.asList(planet, war), index.search("planet sun OR wwii"));
+        assertEquals(Arrays.asList(star), index.search("sirius sol"));
+        assertEquals(Arrays.asList(water, war), index.search("hydro* OR 194*"));
+    }
+
+    @Test
+    void testSearchIgnoresWordsWithoutTerms() {
+        assertEquals(index.search("planet sun"), index.search("planet - sun"));
+        assertEquals(Arrays.asList(planet), index.search("planet ? sun"));
+        assertEquals(Arrays.asList(war), index.search("wwii * OR -"));
+        assertTrue(index.search("- ?").isEmpty());
+    }
+
+    @Test
+    void testIntersectGallops() {
+        int[] large = new int[1000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = i * 2;
+        }
+        assertArrayEquals(new int[] {4, 1998}, QuestionIndex.intersect(new int[] {3, 4, 1998, 2001}, large));
+    }
+
+    @Test
+    void testWriteAndReadBack() throws IOException {
+        List<Question> many = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            many.add(new Question("Q" + i, "Cat" + (i % 7), 100, "Question number " + i + " about topic" + (i % 13),
+                    "alpha", "beta" + i, "gamma", "delta", "alpha"));
+        }
+        QuestionBank bigBank = new QuestionBank(many);
+        QuestionIndex built = QuestionIndex.build(bigBank);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        built.writeTo(out);
+        QuestionIndex loaded = QuestionIndex.readFrom(new ByteArrayInputStream(out.toByteArray()), bigBank);
+
+        assertEquals(built.getTermCount(), loaded.getTermCount());
+        assertArrayEquals(built.findTerm("topic5"), loaded.findTerm("topic5"));
+        assertArrayEquals(built.findPrefix("beta4"), loaded.findPrefix("beta4"));
+        assertEquals(500, loaded.findTerm("alpha").length);
+
+        assertThrows(IOException.class,
+                () -> QuestionIndex.readFrom(new ByteArrayInputStream(out.toByteArray()), bank));
+        assertThrows(IOException.class,
+                () -> QuestionIndex.readFrom(new ByteArrayInputStream(new byte[] {1, 2, 3, 4}), bigBank));
+    }
+}